@@ -0,0 +1,639 @@
+package structures.commons;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Abstract class for FIFO queues that threads can wait on, either
+ * for a value to arrive or, if the queue has a capacity bound, for
+ * room to insert one. It uses the two lock design: producers take
+ * the put lock to append at the tail, consumers take the take lock
+ * to remove from the head, and the number of values is an atomic
+ * counter that both sides read without the other side's lock. So a
+ * producer and a consumer never wait on each other unless the queue
+ * is empty or full, and only then does one side briefly take the
+ * other side's lock to wake up its waiters.
+ *
+ * <p>
+ * Waiting uses {@code ReentrantLock} and {@code Condition} rather
+ * than {@code synchronized} and {@code wait()}, so that a waiting
+ * virtual thread releases its carrier thread instead of pinning it,
+ * and thousands of waiting consumers cost no platform threads.
+ *
+ * <p>
+ * Subclasses store the values. {@code append()} is only called with
+ * the put lock held, {@code extract()} and {@code first()} only with
+ * the take lock held, and {@code values()} with both.
+ *
+ * @author Jabari Dash
+ * @param <E> Generic type
+ */
+public abstract class BlockingStructure<E> implements DataStructure<E>, Iterable<E> {
+
+    /**
+     * Largest number of values the queue
+     * may hold, or Integer.MAX_VALUE.
+     */
+    protected final int capacity;
+
+    /**
+     * Number of values in the queue.
+     */
+    private final AtomicInteger count = new AtomicInteger();
+
+    /**
+     * Lock held by consumers.
+     */
+    protected final ReentrantLock takeLock = new ReentrantLock();
+
+    /**
+     * Consumers waiting for a value wait on this.
+     */
+    private final Condition notEmpty = takeLock.newCondition();
+
+    /**
+     * Lock held by producers.
+     */
+    protected final ReentrantLock putLock = new ReentrantLock();
+
+    /**
+     * Producers waiting for room wait on this.
+     */
+    private final Condition notFull = putLock.newCondition();
+
+    /**
+     * Constructs empty queue that holds at most
+     * a specified number of values.
+     *
+     * @param capacity Largest number of values.
+     */
+    protected BlockingStructure(int capacity) {
+
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, not " + capacity);
+        }
+
+        this.capacity = capacity;
+    }
+
+    /**
+     * Constructs unbounded queue from an array of values.
+     *
+     * @param values Array of values to insert.
+     */
+    protected BlockingStructure(E[] values) {
+        this(Integer.MAX_VALUE);
+        insert(values);
+    }
+
+    /**
+     * Constructs unbounded queue from a collection of values.
+     *
+     * @param values Collection of values to insert.
+     */
+    protected BlockingStructure(Collection<E> values) {
+        this(Integer.MAX_VALUE);
+        insert(values);
+    }
+
+    /**
+     * Stores a value at the back of the queue.
+     * Called with the put lock held, and only
+     * when the queue is below its capacity.
+     *
+     * @param value Value to store
+     */
+    protected abstract void append(E value);
+
+    /**
+     * Determines whether or not this queue is equal to
+     * a provided object.
+     *
+     * @param object Object to compare this queue with.
+     * @return True if and only if their types are the same,
+     * lengths are the same, and the contain all the same elements.
+     */
+    @Override
+    public boolean equals(Object object) {
+        return equivalentTo(object);
+    }
+
+    /**
+     * Removes and returns the value at the front of the
+     * queue. Called with the take lock held, and only
+     * when the queue is not empty.
+     *
+     * @return Value at the front
+     */
+    protected abstract E extract();
+
+    /**
+     * Returns the value at the front of the queue.
+     * Called with the take lock held, and only when
+     * the queue is not empty.
+     *
+     * @return Value at the front
+     */
+    protected abstract E first();
+
+    /**
+     * Takes both locks, so that nothing
+     * moves while the queue is inspected.
+     */
+    protected void fullyLock() {
+        putLock.lock();
+        takeLock.lock();
+    }
+
+    /**
+     * Releases both locks.
+     */
+    protected void fullyUnlock() {
+        takeLock.unlock();
+        putLock.unlock();
+    }
+
+    /**
+     * Inserts a value at the back of the queue,
+     * unless the queue is full.
+     *
+     * @param value Value to insert.
+     * @return True if and only if the value was inserted.
+     */
+    @Override
+    public boolean insert(E value) {
+        return offer(value);
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the values
+     * taken when the iterator is created. Changes made
+     * to the queue afterwards do not affect it.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(n)
+     *
+     * @return Iterator object.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<E> iterator() {
+        return Arrays.asList((E[]) snapshot()).iterator();
+    }
+
+    /**
+     * Inserts a value at the back of the queue
+     * if it is not full, without waiting.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param value Value to insert.
+     * @return True if and only if the value was inserted.
+     */
+    public boolean offer(E value) {
+        verifyValue(value);
+
+        // Skip the lock if the queue is clearly full
+        if (count.get() == capacity) {
+            return false;
+        }
+
+        int c = -1;
+
+        putLock.lock();
+
+        try {
+            if (count.get() < capacity) {
+                c = enqueue(value);
+            }
+
+        } finally {
+            putLock.unlock();
+        }
+
+        if (c == 0) {
+            signalNotEmpty();
+        }
+
+        return c >= 0;
+    }
+
+    /**
+     * Inserts a value at the back of the queue, waiting up
+     * to a specified time for room if the queue is full.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param value Value to insert.
+     * @param timeout How long to wait, in units of unit.
+     * @param unit Unit of the timeout.
+     * @return True if the value was inserted, false if time ran out.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    public boolean offer(E value, long timeout, TimeUnit unit) throws InterruptedException {
+        verifyValue(value);
+
+        long nanos = unit.toNanos(timeout);
+        int  c;
+
+        putLock.lockInterruptibly();
+
+        try {
+            while (count.get() == capacity) {
+
+                if (nanos <= 0) {
+                    return false;
+                }
+
+                nanos = notFull.awaitNanos(nanos);
+            }
+
+            c = enqueue(value);
+
+        } finally {
+            putLock.unlock();
+        }
+
+        if (c == 0) {
+            signalNotEmpty();
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns but does not remove the
+     * value at the front of the queue.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Value at front of queue.
+     */
+    public E peek() {
+        takeLock.lock();
+
+        try {
+            if (count.get() == 0) {
+                throw new EmptyDataStructureException("Cannot peek into an empty queue");
+            }
+
+            return first();
+
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the value at the front of the
+     * queue without waiting, or null if the queue is empty.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Value at front of queue, or null.
+     */
+    public E poll() {
+
+        // Skip the lock if the queue is clearly empty
+        if (count.get() == 0) {
+            return null;
+        }
+
+        E   value = null;
+        int c     = -1;
+
+        takeLock.lock();
+
+        try {
+            if (count.get() > 0) {
+                value = extract();
+                c     = dequeued();
+            }
+
+        } finally {
+            takeLock.unlock();
+        }
+
+        if (c == capacity) {
+            signalNotFull();
+        }
+
+        return value;
+    }
+
+    /**
+     * Removes and returns the value at the front of the queue,
+     * waiting up to a specified time for one if it is empty.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param timeout How long to wait, in units of unit.
+     * @param unit Unit of the timeout.
+     * @return Value at front of queue, or null if time ran out.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        E    value;
+        int  c;
+
+        takeLock.lockInterruptibly();
+
+        try {
+            while (count.get() == 0) {
+
+                if (nanos <= 0) {
+                    return null;
+                }
+
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+
+            value = extract();
+            c     = dequeued();
+
+        } finally {
+            takeLock.unlock();
+        }
+
+        if (c == capacity) {
+            signalNotFull();
+        }
+
+        return value;
+    }
+
+    /**
+     * Inserts a value at the back of the queue,
+     * waiting for room if the queue is full.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param value Value to insert.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    public void put(E value) throws InterruptedException {
+        verifyValue(value);
+
+        int c;
+
+        putLock.lockInterruptibly();
+
+        try {
+            while (count.get() == capacity) {
+                notFull.await();
+            }
+
+            c = enqueue(value);
+
+        } finally {
+            putLock.unlock();
+        }
+
+        if (c == 0) {
+            signalNotEmpty();
+        }
+    }
+
+    /**
+     * Returns the number of values that can still be
+     * inserted without waiting, or Integer.MAX_VALUE
+     * minus the size if the queue is unbounded.
+     *
+     * @return Remaining capacity.
+     */
+    public int remainingCapacity() {
+        return capacity - count.get();
+    }
+
+    /**
+     * Removes and returns the value at the front of the queue
+     * without waiting.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Value at front of queue.
+     */
+    public E remove() {
+        E value = poll();
+
+        if (value == null) {
+            throw new EmptyDataStructureException("Cannot dequeue from an empty queue");
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the number of values in the queue.
+     *
+     * @return Number of values in the queue.
+     */
+    @Override
+    public int size() {
+        return count.get();
+    }
+
+    /**
+     * Removes and returns the value at the front of
+     * the queue, waiting for one if it is empty.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Value at front of queue.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    public E take() throws InterruptedException {
+        E   value;
+        int c;
+
+        takeLock.lockInterruptibly();
+
+        try {
+            while (count.get() == 0) {
+                notEmpty.await();
+            }
+
+            value = extract();
+            c     = dequeued();
+
+        } finally {
+            takeLock.unlock();
+        }
+
+        if (c == capacity) {
+            signalNotFull();
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns a spliterator over a snapshot of the values,
+     * so that its size matches the values it returns even
+     * while other threads use the queue.
+     *
+     * @return Spliterator over the values.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(snapshot(), Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns an array with the values of the queue in
+     * order, taken from a single snapshot of the queue.
+     *
+     * @param array Array whose type the returned array has.
+     * @return Array of the values.
+     */
+    @SuppressWarnings("unchecked")
+    public E[] toArray(E[] array) {
+        Object[] snapshot = snapshot();
+
+        try {
+            return (E[]) Arrays.copyOf(snapshot, snapshot.length, array.getClass());
+
+        } catch (ArrayStoreException exception) {
+            throw new IllegalArgumentException("Array type " + array.getClass().getSimpleName() + " is invalid");
+        }
+    }
+
+    /**
+     * Returns String representation
+     * of the queue.
+     *
+     * @return String representation.
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(snapshot());
+    }
+
+    /**
+     * Returns the values of the queue in order.
+     * Called with both locks held.
+     *
+     * @return Array of the values.
+     */
+    protected abstract Object[] values();
+
+//------------------------------------------------------------------------------
+
+    /**
+     * Appends a value and counts it, waking up another
+     * producer if there is still room after it. Called
+     * with the put lock held.
+     *
+     * @param value Value to append
+     * @return Number of values before the append.
+     */
+    private int enqueue(E value) {
+        append(value);
+
+        int c = count.getAndIncrement();
+
+        if (c + 1 < capacity) {
+            notFull.signal();
+        }
+
+        return c;
+    }
+
+    /**
+     * Counts a removed value, waking up another consumer
+     * if there are values left. Called with the take lock held.
+     *
+     * @return Number of values before the removal.
+     */
+    private int dequeued() {
+        int c = count.getAndDecrement();
+
+        if (c > 1) {
+            notEmpty.signal();
+        }
+
+        return c;
+    }
+
+    /**
+     * Returns the values of the queue in order,
+     * taken while nothing can move.
+     *
+     * @return Array of the values.
+     */
+    private Object[] snapshot() {
+        fullyLock();
+
+        try {
+            return values();
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    /**
+     * Wakes up a waiting consumer. Called by producers
+     * after making the queue non-empty.
+     */
+    private void signalNotEmpty() {
+        takeLock.lock();
+
+        try {
+            notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    /**
+     * Wakes up a waiting producer. Called by
+     * consumers after making the queue non-full.
+     */
+    private void signalNotFull() {
+        putLock.lock();
+
+        try {
+            notFull.signal();
+        } finally {
+            putLock.unlock();
+        }
+    }
+
+    /**
+     * Checks that a value may be inserted.
+     *
+     * @param value Value to insert.
+     * @throws IllegalArgumentException If the value is null.
+     */
+    private static void verifyValue(Object value) {
+
+        if (value == null) {
+            throw new IllegalArgumentException("Blocking queues do not accept null values");
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package structures.commons;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Abstract class that classes that keep their elements as
+ * fixed-width records in a {@code ByteBuffer} will extend, such
+ * as off-heap and memory-mapped lists. Every element is encoded
+ * by an {@code ElementCodec}. Like {@code DynamicArray}, this class
+ * provides protected operations that concrete classes expose through
+ * the interfaces they implement.
+ *
+ * <p>
+ * Growth, shifting, and the {@code allocations()}, {@code shifts()}
+ * and {@code copies()} analytics are inherited from
+ * {@code PrimitiveDynamicArray}, so they match {@code DynamicArray}.
+ * Subclasses decide where the buffer comes from by implementing
+ * {@code allocate()} and {@code array(Object)}.
+ *
+ * @author Jabari Dash
+ * @param <E> Generic type
+ */
+public abstract class ByteBufferArray<E> extends PrimitiveDynamicArray {
+
+    /**
+     * The {@code sun.misc.Unsafe} instance, or null if
+     * the JVM does not allow releasing buffers.
+     */
+    private static final Object UNSAFE;
+
+    /**
+     * {@code Unsafe.invokeCleaner()}, or null if
+     * the JVM does not allow releasing buffers.
+     */
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe  = null;
+        Method cleaner = null;
+
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field    field       = unsafeClass.getDeclaredField("theUnsafe");
+
+            field.setAccessible(true);
+            unsafe  = field.get(null);
+            cleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+
+            // Buffers are left to the garbage collector
+            unsafe  = null;
+            cleaner = null;
+        }
+
+        UNSAFE         = unsafe;
+        INVOKE_CLEANER = cleaner;
+    }
+
+    /**
+     * Encodes and decodes the elements.
+     */
+    protected final ElementCodec<E> codec;
+
+    /**
+     * Number of bytes per element.
+     */
+    protected final int width;
+
+    /**
+     * Number of bytes in the buffer before the
+     * first element, reserved for subclasses.
+     */
+    private final int offset;
+
+    /**
+     * The buffer containing the elements,
+     * or null once it has been released.
+     */
+    protected ByteBuffer buffer;
+
+    /**
+     * Number of old buffers that could not be released.
+     */
+    private int releaseFailures;
+
+    /**
+     * Constructs ByteBufferArray with a specified codec, header
+     * length, initial size, growth policy, and resize and shrink
+     * thresholds. Subclasses must allocate their buffer.
+     *
+     * @param codec Codec used to store the elements.
+     * @param offset Number of bytes before the first element.
+     * @param initialSize Specified initial size of the buffer in elements.
+     * @param policy Growth policy used when the buffer is full.
+     * @param resizeThreshold Ratio of elements to length above which the buffer grows.
+     * @param shrinkThreshold Ratio of elements to length below which the buffer shrinks.
+     */
+    protected ByteBufferArray(ElementCodec<E> codec, int offset, int initialSize, GrowthPolicy policy, double resizeThreshold, double shrinkThreshold) {
+        super(initialSize, policy, resizeThreshold, shrinkThreshold);
+
+        if (codec == null || codec.width() <= 0) {
+            throw new IllegalArgumentException("Codec must have a positive width");
+        }
+
+        this.codec  = codec;
+        this.width  = codec.width();
+        this.offset = offset;
+    }
+
+    /**
+     * Returns the value at a specified index.
+     *
+     * @param index Specified index
+     * @return Value at specified index
+     */
+    protected E access(int index) {
+        verifyIndex(index);
+        return codec.read(buffer(), position(index));
+    }
+
+    /**
+     * Insert a value at a specified index.
+     *
+     * @param value Specified value
+     * @param index Specified index
+     * @return True if the insertion was successful
+     */
+    protected boolean add(E value, int index) {
+
+        // If the array is empty, simply
+        // insert into the front
+        if (empty()) {
+            return append(value);
+        }
+
+        verifyValue(value);
+        verifyIndex(index);
+        claim(index);
+        codec.write(buffer(), position(index), value);
+
+        return true;
+    }
+
+    /**
+     * Inserts an element to the back of the array.
+     *
+     * @param value Specified value to insert
+     * @return True to indicate the append was successful.
+     */
+    protected boolean append(E value) {
+        verifyValue(value);
+        buffer();
+
+        // Claim the slot first, the
+        // buffer may be replaced while doing so
+        int index = claimLast();
+
+        codec.write(buffer, position(index), value);
+
+        return true;
+    }
+
+    /**
+     * Returns the buffer, provided
+     * that it has not been released.
+     *
+     * @return The buffer.
+     */
+    protected ByteBuffer buffer() {
+
+        if (buffer == null) {
+            throw new IllegalStateException("Cannot use a closed " + getClass().getSimpleName());
+        }
+
+        return buffer;
+    }
+
+    /**
+     * Returns the buffer.
+     *
+     * @return The buffer.
+     */
+    @Override
+    protected Object array() {
+        return buffer();
+    }
+
+    /**
+     * Removes and returns a value
+     * at a specified index.
+     *
+     * @param index Specified index
+     * @return The value at specified index.
+     */
+    protected E delete(int index) {
+        E value;
+
+        // Cannot remove from nothing
+        if (empty()) {
+            throw new DataStructure.EmptyDataStructureException("Cannot remove from an empty " + getClass().getSimpleName());
+        }
+
+        verifyIndex(index);
+        value = codec.read(buffer(), position(index));
+        release(index);
+
+        return value;
+    }
+
+    /**
+     * Releases an old buffer once a re-allocation is complete.
+     * A buffer that cannot be released is counted and left to
+     * the garbage collector, so that growing and shrinking
+     * never fail because of it.
+     *
+     * @param array Old buffer.
+     */
+    @Override
+    protected void discard(Object array) {
+
+        try {
+            free((ByteBuffer) array);
+
+        } catch (RuntimeException exception) {
+            releaseFailures++;
+        }
+    }
+
+    /**
+     * Releases the native memory of a direct or mapped buffer
+     * immediately. Such buffers are otherwise only released once
+     * they are garbage collected. A duplicate or slice of another
+     * buffer does not own its memory, so it is left for the garbage
+     * collector instead.
+     *
+     * @param buffer Buffer to release.
+     * @throws IllegalStateException If the JVM does not allow releasing the memory.
+     */
+    protected static void free(ByteBuffer buffer) {
+
+        if (buffer == null || !buffer.isDirect()) {
+            return;
+        }
+
+        if (INVOKE_CLEANER == null) {
+            throw new IllegalStateException("Cannot release the memory of the buffer");
+        }
+
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+
+        } catch (InvocationTargetException exception) {
+            Throwable cause = exception.getCause();
+
+            // Thrown for duplicates and slices, whose
+            // memory belongs to the buffer they came from
+            if (cause instanceof IllegalArgumentException) {
+                return;
+            }
+
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw new IllegalStateException("Cannot release the memory of the buffer", cause);
+
+        } catch (IllegalAccessException exception) {
+            throw new IllegalStateException("Cannot release the memory of the buffer", exception);
+        }
+    }
+
+    /**
+     * Returns the number of old buffers that could not be
+     * released when the list grew or shrank, and were left
+     * to the garbage collector instead.
+     *
+     * @return Number of old buffers that could not be released.
+     */
+    public int releaseFailures() {
+        return releaseFailures;
+    }
+
+    /**
+     * Returns the number of elements the buffer holds.
+     *
+     * @return Length of the buffer in elements.
+     */
+    @Override
+    protected int length() {
+        return (buffer().capacity() - offset) / width;
+    }
+
+    /**
+     * Returns the number of bytes a buffer needs
+     * to hold a specified number of elements.
+     *
+     * @param length Number of elements.
+     * @return Number of bytes.
+     */
+    protected int lengthInBytes(int length) {
+        return Math.addExact(offset, Math.multiplyExact(length, width));
+    }
+
+    /**
+     * Moves a range of elements within or between buffers in a
+     * single bulk transfer. A bulk put between views of the same
+     * memory behaves as if the source were first copied to an
+     * intermediate location, so ranges within the same buffer
+     * may overlap.
+     *
+     * @param src Source buffer
+     * @param from First element in source buffer
+     * @param dst Destination buffer
+     * @param to First element in destination buffer
+     * @param length Number of elements to move
+     */
+    @Override
+    protected void move(Object src, int from, Object dst, int to, int length) {
+        ByteBuffer source      = ((ByteBuffer) src).duplicate();
+        ByteBuffer destination = ((ByteBuffer) dst).duplicate();
+
+        source.limit(position(from + length)).position(position(from));
+        destination.position(position(to));
+        destination.put(source);
+    }
+
+    /**
+     * Returns the byte offset of the element at a specified index.
+     *
+     * @param index Specified index.
+     * @return Byte offset in the buffer.
+     */
+    protected int position(int index) {
+        return offset + index * width;
+    }
+
+    /**
+     * Overwrites a value at a specified
+     * index with a new value.
+     *
+     * @param index Specified index
+     * @param value New value
+     * @return True if the overwrite was successful.
+     */
+    protected boolean update(int index, E value) {
+        verifyValue(value);
+        verifyIndex(index);
+        codec.write(buffer(), position(index), value);
+
+        return true;
+    }
+
+    /**
+     * Verifies that a value can be encoded. Fixed-width
+     * records have no representation for null.
+     *
+     * @param value Value to verify.
+     */
+    private void verifyValue(E value) {
+
+        if (value == null) {
+            throw new IllegalArgumentException("Cannot store null in a " + getClass().getSimpleName());
+        }
+    }
+}
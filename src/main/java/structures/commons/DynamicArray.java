@@ -1,8 +1,15 @@
 package structures.commons;
 
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
 
 /**
  * Abstract class that classes that use an underlying
@@ -29,24 +36,60 @@ public abstract class DynamicArray<E> implements DataStructure<E> {
      * Default resize threshold for internal array.
      * 0.85 represents 85%.
      */
-    private final double DEFAULT_RESIZE_THRESHOLD = 0.85;
+    private static final double DEFAULT_RESIZE_THRESHOLD = 0.85;
+
+    /**
+     * Default shrink threshold for internal array.
+     * 0.0 means the array never gives memory back.
+     */
+    private static final double DEFAULT_SHRINK_THRESHOLD = 0.0;
 
     /**
      * Default initialize size of internal array
      */
-    private final int    DEFAULT_INITIAL_SIZE     = 10;
+    private static final int    DEFAULT_INITIAL_SIZE     = 10;
 
     /**
      * When the array reaches this threshold
-     * the array will double in size.
+     * the array will grow according to its
+     * growth policy.
      */
     private final double RESIZE_THRESHOLD;
 
+    /**
+     * When a removal leaves the array below this
+     * threshold the array is halved. This must
+     * stay well below the resize threshold so that
+     * alternating inserts and removals do not
+     * re-allocate back and forth.
+     */
+    private final double SHRINK_THRESHOLD;
+
     /**
      * Initial size of internal array
      */
     private final int INITIAL_SIZE;
 
+    /**
+     * Decides the length of the internal
+     * array each time it becomes full.
+     */
+    private final GrowthPolicy GROWTH_POLICY;
+
+    /**
+     * Largest number of elements the internal array
+     * may hold before it is considered full. This is
+     * recomputed on every re-allocation so that
+     * {@code full()} does not divide on every insert.
+     */
+    private int growAt;
+
+    /**
+     * Number of elements below which the internal
+     * array is shrunk. Recomputed with {@code growAt}.
+     */
+    private int shrinkAt;
+
     /**
      * Number of elements present in the ArrayList.
      */
@@ -57,6 +100,14 @@ public abstract class DynamicArray<E> implements DataStructure<E> {
      */
     protected E[] elements;
 
+    /**
+     * The number of structural modifications, insertions and
+     * removals, the dynamic array has undergone. Iterators
+     * compare it against the count they started with to detect
+     * modifications made while iterating.
+     */
+    protected int modCount;
+
     /**
      * The amount of times the array needed to be resized.
      * We use this value for analytic purposes. It has no
@@ -89,35 +140,79 @@ public abstract class DynamicArray<E> implements DataStructure<E> {
     protected int front = 0;
 
     /**
-     * Integer that points to the index of the
-     * end of the sequence within the internal array.
-     * Essentially, this will always be size() - 1,
-     * but for cleaner syntax we will use this variable.
+     * Integer that points to the index just past the
+     * end of the sequence within the internal array,
+     * which is where the next appended value goes. The
+     * sequence wraps around the end of the internal array,
+     * so this may be smaller than {@code front}. For Stacks,
+     * and LinkedList, this will always be size().
      */
     protected int back = 0;
 
     /**
-     * Constructs default DynamicArray with resize
-     * threshold 90% and a specified initial size.
+     * Constructs DynamicArray with a specified initial size,
+     * growth policy, resize threshold and shrink threshold.
      *
      * @param initialSize Specified initial size of internal array.
+     * @param policy Growth policy used when the internal array is full.
+     * @param resizeThreshold Ratio of elements to length above which the array grows.
+     * @param shrinkThreshold Ratio of elements to length below which the array shrinks.
      */
-    protected DynamicArray(int initialSize) {
-        this.RESIZE_THRESHOLD = DEFAULT_RESIZE_THRESHOLD;
+    protected DynamicArray(int initialSize, GrowthPolicy policy, double resizeThreshold, double shrinkThreshold) {
+
+        if (policy == null) {
+            throw new IllegalArgumentException("Growth policy must not be null");
+        }
+
+        // Must leave a vacant slot in the array at all times
+        if (resizeThreshold <= 0.0 || resizeThreshold >= 1.0) {
+            throw new IllegalArgumentException("Resize threshold must be between 0 and 1");
+        }
+
+        // Halving the array must leave it well below the
+        // resize threshold, otherwise the array thrashes
+        if (shrinkThreshold < 0.0 || shrinkThreshold >= resizeThreshold / 2) {
+            throw new IllegalArgumentException("Shrink threshold must be less than half the resize threshold");
+        }
+
+        this.RESIZE_THRESHOLD = resizeThreshold;
+        this.SHRINK_THRESHOLD = shrinkThreshold;
+        this.GROWTH_POLICY    = policy;
         this.INITIAL_SIZE     = initialSize >= DEFAULT_INITIAL_SIZE ? initialSize : DEFAULT_INITIAL_SIZE;
 
         // Create a new array no smaller than the default size
         elements = (E[]) new Object[this.INITIAL_SIZE];
+
+        updateThresholds();
+    }
+
+    /**
+     * Constructs DynamicArray with a specified initial
+     * size and growth policy, and the default thresholds.
+     *
+     * @param initialSize Specified initial size of internal array.
+     * @param policy Growth policy used when the internal array is full.
+     */
+    protected DynamicArray(int initialSize, GrowthPolicy policy) {
+        this(initialSize, policy, DEFAULT_RESIZE_THRESHOLD, DEFAULT_SHRINK_THRESHOLD);
     }
 
     /**
      * Constructs default DynamicArray with resize
-     * threshold 90% and initial size 10.
+     * threshold 85% and a specified initial size.
+     *
+     * @param initialSize Specified initial size of internal array.
+     */
+    protected DynamicArray(int initialSize) {
+        this(initialSize, GrowthPolicy.DOUBLING);
+    }
+
+    /**
+     * Constructs default DynamicArray with resize
+     * threshold 85% and initial size 10.
      */
     protected DynamicArray() {
-        this.RESIZE_THRESHOLD = DEFAULT_RESIZE_THRESHOLD;
-        this.INITIAL_SIZE     = DEFAULT_INITIAL_SIZE;
-        elements              = (E[]) new Object[this.INITIAL_SIZE];
+        this(DEFAULT_INITIAL_SIZE);
     }
 
     /**
@@ -166,7 +261,7 @@ public abstract class DynamicArray<E> implements DataStructure<E> {
     protected E access(int index) {
 
         verifyIndex(index);
-        return elements[index];
+        return elements[physical(index)];
     }
 
     /**
@@ -182,110 +277,192 @@ public abstract class DynamicArray<E> implements DataStructure<E> {
         // If the ArrayList is empty, simply insert
         // into the front of the internal array
         if (empty()) {
-            elements[front] = value;
-            size++;
-            return true;
+            return append(value);
         }
 
         // Make sure we are in bounds
         verifyIndex(index);
 
+        // Shifting assumes the sequence
+        // starts at the front of the array
+        unroll();
+
         if (full()) {
 
-            // Allocate a new array double the
-            // size of the current internal array
+            // Allocate a new array
+            // according to the growth policy
             @SuppressWarnings("unchecked")
-            E[] temp = (E[]) new Object[size * 2];
+            E[] temp = (E[]) new Object[grownLength(size + 1)];
 
-            // Copy the whole array with an offset of 1,
-            // then overwrite the first value
-            if (index == 0) {
-                copy(0, size-1, 1, elements, temp);
-                temp[0] = value;
+            // Copy up until the desired index, preserving index,
+            // then copy the rest of the array with an offset of 1
+            if (index > 0) {
+                copy(0, index-1, 0, elements, temp);
+            }
 
-                // Copy up until the desired index, preserving index
-                // Place the new value in its designated location
-                // Copy the rest of the array with an offset of 1
-            } else {
-                copy(0, index, 0, elements, temp);
-                temp[index] = value;
+            copy(index, size-1, 1, elements, temp);
 
-                // If we are not already at the end
-                // copy the remaining values over
-                if (index < size-1) {
-                    copy(index+1, size-1, 1, elements, temp);
-                }
-            }
+            // Place the new value in its designated location
+            temp[index] = value;
 
             // Use temp as our new elements array
             elements = temp;
 
+            // Increment the number of
+            // allocations performed
+            allocations++;
+
+            updateThresholds();
+
             // There is space in the array
         } else {
 
             // Make room for new value
-            shiftRight(index);
+            shiftRight(index, 1);
 
             // Insert into vacant spot
             elements[index] = value;
         }
 
-        //
+        // Increment the number of
+        // elements in the ArrayList
         size++;
-
-        //
-        allocations++;
+        modCount++;
+        back = size;
 
         return true;
     }
 
     /**
-     * Inserts an element to the back of the list.
-     * @param value Specified value to insert
-     * @return True to indicate the append was successful.
+     * Inserts a collection of values at a specified index, where
+     * an index equal to the size appends them. The internal array
+     * is grown at most once, and the values to the right of the
+     * index are shifted over once for the whole collection, rather
+     * than once per value.
+     *
+     * <p>
+     * Time: O(n + k)<br>
+     * Space: O(1)
+     *
+     * @param index Specified index
+     * @param values Values to insert, in order
+     * @return True if the insertion was successful
      */
-    protected boolean append(E value) {
+    protected boolean addAll(int index, Collection<? extends E> values) {
+        int count = values.size();
 
-        // Check if the internal
-        // array is empty
-        if (empty()) {
-            elements[front] = value;
-            size++;
-            return true;
+        // Values may be inserted anywhere
+        // up to and including the back
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("size: " + size + " index: " + index);
         }
 
-        // The internal array is full
-        if (full()) {
+        if (index == size) {
+            return appendAll(values);
+        }
 
-            // Increment the number of
-            // allocations performed
-            allocations++;
+        // Shifting assumes the sequence
+        // starts at the front of the array
+        unroll();
+
+        if (size + count > growAt) {
 
-            // Create a new array with double the size
+            // Allocate a new array with room for
+            // all values according to the growth policy
             @SuppressWarnings("unchecked")
-            E[] temp = (E[]) new Object[size * 2];
+            E[] temp = (E[]) new Object[grownLength(size + count)];
 
-            // Copy the old array to a new array
-            copy(0, size-1, 0, elements, temp);
+            // Copy up until the desired index, preserving index,
+            // then copy the rest of the array leaving a gap
+            if (index > 0) {
+                copy(0, index-1, 0, elements, temp);
+            }
 
-            // Place a new value at the
-            // back of the new array
-            temp[size] = value;
+            copy(index, size-1, count, elements, temp);
 
-            // Use the new array as the
-            // internal array of this
-            // ArrayList (get rid of the old one)
+            // Use temp as our new elements array
             elements = temp;
 
-            // There's space, so insert
-            // at the back of new array
+            // Increment the number of
+            // allocations performed
+            allocations++;
+
+            updateThresholds();
+
+            // There is space in the array
         } else {
-            elements[size] = value;
+
+            // Make room for the new values
+            shiftRight(index, count);
+        }
+
+        // Place the new values into the gap
+        for (E value : values) {
+            elements[index++] = value;
+        }
+
+        size += count;
+        modCount++;
+        back  = size;
+
+        return true;
+    }
+
+    /**
+     * Inserts a collection of values to the back of the list.
+     * The internal array is grown at most once for the whole
+     * collection.
+     *
+     * <p>
+     * Time: O(k)<br>
+     * Space: O(1)
+     *
+     * @param values Values to insert, in order
+     * @return True to indicate the append was successful.
+     */
+    protected boolean appendAll(Collection<? extends E> values) {
+
+        // Make room for all values
+        // with a single re-allocation
+        if (size + values.size() > growAt) {
+            reallocate(grownLength(size + values.size()));
+        }
+
+        // There's space, so insert
+        // at the back of the sequence
+        for (E value : values) {
+            elements[back] = value;
+            back = next(back);
+            size++;
         }
 
+        modCount++;
+
+        return true;
+    }
+
+    /**
+     * Inserts an element to the back of the list.
+     * @param value Specified value to insert
+     * @return True to indicate the append was successful.
+     */
+    protected boolean append(E value) {
+
+        // The internal array is full, so move
+        // the elements to a larger array first
+        if (full()) {
+            reallocate(grownLength(size + 1));
+        }
+
+        // There's space, so insert
+        // at the back of the sequence
+        elements[back] = value;
+        back = next(back);
+
         // Increment the number of
         // elements in the ArrayList
         size++;
+        modCount++;
 
         return true;
     }
@@ -329,17 +506,15 @@ public abstract class DynamicArray<E> implements DataStructure<E> {
             throw new IllegalArgumentException("Stop index must be in bounds or src array");
         }
 
-        // destination array must be at least size of source
-        if (src.length >= dst.length) {
-            throw new IllegalArgumentException("Destination array must be at least the length of the source array");
+        // destination array must have room for the whole range
+        if (stop + offset >= dst.length) {
+            throw new IllegalArgumentException("Destination array must have room for the copied range");
         }
 
-        // Copy the array
-        for (int i = start; i <= stop; i++){
-
-            dst[i+offset] = src[i];
-            copies++;
-        }
+        // Copy the whole range in one bulk move, and
+        // account for each element that was copied
+        System.arraycopy(src, start, dst, start + offset, stop - start + 1);
+        copies += stop - start + 1;
     }
 
     /**
@@ -359,12 +534,165 @@ public abstract class DynamicArray<E> implements DataStructure<E> {
         }
 
         verifyIndex(index);       // Verify that the index is valid
+        unroll();                 // Make the sequence start at the front of the array
         value = elements[index];  // Store the value are the given index
         shiftLeft(index);         // Shift all elements up from the right of index over one to the left
         size--;                   // Decrement size of array
+        modCount++;               // Count the structural modification
+        back = size;              // Back is just past the last element
+
+        // Give memory back once the
+        // array has become too sparse
+        if (sparse()) {
+            reallocate(Math.max(INITIAL_SIZE, elements.length / 2));
+        }
+
         return value;             // Return the stored value
     }
 
+    /**
+     * Removes the values from a specified index, inclusive,
+     * up to another specified index, exclusive. The values
+     * to the right of the range are shifted over once for
+     * the whole range, rather than once per value.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param from First index to remove
+     * @param to Index after the last index to remove
+     */
+    protected void deleteRange(int from, int to) {
+        int length = elements.length;
+
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("size: " + size + " from: " + from + " to: " + to);
+        }
+
+        // Nothing to remove
+        if (from == to) {
+            return;
+        }
+
+        unroll();                    // Make the sequence start at the front of the array
+        shiftLeft(from, to - from);  // Shift the values after the range over the range
+        size -= to - from;           // Decrement size of array
+        modCount++;                  // Count the structural modification
+        back  = size;                // Back is just past the last element
+
+        // Halve the array until it is no longer
+        // sparse, but only re-allocate once
+        while (size < (int) (length * SHRINK_THRESHOLD) && length > INITIAL_SIZE) {
+            length = Math.max(INITIAL_SIZE, length / 2);
+        }
+
+        if (length < elements.length) {
+            reallocate(length);
+        }
+    }
+
+    /**
+     * Removes and returns the value at the front of the
+     * sequence by advancing the front of the sequence
+     * rather than shifting the remaining values over.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return The value at the front of the sequence.
+     */
+    protected E deleteFirst() {
+        E value;
+
+        // Cannot remove from nothing
+        if (empty()) {
+            throw new EmptyDataStructureException("Cannot remove from an empty ArrayList");
+        }
+
+        value           = elements[front];  // Store the value at the front
+        elements[front] = null;             // Clear the slot so the value can be collected
+        front           = next(front);      // Advance the front past the removed value
+        size--;                             // Decrement size of array
+        modCount++;                         // Count the structural modification
+
+        // Start over at the beginning of
+        // the array once we run out of values
+        if (empty()) {
+            front = 0;
+            back  = 0;
+        }
+
+        // Give memory back once the
+        // array has become too sparse
+        if (sparse()) {
+            reallocate(Math.max(INITIAL_SIZE, elements.length / 2));
+        }
+
+        return value;
+    }
+
+    /**
+     * Removes and returns the value at the back of the
+     * sequence by stepping the back of the sequence
+     * towards the front.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return The value at the back of the sequence.
+     */
+    protected E deleteLast() {
+        E value;
+
+        // Cannot remove from nothing
+        if (empty()) {
+            throw new EmptyDataStructureException("Cannot remove from an empty ArrayList");
+        }
+
+        back           = previous(back);  // Step the back onto the last value
+        value          = elements[back];  // Store the value at the back
+        elements[back] = null;            // Clear the slot so the value can be collected
+        size--;                           // Decrement size of array
+        modCount++;                       // Count the structural modification
+
+        // Start over at the beginning of
+        // the array once we run out of values
+        if (empty()) {
+            front = 0;
+            back  = 0;
+        }
+
+        // Give memory back once the
+        // array has become too sparse
+        if (sparse()) {
+            reallocate(Math.max(INITIAL_SIZE, elements.length / 2));
+        }
+
+        return value;
+    }
+
+    /**
+     * Makes sure that the internal array can hold at least
+     * a specified number of elements without any further
+     * re-allocations. Use this before inserting a known
+     * number of elements.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(n)
+     *
+     * @param capacity Number of elements the array must be able to hold.
+     */
+    public void ensureCapacity(int capacity) {
+
+        if (capacity > growAt) {
+            reallocate(lengthFor(capacity));
+        }
+    }
+
     /**
      * Determines whether or not this DynamicArray is equal to
      * a provided object.
@@ -385,21 +713,117 @@ public abstract class DynamicArray<E> implements DataStructure<E> {
 
     /**
      * If the number of elements in the ArrayList exceeds a specified
-     * threshold (90%), we consider the internal array "full".
+     * threshold (85%), we consider the internal array "full".
      *
      * @return True if and only if the capacity threshold is passed.
      */
     private boolean full() {
 
-        // Convert size and length to doubles
-        // to perform division with decimals
-        double s = (double) size;
-        double l = (double) elements.length;
+        // Compare against the precomputed
+        // element count rather than the ratio
+        return size > growAt;
+    }
+
+    /**
+     * Returns the length the internal array should grow to. The
+     * growth policy decides, but the result always leaves room
+     * for a specified number of elements under the resize threshold.
+     *
+     * @param capacity Number of elements the array must be able to hold.
+     * @return New length of the internal array.
+     */
+    private int grownLength(int capacity) {
+        return Math.max(GROWTH_POLICY.grow(size, elements.length), lengthFor(capacity));
+    }
 
-        // If the ratio of elements in the DataStructure exceeds the
-        // threshold (default 90%), then we need to allocate more space
-        // in the internal array
-        return (s / l) > RESIZE_THRESHOLD;
+    /**
+     * Returns the smallest length of internal array that can
+     * hold a specified number of elements without being full.
+     *
+     * @param capacity Specified number of elements.
+     * @return Length of internal array.
+     */
+    private int lengthFor(int capacity) {
+        return (int) Math.ceil(capacity / RESIZE_THRESHOLD) + 1;
+    }
+
+    /**
+     * Moves the elements into a new internal
+     * array of a specified length.
+     *
+     * @param length Length of the new internal array.
+     */
+    private void reallocate(int length) {
+
+        @SuppressWarnings("unchecked")
+        E[] temp = (E[]) new Object[length];
+
+        // Copy the old array to a new array, unrolling
+        // the sequence if it wraps around the end
+        if (size > 0) {
+
+            if (front < back) {
+                copy(front, back-1, -front, elements, temp);
+
+            } else {
+                copy(front, elements.length-1, -front, elements, temp);
+
+                if (back > 0) {
+                    copy(0, back-1, elements.length-front, elements, temp);
+                }
+            }
+        }
+
+        // Use the new array as the
+        // internal array (get rid of the old one)
+        elements = temp;
+        front    = 0;
+        back     = size;
+
+        // Increment the number of
+        // allocations performed
+        allocations++;
+
+        updateThresholds();
+    }
+
+    /**
+     * If the number of elements in the ArrayList falls below
+     * the shrink threshold, we consider the internal array "sparse".
+     * The array is never considered sparse at its initial size.
+     *
+     * @return True if and only if the shrink threshold is passed.
+     */
+    private boolean sparse() {
+        return size < shrinkAt && elements.length > INITIAL_SIZE;
+    }
+
+    /**
+     * Shrinks the internal array to the smallest length that
+     * holds the current elements without being full, but
+     * never below the initial size.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(n)
+     */
+    public void trimToSize() {
+        int length = Math.max(INITIAL_SIZE, lengthFor(size));
+
+        if (length < elements.length) {
+            reallocate(length);
+        }
+    }
+
+    /**
+     * Recomputes the element counts at which the internal
+     * array grows and shrinks. Called whenever the length
+     * of the internal array changes.
+     */
+    private void updateThresholds() {
+        // Always keep one slot past the last element vacant
+        growAt   = Math.min((int) (elements.length * RESIZE_THRESHOLD), elements.length - 2);
+        shrinkAt = (int) (elements.length * SHRINK_THRESHOLD);
     }
 
     /**
@@ -416,23 +840,95 @@ public abstract class DynamicArray<E> implements DataStructure<E> {
     }
 
     /**
-     * Returns iterator for dynamic array.
+     * Returns iterator for dynamic array. The iterator
+     * is fail-fast, and can be reset and reused.
      *
      * @return Iterator
      */
-    public Iterator<E> iterator() {
+    public ResettableIterator<E> iterator() {
         return new DynamicArrayIterator<>(true);
     }
 
     /**
-     * Inserts a value into the front of the list.
+     * Returns spliterator for dynamic array that splits
+     * the internal array in halves, so parallel streams
+     * divide the work evenly without copying any values.
+     *
+     * @return Spliterator
+     */
+    public Spliterator<E> spliterator() {
+        return new DynamicArraySpliterator<>(true);
+    }
+
+    /**
+     * Returns the index that follows a specified
+     * index in the internal array, wrapping
+     * around to the beginning of the array.
+     *
+     * @param index Index in the internal array.
+     * @return Following index in the internal array.
+     */
+    private int next(int index) {
+        return index + 1 == elements.length ? 0 : index + 1;
+    }
+
+    /**
+     * Maps an index in the sequence to its index in the
+     * internal array, wrapping around the end of the array.
+     *
+     * @param index Index in the sequence.
+     * @return Index in the internal array.
+     */
+    private int physical(int index) {
+        int i = front + index;
+
+        return i < elements.length ? i : i - elements.length;
+    }
+
+    /**
+     * Inserts a value into the front of the list. Rather than
+     * shifting every value over, the front of the sequence is
+     * moved back one slot, wrapping around to the end of the
+     * internal array.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
      *
      * @param value Specified value to insert
      * @return True to indicate the prepend was successful.
      */
     protected boolean prepend(E value) {
 
-        return add(value, 0);
+        // The internal array is full, so move
+        // the elements to a larger array first
+        if (full()) {
+            reallocate(grownLength(size + 1));
+        }
+
+        // Step the front back and
+        // place the value there
+        front           = previous(front);
+        elements[front] = value;
+
+        // Increment the number of
+        // elements in the ArrayList
+        size++;
+        modCount++;
+
+        return true;
+    }
+
+    /**
+     * Returns the index that precedes a specified
+     * index in the internal array, wrapping
+     * around to the end of the array.
+     *
+     * @param index Index in the internal array.
+     * @return Preceding index in the internal array.
+     */
+    private int previous(int index) {
+        return index == 0 ? elements.length - 1 : index - 1;
     }
 
     /**
@@ -472,32 +968,108 @@ public abstract class DynamicArray<E> implements DataStructure<E> {
     private void shiftLeft(int index) {
 //        verifyIndex(index);
 
-        // Partial rotation
-        for (int i = index; i < size; i++) {
-            elements[i] = elements[i+1];
-            shifts++;
-        }
+        // Partial rotation. The slot just past the last
+        // element is always vacant, so it is moved in as
+        // well to clear the reference left behind at the end.
+        System.arraycopy(elements, index + 1, elements, index, size - index);
+        shifts += size - index;
+    }
+
+    /**
+     * Closes a gap of a specified number of removed values
+     * at a specified index by moving all values to its right
+     * over to the left in a single bulk move. The references
+     * left behind at the end of the sequence are cleared. This
+     * is an auxiliary function for removing ranges of values.
+     *
+     * @param index First index of the gap
+     * @param distance Number of values in the gap
+     */
+    private void shiftLeft(int index, int distance) {
+        System.arraycopy(elements, index + distance, elements, index, size - index - distance);
+        Arrays.fill(elements, size - distance, size, null);
+        shifts += size - index - distance;
     }
 
     /**
      * Performs a partial shift right on the array.
      * All elements to right of the index, and the
-     * index itself will be shifted to the right one
-     * spot for the purpose of making space for a new element
-     * to be inserted. This is an auxiliary function
+     * index itself will be shifted to the right a
+     * specified number of spots for the purpose of
+     * making space for new elements to be inserted.
+     * This is an auxiliary function
      *
      * @param index Index to start shifting from
+     * @param distance Number of spots to shift over by
      */
-    private void shiftRight(int index) {
+    private void shiftRight(int index, int distance) {
 //        verifyIndex(index);
 
-        for (int i = size; i > index; i--) {
+        // Move the tail over in a single bulk move
+        System.arraycopy(elements, index, elements, index + distance, size - index);
+        shifts += size - index;
+    }
+
+    /**
+     * Sorts the values in place according to a specified
+     * comparator, or their natural ordering if it is null.
+     * The parallel sort splits the sequence into chunks that
+     * are sorted and merged on the common fork/join pool, and
+     * falls back to the sequential sort below a cutoff of a
+     * few thousand values, where forking costs more than it saves.
+     * Both sorts are stable.
+     *
+     * @param comparator Comparator to order the values by
+     * @param parallel Whether or not to sort in parallel
+     */
+    protected void sort(Comparator<? super E> comparator, boolean parallel) {
+
+        // Sort the range in place, which
+        // must be contiguous to do so
+        unroll();
 
-            elements[i] = elements[i-1];
-            shifts++;
+        if (parallel) {
+            Arrays.parallelSort(elements, 0, size, comparator);
+        } else {
+            Arrays.sort(elements, 0, size, comparator);
         }
+
+        modCount++;
     }
-    
+
+    /**
+     * Replaces every value with the cumulative result of
+     * a specified associative operator applied to it and
+     * all of the values before it, in parallel.
+     *
+     * @param operator Associative operator to accumulate the values with
+     */
+    protected void prefix(BinaryOperator<E> operator) {
+
+        if (operator == null) {
+            throw new NullPointerException("Operator must not be null");
+        }
+
+        unroll();
+        Arrays.parallelPrefix(elements, 0, size, operator);
+    }
+
+    /**
+     * Overwrites every value with the result of a specified
+     * generator applied to its index, in parallel.
+     *
+     * @param generator Function computing the value at an index
+     */
+    protected void generate(IntFunction<? extends E> generator) {
+
+        if (generator == null) {
+            throw new NullPointerException("Generator must not be null");
+        }
+
+        unroll();
+        IntStream.range(0, size).parallel().forEach(i -> elements[i] = generator.apply(i));
+    }
+
     /**
      * Overwrites a value at a specified
      * index with a new value.
@@ -508,10 +1080,23 @@ public abstract class DynamicArray<E> implements DataStructure<E> {
      */
     protected boolean update(int index, E value) {
         verifyIndex(index);
-        elements[index] = value;
+        elements[physical(index)] = value;
         return true;
     }
 
+    /**
+     * Moves the sequence to the beginning of the internal
+     * array if it does not already start there. Operations
+     * that shift values in place rely on this, but for
+     * Stacks, and LinkedList, this is never needed.
+     */
+    private void unroll() {
+
+        if (front != 0) {
+            reallocate(elements.length);
+        }
+    }
+
     /**
      * Iterator for iterating over any class that implements
      * the DynamicArray interface. The iterator has a mandatory
@@ -521,12 +1106,20 @@ public abstract class DynamicArray<E> implements DataStructure<E> {
      * can all use the same iterator and iterate over the array
      * in O(n) time and O(1) space.
      *
+     * <p>
+     * The iterator is fail-fast: if the dynamic array is structurally
+     * modified after the iterator was created or last reset, the
+     * iterator throws a {@code ConcurrentModificationException}.
+     * Calling {@code reset()} rewinds it, so one instance can be
+     * reused for any number of passes.
+     *
      * @param <E>
      */
-    protected class DynamicArrayIterator<E> implements Iterator<E> {
+    protected class DynamicArrayIterator<E> implements ResettableIterator<E> {
 
         /**
-         * Index of next item to return in iteration.
+         * Index in the sequence (not the internal
+         * array) of next item to return in iteration.
          */
         int cursor;
 
@@ -538,6 +1131,12 @@ public abstract class DynamicArray<E> implements DataStructure<E> {
          */
         final boolean ascending;
 
+        /**
+         * Number of structural modifications of the
+         * dynamic array when the iteration started.
+         */
+        int expectedModCount;
+
         /**
          * Constructor for iterator over
          * dynamic arrays. Requires boolean
@@ -550,9 +1149,24 @@ public abstract class DynamicArray<E> implements DataStructure<E> {
         public DynamicArrayIterator(boolean ascendingIndicies) {
             ascending = ascendingIndicies;
 
+            reset();
+        }
+
+        /**
+         * Rewinds the iterator to the first element
+         * of the dynamic array in its present state.
+         *
+         * @return This iterator.
+         */
+        @Override
+        public DynamicArrayIterator<E> reset() {
+
             // If ascending, start at first index,
             // otherwise start at last index
-            cursor = ascending ? front : size - 1;
+            cursor           = ascending ? 0 : size - 1;
+            expectedModCount = modCount;
+
+            return this;
         }
 
         /**
@@ -565,7 +1179,7 @@ public abstract class DynamicArray<E> implements DataStructure<E> {
         @Override
         public boolean hasNext() {
 
-            return ascending ? cursor < size : cursor >= front;
+            return ascending ? cursor < size : cursor >= 0;
         }
 
         /**
@@ -573,10 +1187,22 @@ public abstract class DynamicArray<E> implements DataStructure<E> {
          *
          * @return the next element in the iteration
          * @throws NoSuchElementException if the iteration has no more elements
+         * @throws ConcurrentModificationException if the dynamic array was modified
          */
         @Override
         public E next() {
-            E element = (E) elements[cursor];
+
+            // The dynamic array changed underneath the iterator
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            // If there are no more keys left, throw an Exception
+            if (!hasNext()) {
+                throw new NoSuchElementException("No next element");
+            }
+
+            E element = (E) elements[physical(cursor)];
 
             // If ascending, increase cursor,
             // otherwise decrease cursor
@@ -585,4 +1211,174 @@ public abstract class DynamicArray<E> implements DataStructure<E> {
             return element;
         }
     }
+
+    /**
+     * Spliterator for any class that extends DynamicArray. Like
+     * {@code DynamicArrayIterator}, it visits the values in ascending
+     * or descending order of their indices, so Stacks stream their
+     * values in the same order as they iterate. Splitting halves the
+     * remaining range of indices, so every part knows its exact size.
+     *
+     * <p>
+     * The spliterator is fail-fast: if the dynamic array is
+     * structurally modified while it is being traversed, it throws
+     * a {@code ConcurrentModificationException}.
+     *
+     * @param <E>
+     */
+    protected class DynamicArraySpliterator<E> implements Spliterator<E> {
+
+        /**
+         * Whether or not the values are visited
+         * by ascending indices.
+         */
+        final boolean ascending;
+
+        /**
+         * Index of the last value in the sequence
+         * when the spliterator was created.
+         */
+        final int last;
+
+        /**
+         * Position of the next value to visit.
+         */
+        int origin;
+
+        /**
+         * Position just past the last value to visit.
+         */
+        final int fence;
+
+        /**
+         * Number of structural modifications of the
+         * dynamic array when the spliterator was created.
+         */
+        final int expectedModCount;
+
+        /**
+         * Constructor for spliterator over all values of
+         * the dynamic array. Requires boolean flag to
+         * determine whether to visit high to low, or
+         * low to high indicies.
+         *
+         * @param ascendingIndicies Boolean flag.
+         */
+        public DynamicArraySpliterator(boolean ascendingIndicies) {
+            this(ascendingIndicies, size - 1, 0, size, modCount);
+        }
+
+        /**
+         * Constructor for spliterator over
+         * a range of positions.
+         *
+         * @param ascending Whether to visit ascending indices.
+         * @param last Index of the last value in the sequence.
+         * @param origin First position to visit.
+         * @param fence Position just past the last position to visit.
+         * @param expectedModCount Expected number of modifications.
+         */
+        private DynamicArraySpliterator(boolean ascending, int last, int origin, int fence, int expectedModCount) {
+            this.ascending        = ascending;
+            this.last             = last;
+            this.origin           = origin;
+            this.fence            = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        /**
+         * Returns the characteristics of the spliterator.
+         *
+         * @return ORDERED, SIZED and SUBSIZED
+         */
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        /**
+         * Returns the number of values left to visit.
+         *
+         * @return Exact number of values left.
+         */
+        @Override
+        public long estimateSize() {
+            return fence - origin;
+        }
+
+        /**
+         * Visits every remaining value.
+         *
+         * @param action Action to perform on each value.
+         * @throws ConcurrentModificationException if the dynamic array was modified
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super E> action) {
+            int i = origin;
+
+            if (action == null) {
+                throw new NullPointerException();
+            }
+
+            origin = fence;
+
+            for (; i < fence; i++) {
+                action.accept((E) elements[physical(ascending ? i : last - i)]);
+            }
+
+            // The dynamic array changed underneath the spliterator
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        /**
+         * Visits the next value, if there is one.
+         *
+         * @param action Action to perform on the value.
+         * @return True if a value was visited.
+         * @throws ConcurrentModificationException if the dynamic array was modified
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super E> action) {
+
+            if (action == null) {
+                throw new NullPointerException();
+            }
+
+            if (origin >= fence) {
+                return false;
+            }
+
+            // The dynamic array changed underneath the spliterator
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            action.accept((E) elements[physical(ascending ? origin : last - origin)]);
+            origin++;
+
+            return true;
+        }
+
+        /**
+         * Hands the first half of the remaining
+         * values over to a new spliterator.
+         *
+         * @return Spliterator over the first half, or
+         * null if there are too few values to split.
+         */
+        @Override
+        public Spliterator<E> trySplit() {
+            int middle = (origin + fence) >>> 1;
+
+            if (origin >= middle) {
+                return null;
+            }
+
+            return new DynamicArraySpliterator<>(ascending, last, origin, origin = middle, expectedModCount);
+        }
+    }
 }
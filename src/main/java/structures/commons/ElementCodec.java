@@ -0,0 +1,106 @@
+package structures.commons;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes and decodes values of a fixed width to and from a
+ * {@code ByteBuffer}. Structures that keep their elements outside
+ * of the Java heap, such as off-heap or memory-mapped lists, use a
+ * codec to turn each element into a record of {@code width()} bytes.
+ *
+ * @author Jabari Dash
+ * @param <E> Generic type of the encoded values.
+ */
+public interface ElementCodec<E> {
+
+    /**
+     * Codec for {@code Integer} values, 4 bytes each.
+     */
+    ElementCodec<Integer> INTEGER = new ElementCodec<Integer>() {
+
+        @Override
+        public int width() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Integer value) {
+            buffer.putInt(offset, value);
+        }
+    };
+
+    /**
+     * Codec for {@code Long} values, 8 bytes each.
+     */
+    ElementCodec<Long> LONG = new ElementCodec<Long>() {
+
+        @Override
+        public int width() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long value) {
+            buffer.putLong(offset, value);
+        }
+    };
+
+    /**
+     * Codec for {@code Double} values, 8 bytes each.
+     */
+    ElementCodec<Double> DOUBLE = new ElementCodec<Double>() {
+
+        @Override
+        public int width() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Double value) {
+            buffer.putDouble(offset, value);
+        }
+    };
+
+    /**
+     * Returns the number of bytes every encoded value occupies.
+     *
+     * @return Width of an encoded value in bytes.
+     */
+    int width();
+
+    /**
+     * Decodes the value stored at a specified byte offset. The
+     * position and limit of the buffer must not be changed.
+     *
+     * @param buffer Buffer to read from.
+     * @param offset Byte offset of the value.
+     * @return Decoded value.
+     */
+    E read(ByteBuffer buffer, int offset);
+
+    /**
+     * Encodes a value at a specified byte offset, using exactly
+     * {@code width()} bytes. The position and limit of the buffer
+     * must not be changed.
+     *
+     * @param buffer Buffer to write to.
+     * @param offset Byte offset of the value.
+     * @param value Value to encode.
+     */
+    void write(ByteBuffer buffer, int offset, E value);
+}
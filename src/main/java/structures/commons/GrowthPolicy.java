@@ -0,0 +1,71 @@
+package structures.commons;
+
+/**
+ * Strategy that decides how large the internal array of
+ * a {@code DynamicArray} becomes once it is considered full.
+ * The dynamic array always guarantees that the returned
+ * length leaves room for at least one more element, so a
+ * policy only needs to describe the shape of the growth.
+ *
+ * @author Jabari Dash
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /**
+     * Doubles the number of elements on each re-allocation.
+     * This is the default policy of every dynamic array.
+     */
+    GrowthPolicy DOUBLING = geometric(2.0);
+
+    /**
+     * Grows the number of elements by half on each re-allocation.
+     * Trades a few more re-allocations for less unused space.
+     */
+    GrowthPolicy ONE_AND_A_HALF = geometric(1.5);
+
+    /**
+     * Returns the new length of the internal array.
+     *
+     * @param size Number of elements currently in the array.
+     * @param length Current length of the internal array.
+     * @return Desired length of the new internal array.
+     */
+    int grow(int size, int length);
+
+//------------------------------------------------------------------------------
+
+    /**
+     * Returns a policy that multiplies the number of
+     * elements by a specified factor on each re-allocation.
+     *
+     * @param factor Growth factor, must be greater than 1.
+     * @return Geometric growth policy.
+     */
+    static GrowthPolicy geometric(double factor) {
+
+        if (factor <= 1.0) {
+            throw new IllegalArgumentException("Growth factor must be greater than 1");
+        }
+
+        return (size, length) -> (int) Math.min(Integer.MAX_VALUE - 8, size * factor);
+    }
+
+//------------------------------------------------------------------------------
+
+    /**
+     * Returns a policy that adds a fixed number of
+     * slots to the internal array on each re-allocation.
+     *
+     * @param chunk Number of slots to add, must be positive.
+     * @return Fixed-chunk growth policy.
+     */
+    static GrowthPolicy chunked(int chunk) {
+
+        if (chunk <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+
+        return (size, length) -> (int) Math.min(Integer.MAX_VALUE - 8, (long) length + chunk);
+    }
+}
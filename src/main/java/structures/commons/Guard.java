@@ -0,0 +1,183 @@
+package structures.commons;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * Lock that the guarded wrappers of this package run every call
+ * to the wrapped structure under. Reads may run in parallel with
+ * each other, and a write runs alone. There are two modes.
+ *
+ * <p>
+ * {@code readWrite()} takes the read lock of a read-write lock for
+ * every read, so readers only wait for writers.
+ *
+ * <p>
+ * {@code optimistic()} runs reads made with {@code readBounded()}
+ * without any lock first, and then checks that no write started in
+ * the meantime. Only if one did, is the read run again under the read
+ * lock. Readers then do not even write to a shared lock word, which
+ * makes this mode the faster of the two when writes are rare. Reads
+ * made with {@code read()} always take the read lock.
+ *
+ * <p>
+ * A read without a lock that runs into a concurrent write may see
+ * the structure half changed. Anything it throws is discarded if a
+ * write is detected, but it must still come to an end on such a
+ * structure, and nothing can stop one that does not. So only reads
+ * that are bounded whatever state they find may use
+ * {@code readBounded()}: reading a size, scanning a flat array up
+ * to a size, or searching a binary search tree, which gives up after
+ * more hops than the tree has nodes. Other walks of linked nodes or
+ * of trees may follow a stale link in a circle, and must use
+ * {@code read()}.
+ *
+ * <p>
+ * Neither mode is reentrant for writes made from inside a read.
+ *
+ * @author Jabari Dash
+ * @see GuardedStructure
+ */
+public abstract class Guard {
+
+    /**
+     * Returns a guard that runs reads
+     * under the read lock of a read-write lock.
+     *
+     * @return New guard.
+     */
+    public static Guard readWrite() {
+        return new ReadWriteGuard();
+    }
+
+    /**
+     * Returns a guard that runs bounded reads optimistically,
+     * without a lock, and validates them afterwards.
+     *
+     * @return New guard.
+     */
+    public static Guard optimistic() {
+        return new OptimisticGuard();
+    }
+
+    /**
+     * Runs an operation that does not change the structure.
+     *
+     * @param reader Operation to run.
+     * @param <R> Type of the result
+     * @return Result of the operation.
+     */
+    public abstract <R> R read(Supplier<R> reader);
+
+    /**
+     * Runs an operation that does not change the structure, and
+     * that comes to an end however half changed the structure is.
+     * Such an operation may run without a lock.
+     *
+     * @param reader Operation to run.
+     * @param <R> Type of the result
+     * @return Result of the operation.
+     */
+    public <R> R readBounded(Supplier<R> reader) {
+        return read(reader);
+    }
+
+    /**
+     * Runs an operation that may change the structure.
+     *
+     * @param writer Operation to run.
+     * @param <R> Type of the result
+     * @return Result of the operation.
+     */
+    public abstract <R> R write(Supplier<R> writer);
+
+//------------------------------------------------------------------------------
+
+    /**
+     * Guard backed by a read-write lock.
+     */
+    private static final class ReadWriteGuard extends Guard {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        @Override
+        public <R> R read(Supplier<R> reader) {
+            lock.readLock().lock();
+
+            try {
+                return reader.get();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public <R> R write(Supplier<R> writer) {
+            lock.writeLock().lock();
+
+            try {
+                return writer.get();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+//------------------------------------------------------------------------------
+
+    /**
+     * Guard backed by a stamped lock, with optimistic reads.
+     */
+    private static final class OptimisticGuard extends Guard {
+        private final StampedLock lock = new StampedLock();
+
+        @Override
+        public <R> R read(Supplier<R> reader) {
+            long stamp = lock.readLock();
+
+            try {
+                return reader.get();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        @Override
+        public <R> R readBounded(Supplier<R> reader) {
+            long stamp = lock.tryOptimisticRead();
+
+            // A writer holds the lock, so wait for it
+            // under the read lock instead of failing
+            if (stamp != 0) {
+                try {
+                    R result = reader.get();
+
+                    if (lock.validate(stamp)) {
+                        return result;
+                    }
+
+                } catch (Throwable failure) {
+
+                    // The read failed on its own, not
+                    // because a write got in the way
+                    if (lock.validate(stamp)) {
+                        throw failure;
+                    }
+                }
+            }
+
+            return read(reader);
+        }
+
+        @Override
+        public <R> R write(Supplier<R> writer) {
+            long stamp = lock.writeLock();
+
+            try {
+                return writer.get();
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package structures.commons;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Wrapper that makes any {@code DataStructure} safe to share
+ * between threads. Every call is passed on to the wrapped structure
+ * under a {@code Guard}: calls that only read it run as reads, which
+ * may run in parallel, and calls that change it run as writes, which
+ * run alone. Inserting an array or a collection of keys is a single
+ * write, so other threads see either none or all of the keys.
+ *
+ * <p>
+ * {@code size()} and {@code empty()} are bounded reads. Calls that
+ * walk the structure are bounded reads only if it keeps its values
+ * in a flat array, like the dynamic arrays do.
+ *
+ * <p>
+ * The wrapped structure must not be used directly while it is wrapped.
+ *
+ * @author Jabari Dash
+ * @param <K> Generic type
+ * @see Guard
+ */
+public class GuardedStructure<K> implements DataStructure<K> {
+
+    /**
+     * Wrapped structure.
+     */
+    private final DataStructure<K> structure;
+
+    /**
+     * Lock every call runs under.
+     */
+    protected final Guard guard;
+
+    /**
+     * Whether the wrapped structure keeps its values in a flat array.
+     */
+    private final boolean flat;
+
+    /**
+     * Wraps a structure, guarding it with a specified guard.
+     *
+     * @param structure Structure to wrap.
+     * @param guard Guard to run every call under.
+     */
+    public GuardedStructure(DataStructure<K> structure, Guard guard) {
+
+        if (structure == null || guard == null) {
+            throw new IllegalArgumentException("Structure and guard must not be null");
+        }
+
+        this.structure = structure;
+        this.guard     = guard;
+        this.flat      = structure instanceof DynamicArray || structure instanceof PrimitiveDynamicArray;
+    }
+
+    /**
+     * Runs a read that walks the wrapped structure,
+     * as a bounded read if the structure is flat.
+     *
+     * @param reader Operation to run.
+     * @param <R> Type of the result
+     * @return Result of the operation.
+     */
+    protected <R> R scan(Supplier<R> reader) {
+        return flat ? guard.readBounded(reader) : guard.read(reader);
+    }
+
+    /**
+     * Determines whether or not the structure contains a specified key.
+     *
+     * @param key Specified key
+     * @return True if and only if the specified key is within the structure
+     */
+    @Override
+    public boolean contains(K key) {
+        return scan(() -> structure.contains(key));
+    }
+
+    /**
+     * Determines whether or not the structure is empty.
+     *
+     * @return True if and only if the structure has no keys.
+     */
+    @Override
+    public boolean empty() {
+        return guard.readBounded(structure::empty);
+    }
+
+    /**
+     * Determines whether or not the wrapped structure
+     * is equal to a provided object.
+     *
+     * @param object Object to compare with.
+     * @return True if and only if the wrapped structure equals the object.
+     */
+    @Override
+    public boolean equals(Object object) {
+        return object == this || scan(() -> structure.equals(object));
+    }
+
+    /**
+     * Returns the hash code of the wrapped structure.
+     *
+     * @return Hash code of the wrapped structure.
+     */
+    @Override
+    public int hashCode() {
+        return scan(structure::hashCode);
+    }
+
+    /**
+     * Inserts a specified key into the structure.
+     *
+     * @param key Specified key
+     * @return True if and only if the insertion was successful
+     */
+    @Override
+    public boolean insert(K key) {
+        return guard.write(() -> structure.insert(key));
+    }
+
+    /**
+     * Inserts an array of keys into the structure as a single write.
+     *
+     * @param keys Array of keys
+     * @return True if and only if all insertions were successful
+     */
+    @Override
+    public boolean insert(K[] keys) {
+        return guard.write(() -> structure.insert(keys));
+    }
+
+    /**
+     * Inserts a collection of keys into the structure as a single write.
+     *
+     * @param keys Collection of keys
+     * @return True if and only if all insertions were successful
+     */
+    @Override
+    public boolean insert(Collection<K> keys) {
+        return guard.write(() -> structure.insert(keys));
+    }
+
+    /**
+     * Returns the number of keys in the structure.
+     *
+     * @return Size of the structure
+     */
+    @Override
+    public int size() {
+        return guard.readBounded(structure::size);
+    }
+
+    /**
+     * Returns String representation
+     * of the wrapped structure.
+     *
+     * @return String representation.
+     */
+    @Override
+    public String toString() {
+        return scan(structure::toString);
+    }
+}
@@ -0,0 +1,262 @@
+package structures.commons;
+
+import structures.trees.BinarySearchTree;
+import structures.trees.BinaryTree;
+import structures.vectors.ArrayList;
+
+import java.util.function.Supplier;
+
+/**
+ * Wrapper that makes any {@code BinaryTree} safe to share between
+ * threads, so that lookup trees can serve many readers in parallel.
+ * Lookups, traversals and the tree properties run as reads, and
+ * inserting and removing run as writes. {@code removeValue()} finds
+ * the key and removes it in a single write. Iterating works on the
+ * list of pairs returned by {@code pairs()}, which is a copy.
+ *
+ * <p>
+ * Key lookups of a {@code BinarySearchTree} give up when they run
+ * into a tree that is being changed, so they run as bounded reads,
+ * without a lock under an optimistic guard.
+ *
+ * @author Jabari Dash
+ * @param <K> Generic type of the keys
+ * @param <V> Generic type of the values
+ * @see GuardedStructure
+ */
+public class GuardedTree<K, V> extends GuardedStructure<K> implements BinaryTree<K, V> {
+
+    /**
+     * Wrapped tree.
+     */
+    private final BinaryTree<K, V> tree;
+
+    /**
+     * Whether key lookups in the wrapped tree are bounded.
+     */
+    private final boolean bounded;
+
+    /**
+     * Wraps a tree, guarding it with a specified guard.
+     *
+     * @param tree Tree to wrap.
+     * @param guard Guard to run every call under.
+     */
+    public GuardedTree(BinaryTree<K, V> tree, Guard guard) {
+        super(tree, guard);
+        this.tree    = tree;
+        this.bounded = tree instanceof BinarySearchTree;
+    }
+
+    /**
+     * Runs a key lookup in the wrapped tree,
+     * as a bounded read if the lookup is bounded.
+     *
+     * @param reader Operation to run.
+     * @param <R> Type of the result
+     * @return Result of the operation.
+     */
+    private <R> R lookup(Supplier<R> reader) {
+        return bounded ? guard.readBounded(reader) : guard.read(reader);
+    }
+
+    /**
+     * Determines whether or not the tree
+     * contains a specified key.
+     *
+     * @param key Specified key
+     * @return True if and only if the key is in the tree
+     */
+    @Override
+    public boolean contains(K key) {
+        return lookup(() -> tree.contains(key));
+    }
+
+    /**
+     * Determines whether or not the tree contains
+     * a specified key with a specified value.
+     *
+     * @param key Specified key
+     * @param value Specified value
+     * @return True if and only if the pair is in the tree
+     */
+    @Override
+    public boolean contains(K key, V value) {
+        return lookup(() -> tree.contains(key, value));
+    }
+
+    /**
+     * Determines whether or not the tree
+     * contains a specified key.
+     *
+     * @param key Specified key
+     * @return True if and only if the key is in the tree
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return lookup(() -> tree.containsKey(key));
+    }
+
+    /**
+     * Determines whether or not the tree
+     * contains a specified value.
+     *
+     * @param value Specified value
+     * @return True if and only if the value is in the tree
+     */
+    @Override
+    public boolean containsValue(V value) {
+        return guard.read(() -> tree.containsValue(value));
+    }
+
+    /**
+     * Returns the value of a specified key.
+     *
+     * @param key Specified key
+     * @return Value of the key, or null
+     */
+    @Override
+    public V get(K key) {
+        return lookup(() -> tree.get(key));
+    }
+
+    /**
+     * Returns the key of a specified value.
+     *
+     * @param value Specified value
+     * @return Key of the value, or null
+     */
+    @Override
+    public K getKey(V value) {
+        return guard.read(() -> tree.getKey(value));
+    }
+
+    /**
+     * Returns the height of the tree.
+     *
+     * @return Height of the tree
+     */
+    @Override
+    public int height() {
+        return guard.read(tree::height);
+    }
+
+    /**
+     * Inserts a specified key with a specified value.
+     *
+     * @param key Specified key
+     * @param value Specified value
+     * @return True if and only if the insertion was successful
+     */
+    @Override
+    public boolean insert(K key, V value) {
+        return guard.write(() -> tree.insert(key, value));
+    }
+
+    /**
+     * Determines whether or not the tree is balanced.
+     *
+     * @return True if and only if the tree is balanced
+     */
+    @Override
+    public boolean isBalanced() {
+        return guard.read(tree::isBalanced);
+    }
+
+    /**
+     * Determines whether or not the tree is complete.
+     *
+     * @return True if and only if the tree is complete
+     */
+    @Override
+    public boolean isComplete() {
+        return guard.read(tree::isComplete);
+    }
+
+    /**
+     * Determines whether or not the tree is full.
+     *
+     * @return True if and only if the tree is full
+     */
+    @Override
+    public boolean isFull() {
+        return guard.read(tree::isFull);
+    }
+
+    /**
+     * Determines whether or not the tree is perfect.
+     *
+     * @return True if and only if the tree is perfect
+     */
+    @Override
+    public boolean isPerfect() {
+        return guard.read(tree::isPerfect);
+    }
+
+    /**
+     * Returns the keys in a specified traversal order.
+     *
+     * @param traversalType Traversal order
+     * @param <T> Type of the keys
+     * @return Array of the keys
+     */
+    @Override
+    public <T> T[] keys(int traversalType) {
+        return guard.read(() -> tree.<T>keys(traversalType));
+    }
+
+    /**
+     * Returns the pairs in a specified traversal order.
+     *
+     * @param traversalType Traversal order
+     * @return List of the pairs
+     */
+    @Override
+    public ArrayList<Pair<K, V>> pairs(int traversalType) {
+        return guard.read(() -> tree.pairs(traversalType));
+    }
+
+    /**
+     * Removes the pair with a specified key.
+     *
+     * @param key Specified key
+     * @return True if and only if a pair was removed
+     */
+    @Override
+    public boolean remove(K key) {
+        return guard.write(() -> tree.remove(key));
+    }
+
+    /**
+     * Removes the pair with a specified value,
+     * finding and removing it in a single write.
+     *
+     * @param value Value of the pair to remove.
+     * @return True if and only if a pair was removed.
+     */
+    @Override
+    public boolean removeValue(V value) {
+        return guard.write(() -> tree.removeValue(value));
+    }
+
+    /**
+     * Returns a drawing of the tree.
+     *
+     * @return String representation of the tree
+     */
+    @Override
+    public String toTreeString() {
+        return guard.read(tree::toTreeString);
+    }
+
+    /**
+     * Returns the values in a specified traversal order.
+     *
+     * @param traversalType Traversal order
+     * @return Array of the values
+     */
+    @Override
+    public V[] values(int traversalType) {
+        return guard.read(() -> tree.values(traversalType));
+    }
+}
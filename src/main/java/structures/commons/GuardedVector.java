@@ -0,0 +1,90 @@
+package structures.commons;
+
+import structures.vectors.Vector;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * Wrapper that makes any {@code Vector} safe to share between
+ * threads. Iterating, streaming and {@code toArray()} work on a
+ * copy of the values taken in a single read, so they never see a
+ * half finished write, and writes made during the iteration do not
+ * affect it.
+ *
+ * @author Jabari Dash
+ * @param <T> Generic type
+ * @see GuardedStructure
+ */
+public class GuardedVector<T> extends GuardedStructure<T> implements Vector<T> {
+
+    /**
+     * Wrapped vector.
+     */
+    private final Vector<T> vector;
+
+    /**
+     * Wraps a vector, guarding it with a specified guard.
+     *
+     * @param vector Vector to wrap.
+     * @param guard Guard to run every call under.
+     */
+    public GuardedVector(Vector<T> vector, Guard guard) {
+        super(vector, guard);
+        this.vector = vector;
+    }
+
+    /**
+     * Returns an iterator over a copy of the values.
+     *
+     * @return Iterator object.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return Arrays.asList(snapshot()).iterator();
+    }
+
+    /**
+     * Removes a value from the vector. Which one
+     * depends on the wrapped vector.
+     *
+     * @return Removed value
+     */
+    @Override
+    public T remove() {
+        return guard.write(vector::remove);
+    }
+
+    /**
+     * Returns a spliterator over a copy of the values.
+     *
+     * @return Spliterator over the values.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(snapshot(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Returns the values as an array of a specified type.
+     *
+     * @param array Array that specified the type.
+     * @return Array of the values.
+     */
+    @Override
+    public T[] toArray(T[] array) {
+        return scan(() -> vector.toArray(array));
+    }
+
+    /**
+     * Returns a copy of the values, taken in a single read.
+     *
+     * @return Array of the values.
+     */
+    @SuppressWarnings("unchecked")
+    private T[] snapshot() {
+        return (T[]) scan(vector::toArray);
+    }
+}
@@ -0,0 +1,654 @@
+package structures.commons;
+
+import structures.commons.DataStructure.EmptyDataStructureException;
+
+/**
+ * Abstract class that classes that use an underlying
+ * dynamic array of primitives (int[], long[], double[])
+ * will extend. It mirrors {@code DynamicArray}, but since
+ * the internal array cannot be a generic E[], subclasses
+ * own the typed array and expose it through {@code array()}
+ * so that this class can grow, shrink, and shift it with
+ * bulk moves. Values are never boxed. Storage that is not
+ * a Java array, such as a direct buffer of fixed-width
+ * records, can be used by overriding {@code move()}.
+ *
+ * <p>
+ * The internal array may also be used as a circular
+ * buffer through {@code claimLast()}, {@code releaseFirst()}
+ * and {@code physical()}, which primitive queues rely on.
+ *
+ * <p>
+ * This class keeps the same analytics as {@code DynamicArray}
+ * ({@code allocations()}, {@code shifts()}, {@code copies()}),
+ * so primitive and generic structures can be compared directly.
+ *
+ * @author Jabari Dash
+ */
+public abstract class PrimitiveDynamicArray {
+
+    /**
+     * Default resize threshold for internal array.
+     * 0.85 represents 85%.
+     */
+    protected static final double DEFAULT_RESIZE_THRESHOLD = 0.85;
+
+    /**
+     * Default shrink threshold for internal array.
+     * 0.0 means the array never gives memory back.
+     */
+    protected static final double DEFAULT_SHRINK_THRESHOLD = 0.0;
+
+    /**
+     * Default initialize size of internal array
+     */
+    private static final int    DEFAULT_INITIAL_SIZE     = 10;
+
+    /**
+     * When the array reaches this threshold
+     * the array will grow according to its
+     * growth policy.
+     */
+    private final double RESIZE_THRESHOLD;
+
+    /**
+     * When a removal leaves the array below
+     * this threshold the array is halved.
+     */
+    private final double SHRINK_THRESHOLD;
+
+    /**
+     * Initial size of internal array
+     */
+    private final int INITIAL_SIZE;
+
+    /**
+     * Decides the length of the internal
+     * array each time it becomes full.
+     */
+    private final GrowthPolicy GROWTH_POLICY;
+
+    /**
+     * Largest number of elements the internal
+     * array may hold before it is considered full.
+     */
+    private int growAt;
+
+    /**
+     * Number of elements below which the
+     * internal array is shrunk.
+     */
+    private int shrinkAt;
+
+    /**
+     * Number of elements present in the array.
+     */
+    protected int size;
+
+    /**
+     * Index of the beginning of the sequence within the
+     * internal array. Only queues move this, for lists
+     * and stacks it remains 0.
+     */
+    protected int front = 0;
+
+    /**
+     * Index just past the end of the sequence within
+     * the internal array, wrapping around the end of
+     * the array. For lists and stacks this is size.
+     */
+    protected int back = 0;
+
+    /**
+     * The amount of times the array needed to be resized.
+     */
+    private int allocations;
+
+    /**
+     * The number of times an element has been shifted in the array.
+     */
+    private int shifts;
+
+    /**
+     * The number of times any element has been copied from one
+     * array to another.
+     */
+    private int copies;
+
+    /**
+     * Constructs PrimitiveDynamicArray with a specified initial size,
+     * growth policy, resize threshold and shrink threshold. Subclasses
+     * must allocate their internal array with {@code initialLength()}.
+     *
+     * @param initialSize Specified initial size of internal array.
+     * @param policy Growth policy used when the internal array is full.
+     * @param resizeThreshold Ratio of elements to length above which the array grows.
+     * @param shrinkThreshold Ratio of elements to length below which the array shrinks.
+     */
+    protected PrimitiveDynamicArray(int initialSize, GrowthPolicy policy, double resizeThreshold, double shrinkThreshold) {
+
+        if (policy == null) {
+            throw new IllegalArgumentException("Growth policy must not be null");
+        }
+
+        // Must leave a vacant slot in the array at all times
+        if (resizeThreshold <= 0.0 || resizeThreshold >= 1.0) {
+            throw new IllegalArgumentException("Resize threshold must be between 0 and 1");
+        }
+
+        // Halving the array must leave it well below the
+        // resize threshold, otherwise the array thrashes
+        if (shrinkThreshold < 0.0 || shrinkThreshold >= resizeThreshold / 2) {
+            throw new IllegalArgumentException("Shrink threshold must be less than half the resize threshold");
+        }
+
+        this.RESIZE_THRESHOLD = resizeThreshold;
+        this.SHRINK_THRESHOLD = shrinkThreshold;
+        this.GROWTH_POLICY    = policy;
+        this.INITIAL_SIZE     = initialSize >= DEFAULT_INITIAL_SIZE ? initialSize : DEFAULT_INITIAL_SIZE;
+
+        updateThresholds(this.INITIAL_SIZE);
+    }
+
+    /**
+     * Constructs PrimitiveDynamicArray with a specified
+     * initial size and the default growth policy and thresholds.
+     *
+     * @param initialSize Specified initial size of internal array.
+     */
+    protected PrimitiveDynamicArray(int initialSize) {
+        this(initialSize, GrowthPolicy.DOUBLING, DEFAULT_RESIZE_THRESHOLD, DEFAULT_SHRINK_THRESHOLD);
+    }
+
+    /**
+     * Returns the number of memory
+     * re-allocations the internal array
+     * has undergone such that the dynamic
+     * array is in it's present state.
+     *
+     * @return Number of underwent re-allocations
+     */
+    public int allocations() {
+        return allocations;
+    }
+
+    /**
+     * Returns the internal array of the subclass.
+     *
+     * @return Internal array.
+     */
+    protected abstract Object array();
+
+    /**
+     * Replaces the internal array of the subclass.
+     * The old array is passed to {@code discard()}
+     * once the replacement is complete.
+     *
+     * @param array New internal array.
+     */
+    protected abstract void array(Object array);
+
+    /**
+     * Allocates a new internal array of
+     * the subclass's primitive type.
+     *
+     * @param length Length of the new array.
+     * @return New internal array.
+     */
+    protected abstract Object allocate(int length);
+
+    /**
+     * Makes room for a value at a specified index. If the
+     * internal array is full, the values are copied into a
+     * larger array around the vacant index, otherwise the
+     * values from the index onwards are shifted right by one.
+     * The size is incremented, and the caller writes the value.
+     *
+     * @param index Index to make vacant, from 0 to size inclusive.
+     */
+    protected void claim(int index) {
+
+        // Shifting assumes the sequence
+        // starts at the front of the array
+        unroll();
+
+        Object src = array();
+        Object dst = src;
+
+        if (full()) {
+            dst = allocate(grownLength());
+
+            // Copy around the vacant index
+            copy(src, 0, dst, 0, index);
+            copy(src, index, dst, index + 1, size - index);
+
+            array(dst);
+            allocations++;
+            updateThresholds(length());
+
+        } else {
+
+            // Move the tail over by one in a single bulk move
+            move(src, index, src, index + 1, size - index);
+            shifts += size - index;
+        }
+
+        size++;
+        back = size;
+
+        if (dst != src) {
+            discard(src);
+        }
+    }
+
+    /**
+     * Makes room for a value at the back of the sequence,
+     * re-allocating only if the internal array is full.
+     * The size is incremented, and the caller writes the
+     * value into the returned index.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Index in the internal array to write the value to.
+     */
+    protected int claimLast() {
+        int index;
+
+        if (full()) {
+            reallocate(grownLength());
+        }
+
+        index = back;
+        back  = next(back);
+        size++;
+
+        return index;
+    }
+
+    /**
+     * Returns the number of individual
+     * data copies (from one location to another)
+     * that the dynamic array has undergone such
+     * that it can be in it's current state.
+     *
+     * @return Number of underwent copies.
+     */
+    public int copies() {
+        return copies;
+    }
+
+    /**
+     * Copies a range of values between arrays
+     * and accounts for each value copied.
+     *
+     * @param src Source array
+     * @param from First index in source array
+     * @param dst Destination array
+     * @param to First index in destination array
+     * @param length Number of values to copy
+     */
+    private void copy(Object src, int from, Object dst, int to, int length) {
+
+        // Values that are already in place are not copied
+        if (length > 0 && (from != to || !sameStorage(src, dst))) {
+            move(src, from, dst, to, length);
+            copies += length;
+        }
+    }
+
+    /**
+     * Called with the old internal array once a re-allocation
+     * is complete, when the new array is in use and all the
+     * bookkeeping is done. Subclasses whose arrays hold resources
+     * that the garbage collector does not release promptly
+     * release them here.
+     *
+     * @param array Old internal array.
+     */
+    protected void discard(Object array) {
+    }
+
+    /**
+     * Determines whether or not the array is empty.
+     *
+     * @return True if and only if there are no elements.
+     */
+    public boolean empty() {
+        return size == 0;
+    }
+
+    /**
+     * Makes sure that the internal array can hold at least
+     * a specified number of elements without any further
+     * re-allocations.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(n)
+     *
+     * @param capacity Number of elements the array must be able to hold.
+     */
+    public void ensureCapacity(int capacity) {
+
+        if (capacity > growAt) {
+            reallocate(lengthFor(capacity));
+        }
+    }
+
+    /**
+     * If the number of elements exceeds the resize
+     * threshold, we consider the internal array "full".
+     *
+     * @return True if and only if the capacity threshold is passed.
+     */
+    private boolean full() {
+        return size > growAt;
+    }
+
+    /**
+     * Returns the length the internal array should grow to.
+     *
+     * @return New length of the internal array.
+     */
+    private int grownLength() {
+        return Math.max(GROWTH_POLICY.grow(size, length()), lengthFor(size + 1));
+    }
+
+    /**
+     * Returns the index that follows a specified
+     * index in the internal array, wrapping
+     * around to the beginning of the array.
+     *
+     * @param index Index in the internal array.
+     * @return Following index in the internal array.
+     */
+    private int next(int index) {
+        return index + 1 == length() ? 0 : index + 1;
+    }
+
+    /**
+     * Maps an index in the sequence to its index in the
+     * internal array, wrapping around the end of the array.
+     *
+     * @param index Index in the sequence.
+     * @return Index in the internal array.
+     */
+    protected int physical(int index) {
+        int i = front + index;
+
+        return i < length() ? i : i - length();
+    }
+
+    /**
+     * Returns the index that precedes a specified
+     * index in the internal array, wrapping
+     * around to the end of the array.
+     *
+     * @param index Index in the internal array.
+     * @return Preceding index in the internal array.
+     */
+    private int previous(int index) {
+        return index == 0 ? length() - 1 : index - 1;
+    }
+
+    /**
+     * Returns the length of the internal array that
+     * subclasses should allocate in their constructors.
+     *
+     * @return Initial length of the internal array.
+     */
+    protected int initialLength() {
+        return INITIAL_SIZE;
+    }
+
+    /**
+     * Returns the size of the internal array.
+     *
+     * @return Length of internal array that contains the elements
+     */
+    public int internalSize() {
+        return length();
+    }
+
+    /**
+     * Returns the length of the internal array.
+     *
+     * @return Length of the internal array.
+     */
+    protected abstract int length();
+
+    /**
+     * Returns the smallest length of internal array that can
+     * hold a specified number of elements without being full.
+     *
+     * @param capacity Specified number of elements.
+     * @return Length of internal array.
+     */
+    private int lengthFor(int capacity) {
+        return (int) Math.ceil(capacity / RESIZE_THRESHOLD) + 1;
+    }
+
+    /**
+     * Moves a range of values in a single bulk move. The
+     * source and destination may be the same array, and the
+     * ranges may overlap. Subclasses whose internal storage
+     * is not a Java array override this.
+     *
+     * @param src Source array
+     * @param from First index in source array
+     * @param dst Destination array
+     * @param to First index in destination array
+     * @param length Number of values to move
+     */
+    protected void move(Object src, int from, Object dst, int to, int length) {
+        System.arraycopy(src, from, dst, to, length);
+    }
+
+    /**
+     * Moves the elements into a new internal
+     * array of a specified length.
+     *
+     * @param length Length of the new internal array.
+     */
+    private void reallocate(int length) {
+        Object temp = allocate(length);
+        Object src  = array();
+
+        // Copy the old array to a new array, unrolling
+        // the sequence if it wraps around the end
+        if (front + size <= length()) {
+            copy(src, front, temp, 0, size);
+
+        } else {
+            copy(src, front, temp, 0, length() - front);
+            copy(src, 0, temp, length() - front, back);
+        }
+
+        array(temp);
+        front = 0;
+        back  = size;
+        allocations++;
+        updateThresholds(length);
+        discard(src);
+    }
+
+    /**
+     * Closes the gap left by a removed value at a
+     * specified index by shifting the values to its
+     * right over by one, then shrinks the internal
+     * array if it has become too sparse. The size
+     * is decremented.
+     *
+     * @param index Index of the removed value.
+     */
+    protected void release(int index) {
+
+        // Shifting assumes the sequence
+        // starts at the front of the array
+        unroll();
+
+        Object src = array();
+
+        // The slot just past the last element is always
+        // vacant, so it is moved in as well, leaving a
+        // cleared slot behind at the end
+        move(src, index + 1, src, index, size - index);
+        shifts += size - index;
+        size--;
+        back = size;
+
+        shrinkIfSparse();
+    }
+
+    /**
+     * Removes the value at the front of the sequence by
+     * advancing the front rather than shifting. The caller
+     * must read the value at {@code front} beforehand.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     */
+    protected void releaseFirst() {
+        front = next(front);
+        size--;
+
+        // Start over at the beginning of
+        // the array once we run out of values
+        if (size == 0) {
+            front = 0;
+            back  = 0;
+        }
+
+        shrinkIfSparse();
+    }
+
+    /**
+     * Removes the value at the back of the sequence by
+     * stepping the back towards the front. The caller must
+     * read the value at {@code physical(size() - 1)} beforehand.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     */
+    protected void releaseLast() {
+        back = previous(back);
+        size--;
+
+        // Start over at the beginning of
+        // the array once we run out of values
+        if (size == 0) {
+            front = 0;
+            back  = 0;
+        }
+
+        shrinkIfSparse();
+    }
+
+    /**
+     * Determines whether or not two internal arrays store their
+     * values in the same place, so that an index holds the same
+     * value in both. Subclasses whose arrays are views of shared
+     * storage override this.
+     *
+     * @param src Source array
+     * @param dst Destination array
+     * @return True if and only if the arrays share their storage.
+     */
+    protected boolean sameStorage(Object src, Object dst) {
+        return src == dst;
+    }
+
+    /**
+     * Returns total number of values that
+     * have been shifted to the left or right
+     * such that the array is in its present state.
+     *
+     * @return Total number of shifts.
+     */
+    public int shifts() {
+        return shifts;
+    }
+
+    /**
+     * Halves the internal array once the
+     * array has become too sparse.
+     */
+    private void shrinkIfSparse() {
+
+        if (size < shrinkAt && length() > INITIAL_SIZE) {
+            reallocate(Math.max(INITIAL_SIZE, length() / 2));
+        }
+    }
+
+    /**
+     * Returns the number of elements in the array.
+     *
+     * @return Number of elements in the array.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Shrinks the internal array to the smallest length that
+     * holds the current elements without being full, but
+     * never below the initial size.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(n)
+     */
+    public void trimToSize() {
+        int length = Math.max(INITIAL_SIZE, lengthFor(size));
+
+        if (length < length()) {
+            reallocate(length);
+        }
+    }
+
+    /**
+     * Moves the sequence to the beginning of the internal
+     * array if it does not already start there. Operations
+     * that shift values in place rely on this.
+     */
+    private void unroll() {
+
+        if (front != 0) {
+            reallocate(length());
+        }
+    }
+
+    /**
+     * Recomputes the element counts at which the internal
+     * array grows and shrinks for a given array length.
+     *
+     * @param length Length of the internal array.
+     */
+    private void updateThresholds(int length) {
+
+        // Always keep one slot past the last element vacant
+        growAt   = Math.min((int) (length * RESIZE_THRESHOLD), length - 2);
+        shrinkAt = (int) (length * SHRINK_THRESHOLD);
+    }
+
+    /**
+     * Verifies if a provided index is within the array or not.
+     *
+     * @param index Specified index to verify
+     * @throws IndexOutOfBoundsException Exception thrown if the index is invalid
+     */
+    public void verifyIndex(int index) {
+
+        if (empty()) {
+            throw new EmptyDataStructureException("Cannot verify index on empty data structure");
+        }
+
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("size: " + size + " index: " + index);
+        }
+    }
+}
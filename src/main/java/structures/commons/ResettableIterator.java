@@ -0,0 +1,30 @@
+package structures.commons;
+
+import java.util.Iterator;
+
+/**
+ * Iterator that can be rewound to the beginning and used again,
+ * so that loops that iterate over the same structure many times
+ * do not allocate a new iterator each time.
+ *
+ * <p>
+ * Iterators over structures that count their structural
+ * modifications are fail-fast. If the structure is modified
+ * other than through the iterator after the iterator was created
+ * or last reset, the iterator throws a
+ * {@code ConcurrentModificationException}. Resetting the iterator
+ * makes it valid again.
+ *
+ * @author Jabari Dash
+ * @param <E> Generic type
+ */
+public interface ResettableIterator<E> extends Iterator<E> {
+
+    /**
+     * Rewinds the iterator to the first element of
+     * the structure in its present state.
+     *
+     * @return This iterator.
+     */
+    ResettableIterator<E> reset();
+}
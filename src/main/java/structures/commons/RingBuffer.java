@@ -0,0 +1,459 @@
+package structures.commons;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Abstract class for bounded queues shared between threads that
+ * use a fixed array as a ring. The producers move the tail sequence
+ * forward as they insert values, and the single consumer moves the
+ * head sequence forward as it removes them. A sequence only ever
+ * grows, and the slot of a sequence is the sequence modulo the
+ * capacity, which is a power of two so that the modulo is a mask.
+ *
+ * <p>
+ * Both sequences are padded onto cache lines of their own, so that
+ * producers and consumer do not slow each other down by writing to
+ * the same cache line. Subclasses decide how producers coordinate.
+ * All of them have a single consumer, so the consumer side, and its
+ * batch operation {@code drainTo()}, only publishes the head once
+ * per batch, which is where batching saves memory barriers.
+ *
+ * <p>
+ * Null values cannot be inserted, because an empty slot marks a
+ * value that has not been published yet. A producer that claimed a
+ * slot it then has no value for publishes {@code SKIP} into it,
+ * which the consumer removes like a value but never returns. Iterating is meant for the
+ * consumer thread, or for a queue no thread is writing to. Otherwise
+ * the iterator is weakly consistent, and {@code size()} is an estimate.
+ *
+ * @author Jabari Dash
+ * @param <E> Generic type
+ */
+public abstract class RingBuffer<E> implements DataStructure<E>, Iterable<E> {
+
+    /**
+     * Default capacity of the ring.
+     */
+    protected static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Handle for ordered access to the slots of the ring.
+     */
+    protected static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    /**
+     * Published into a claimed slot that will never hold a value.
+     */
+    protected static final Object SKIP = new Object();
+
+    /**
+     * The ring of slots holding the values.
+     */
+    protected final E[] elements;
+
+    /**
+     * Capacity minus one, masks a sequence onto a slot.
+     */
+    protected final int mask;
+
+    /**
+     * Sequence of the next value to remove,
+     * written only by the consumer.
+     */
+    protected final Sequence head = new Sequence(0);
+
+    /**
+     * Sequence of the next value to insert,
+     * written only by the producers.
+     */
+    protected final Sequence tail = new Sequence(0);
+
+    /**
+     * Constructs empty ring with room for at least a specified
+     * number of values. The capacity is rounded up to a power
+     * of two, and is at least 2.
+     *
+     * @param capacity Smallest number of values the ring can hold.
+     */
+    @SuppressWarnings("unchecked")
+    protected RingBuffer(int capacity) {
+
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30, not " + capacity);
+        }
+
+        int length = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+
+        elements = (E[]) new Object[length];
+        mask     = length - 1;
+    }
+
+    /**
+     * Constructs ring from an array of values,
+     * with room for at least the default capacity.
+     *
+     * @param values Array of values to insert.
+     */
+    protected RingBuffer(E[] values) {
+        this(Math.max(DEFAULT_CAPACITY, values.length));
+        insert(values);
+    }
+
+    /**
+     * Constructs ring from a collection of values,
+     * with room for at least the default capacity.
+     *
+     * @param values Collection of values to insert.
+     */
+    protected RingBuffer(Collection<E> values) {
+        this(Math.max(DEFAULT_CAPACITY, values.size()));
+        insert(values);
+    }
+
+    /**
+     * Returns the value of the sequence at the front of the
+     * queue if it has been published, without removing it,
+     * or null otherwise. Only the consumer calls this.
+     *
+     * @param sequence Sequence at the head of the queue.
+     * @param index Slot of the sequence.
+     * @return Value of the sequence, {@code SKIP}, or null.
+     */
+    protected abstract E available(long sequence, int index);
+
+    /**
+     * Returns the number of values the ring can hold.
+     *
+     * @return Capacity of the ring.
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Removes up to a specified number of values from the front
+     * of the queue, in order, and passes each one to a specified
+     * consumer. The head is published once for the whole batch,
+     * so producers see the freed slots when the batch is done,
+     * or when the consumer throws.
+     *
+     * <p>
+     * Time: O(k)<br>
+     * Space: O(1)
+     *
+     * @param consumer Consumer of the removed values.
+     * @param limit Largest number of values to remove.
+     * @return Number of values removed.
+     */
+    public int drainTo(Consumer<? super E> consumer, int limit) {
+        long first   = head.get();
+        long h       = first;
+        int  removed = 0;
+
+        try {
+            while (removed < limit) {
+                int i     = (int) h & mask;
+                E   value = available(h, i);
+
+                if (value == null) {
+                    break;
+                }
+
+                elements[i] = null;
+                h++;
+
+                if (value != SKIP) {
+                    removed++;
+                    consumer.accept(value);
+                }
+            }
+
+        } finally {
+            if (h != first) {
+                head.setRelease(h);
+            }
+        }
+
+        return removed;
+    }
+
+    /**
+     * Determines whether or not this queue is equal to
+     * a provided object.
+     *
+     * @param object Object to compare this queue with.
+     * @return True if and only if their types are the same,
+     * lengths are the same, and the contain all the same elements.
+     */
+    @Override
+    public boolean equals(Object object) {
+        return equivalentTo(object);
+    }
+
+    /**
+     * Inserts as many values as fit, up to a specified number,
+     * each one obtained from a specified supplier only once
+     * its slot is known to be free.
+     *
+     * <p>
+     * Time: O(k)<br>
+     * Space: O(1)
+     *
+     * @param supplier Supplier of the values to insert, must not return null.
+     * @param limit Largest number of values to insert.
+     * @return Number of values inserted.
+     */
+    public abstract int fill(Supplier<? extends E> supplier, int limit);
+
+    /**
+     * Append a specified value to the back of the queue,
+     * unless the queue is full.
+     *
+     * @param value Value to insert.
+     * @return True if and only if the value was inserted.
+     */
+    @Override
+    public boolean insert(E value) {
+        return offer(value);
+    }
+
+    /**
+     * Returns an iterator over the values from the front of
+     * the queue to the back as of when it was created.
+     *
+     * @return Iterator object.
+     */
+    @Override
+    public Iterator<E> iterator() {
+
+        return new Iterator<E>() {
+            private final long last = tail.getAcquire(); // Sequence to stop at
+            private       long next = head.getAcquire(); // Sequence of the next value
+            private       E    value = find();           // Value returned next
+
+            /**
+             * Finds the value of the next
+             * sequence that holds one.
+             *
+             * @return Next value, or null.
+             */
+            private E find() {
+
+                for (; next < last; next++) {
+                    E v = element((int) next & mask);
+
+                    if (v != null && v != SKIP) {
+                        return v;
+                    }
+                }
+
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return value != null;
+            }
+
+            @Override
+            public E next() {
+
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No element");
+                }
+
+                E result = value;
+
+                next++;
+                value = find();
+
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Reads a slot with acquire ordering, so that the value
+     * written to it is completely visible.
+     *
+     * @param index Index of the slot.
+     * @return Value in the slot, or null.
+     */
+    @SuppressWarnings("unchecked")
+    protected E element(int index) {
+        return (E) SLOT.getAcquire(elements, index);
+    }
+
+    /**
+     * Inserts a value at the back of the queue
+     * unless the queue is full, without blocking.
+     *
+     * @param value Value to insert, must not be null.
+     * @return True if and only if the value was inserted.
+     */
+    public abstract boolean offer(E value);
+
+    /**
+     * Returns but does not remove the value at the
+     * front of the queue. Only the consumer may call this.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Value at front of queue.
+     */
+    public E peek() {
+        long first = head.get();
+        long h     = first;
+        E    value;
+        int  i;
+
+        // Remove the slots that hold no value
+        while ((value = available(h, i = (int) h & mask)) == SKIP) {
+            elements[i] = null;
+            h++;
+        }
+
+        if (h != first) {
+            head.setRelease(h);
+        }
+
+        if (value == null) {
+            throw new EmptyDataStructureException("Cannot peek into an empty queue");
+        }
+
+        return value;
+    }
+
+    /**
+     * Removes and returns the value at the front
+     * of the queue, or null if the queue is empty.
+     * Only the consumer may call this.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Value at front of queue, or null.
+     */
+    public E poll() {
+        long first = head.get();
+        long h     = first;
+        E    value;
+        int  i;
+
+        // Remove the slots that hold no value
+        while ((value = available(h, i = (int) h & mask)) == SKIP) {
+            elements[i] = null;
+            h++;
+        }
+
+        // Clear the slot before publishing the
+        // head, which hands the slot to the producers
+        if (value != null) {
+            elements[i] = null;
+            h++;
+        }
+
+        if (h != first) {
+            head.setRelease(h);
+        }
+
+        return value;
+    }
+
+    /**
+     * Removes and returns the value at the front of the
+     * queue. Only the consumer may call this.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Value at front of queue.
+     */
+    public E remove() {
+        E value = poll();
+
+        if (value == null) {
+            throw new EmptyDataStructureException("Cannot dequeue from an empty queue");
+        }
+
+        return value;
+    }
+
+    /**
+     * Checks that a value may be inserted.
+     *
+     * @param value Value to insert.
+     * @throws IllegalArgumentException If the value is null.
+     */
+    protected static void verifyValue(Object value) {
+
+        if (value == null) {
+            throw new IllegalArgumentException("Ring buffer queues do not accept null values");
+        }
+    }
+
+    /**
+     * Returns the number of values in the queue. While
+     * other threads use the queue this is an estimate,
+     * and it counts the {@code SKIP} slots that the
+     * consumer has not removed yet.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Number of values in the queue.
+     */
+    @Override
+    public int size() {
+
+        // Read the head first, so the tail read
+        // after it can only be further ahead
+        long h = head.getAcquire();
+        long t = tail.getAcquire();
+
+        return (int) Math.max(0, Math.min(t - h, elements.length));
+    }
+
+    /**
+     * Returns a spliterator over the values. The number
+     * of values is not fixed while the queue is in use, so
+     * the spliterator does not report a size.
+     *
+     * @return Spliterator over the values.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.CONCURRENT);
+    }
+
+    /**
+     * Returns String representation
+     * of the queue.
+     *
+     * @return String representation.
+     */
+    @Override
+    public String toString() {
+        StringJoiner sj = new StringJoiner(", ", "[", "]");
+
+        for (E value : this) {
+            sj.add(value.toString());
+        }
+
+        return sj.toString();
+    }
+}
@@ -0,0 +1,124 @@
+package structures.commons;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Counter shared between threads that sits alone on its cache
+ * line. The counter is surrounded by unused fields, so that when
+ * one thread writes it, the cache lines of counters written by
+ * other threads stay valid. Without the padding, two counters
+ * that happen to share a cache line make the cores writing them
+ * take the line from each other on every write, known as false
+ * sharing. The padding sits in a super class and a sub class,
+ * because the JVM lays out the fields of a super class first
+ * but may reorder the fields within a class.
+ *
+ * @author Jabari Dash
+ */
+public final class Sequence extends SequenceValue {
+    @SuppressWarnings("unused")
+    private long p10, p11, p12, p13, p14, p15, p16;
+
+    /**
+     * Handle for ordered access to the counter.
+     */
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+
+        } catch (ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    /**
+     * Constructs counter with a specified initial value.
+     *
+     * @param value Initial value
+     */
+    public Sequence(long value) {
+        this.value = value;
+    }
+
+    /**
+     * Reads the counter without ordering, for
+     * the thread that is the only one to write it.
+     *
+     * @return Value of the counter
+     */
+    public long get() {
+        return (long) VALUE.get(this);
+    }
+
+    /**
+     * Reads the counter such that all writes made before
+     * the matching {@code setRelease()} are visible after.
+     *
+     * @return Value of the counter
+     */
+    public long getAcquire() {
+        return (long) VALUE.getAcquire(this);
+    }
+
+    /**
+     * Writes the counter without ordering, for a counter
+     * that only one thread reads and writes.
+     *
+     * @param value New value of the counter
+     */
+    public void set(long value) {
+        VALUE.set(this, value);
+    }
+
+    /**
+     * Writes the counter such that all writes made before
+     * are visible to a thread that reads the new value with
+     * {@code getAcquire()}. Cheaper than a volatile write,
+     * because later reads may still be done before it.
+     *
+     * @param value New value of the counter
+     */
+    public void setRelease(long value) {
+        VALUE.setRelease(this, value);
+    }
+
+    /**
+     * Atomically sets the counter to a new value if
+     * it still holds an expected value.
+     *
+     * @param expected Expected value
+     * @param value New value
+     * @return True if and only if the counter was set.
+     */
+    public boolean compareAndSet(long expected, long value) {
+        return VALUE.compareAndSet(this, expected, value);
+    }
+
+    /**
+     * Returns a String representation of the counter.
+     *
+     * @return String version of the counter's value
+     */
+    @Override
+    public String toString() {
+        return Long.toString(getAcquire());
+    }
+}
+
+/**
+ * Padding before the counter of a {@code Sequence}.
+ */
+abstract class SequencePadding {
+    @SuppressWarnings("unused")
+    private long p01, p02, p03, p04, p05, p06, p07;
+}
+
+/**
+ * Counter of a {@code Sequence}, between its padding.
+ */
+abstract class SequenceValue extends SequencePadding {
+    protected volatile long value;
+}
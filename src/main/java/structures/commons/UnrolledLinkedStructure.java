@@ -0,0 +1,719 @@
+package structures.commons;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+
+/**
+ * Abstract class for linked structures that pack several values
+ * into each node, known as an unrolled linked list. Each block
+ * holds up to a fixed number of values in a small array, so the
+ * cost of the node header and the prev and next pointers is shared
+ * by all the values in the block, and walking the chain follows one
+ * pointer per block rather than per value.
+ *
+ * <p>
+ * The values of a block sit in a contiguous run somewhere within
+ * its array. Inserting at either end of the structure uses the free
+ * slots on that side of the end block, and removing from either end
+ * just narrows the run, so neither shifts values within a block. An
+ * insertion into a full block in the middle splits it in half. Any
+ * removal, including one from an end, that leaves a block less than
+ * half full merges it with the next block if they fit into one. The
+ * merge copies the values of both blocks into one array, so queues
+ * and stacks still copy up to a block of values now and then.
+ *
+ * <p>
+ * Subclasses use {@code insertHead()}, {@code insertTail()},
+ * {@code insertMiddle()}, {@code delete()} and {@code getNode()}
+ * just as they would with {@code LinkedStructure}.
+ *
+ * @author Jabari Dash
+ * @param <E> Generic type
+ * @see LinkedStructure
+ */
+public abstract class UnrolledLinkedStructure<E> implements DataStructure<E>, Iterable<E> {
+
+    /**
+     * Default number of values per block.
+     */
+    private static final int DEFAULT_BLOCK_LENGTH = 64;
+
+    /**
+     * Smallest allowed number of values per block.
+     */
+    private static final int MINIMUM_BLOCK_LENGTH = 4;
+
+    /**
+     * Number of values each block can hold.
+     */
+    private final int BLOCK_LENGTH;
+
+    /**
+     * Number of elements in the structure.
+     */
+    protected int size;
+
+    /**
+     * Number of structural modifications, insertions and
+     * removals, the structure has undergone. Iterators compare
+     * it against the count they started with to detect
+     * modifications made while iterating.
+     */
+    protected int modCount;
+
+    /**
+     * Pointer to first block in the chain.
+     */
+    private Block<E> head;
+
+    /**
+     * Pointer to last block in the chain.
+     */
+    private Block<E> tail;
+
+    /**
+     * Position within the block returned by
+     * the most recent call to {@code getNode()}.
+     */
+    private int offset;
+
+    /**
+     * Constructs empty UnrolledLinkedStructure.
+     */
+    protected UnrolledLinkedStructure() {
+        this(DEFAULT_BLOCK_LENGTH);
+    }
+
+    /**
+     * Constructs empty UnrolledLinkedStructure whose blocks
+     * hold a specified number of values. Lengths below 4
+     * are raised to 4.
+     *
+     * @param blockLength Number of values per block.
+     */
+    protected UnrolledLinkedStructure(int blockLength) {
+        BLOCK_LENGTH = Math.max(blockLength, MINIMUM_BLOCK_LENGTH);
+    }
+
+    /**
+     * Constructs UnrolledLinkedStructure from
+     * an array of values.
+     *
+     * @param values Array of values to insert.
+     */
+    protected UnrolledLinkedStructure(E[] values) {
+        this();
+        insert(values);
+    }
+
+    /**
+     * Constructs UnrolledLinkedStructure from
+     * a collection of values.
+     *
+     * @param values Collection of values to insert.
+     */
+    protected UnrolledLinkedStructure(Collection<E> values) {
+        this();
+        insert(values);
+    }
+
+    /**
+     * Returns the number of values each block can hold.
+     *
+     * @return Number of values per block.
+     */
+    public int blockLength() {
+        return BLOCK_LENGTH;
+    }
+
+    /**
+     * Returns the number of blocks in the chain.
+     *
+     * <p>
+     * Time: O(n / b)<br>
+     * Space: O(1)
+     *
+     * @return Number of blocks.
+     */
+    public int blocks() {
+        int blocks = 0;
+
+        for (Block<E> block = head; block != null; block = block.next) {
+            blocks++;
+        }
+
+        return blocks;
+    }
+
+    /**
+     * Removes and returns the value at a specified index.
+     * Values are moved within the block toward the closer
+     * end of its run, and a block that is left empty is
+     * unlinked from the chain.
+     *
+     * Time: O(n / b + b)
+     * Space: O(1)
+     *
+     * @param index Specified index
+     * @return Value at that index.
+     */
+    protected E delete(int index) {
+
+        if (this.empty()) {
+            throw new EmptyDataStructureException("Cannot remove from an empty LinkedList");
+        }
+
+        Block<E> block = getNode(index);
+        int      i     = block.first + offset;
+        E        value = block.values[i];
+
+        // Close the gap from whichever
+        // side of the run is shorter
+        if (offset < block.count / 2) {
+            System.arraycopy(block.values, block.first, block.values, block.first + 1, offset);
+            block.values[block.first++] = null;
+        } else {
+            System.arraycopy(block.values, i + 1, block.values, i, block.count - offset - 1);
+            block.values[block.first + block.count - 1] = null;
+        }
+
+        block.count--;
+
+        if (block.count == 0) {
+            unlink(block);
+        } else if (block.count < BLOCK_LENGTH / 2 && block.next != null && block.count + block.next.count <= BLOCK_LENGTH) {
+            merge(block);
+        }
+
+        size--;
+        modCount++;
+
+        return value;
+    }
+
+    /**
+     * Determines whether or not this structure is equal to
+     * a provided object.
+     *
+     * @param object Object to compare this structure with.
+     * @return True if and only if their types are the same,
+     * lengths are the same, and the contain all the same elements.
+     */
+    @Override
+    public boolean equals(Object object) {
+        return equivalentTo(object);
+    }
+
+    /**
+     * Returns the block containing the value at a specified
+     * index, and remembers the position of the value within
+     * the block for {@code getValue()} and {@code setValue()}.
+     * The chain is walked from whichever end is closer, skipping
+     * a whole block at a time.
+     *
+     * Time: O(n / b)
+     * Space: O(1)
+     *
+     * @param index The specified index
+     * @return Block containing the value at the specified index
+     */
+    protected Block<E> getNode(int index) {
+        Block<E> block;
+
+        verifyIndex(index);
+
+        // Search from left to right
+        if (index < size / 2) {
+            block = head;
+
+            while (index >= block.count) {
+                index -= block.count;
+                block  = block.next;
+            }
+
+        // Search from right to left
+        } else {
+            block = tail;
+            index = size - 1 - index;
+
+            while (index >= block.count) {
+                index -= block.count;
+                block  = block.prev;
+            }
+
+            index = block.count - 1 - index;
+        }
+
+        offset = index;
+
+        return block;
+    }
+
+    /**
+     * Returns the value at a specified index.
+     *
+     * Time: O(n / b)
+     * Space: O(1)
+     *
+     * @param index Specified index
+     * @return Value at the specified index.
+     */
+    protected E getValue(int index) {
+        Block<E> block = getNode(index);
+
+        return block.values[block.first + offset];
+    }
+
+    /**
+     * Append a specified value to the back of the structure.
+     *
+     * Time: O(1)
+     * Space: O(1)
+     *
+     * @param value Specified value to be inserted
+     * @return True to indicate the insertion was successful.
+     */
+    @Override
+    public boolean insert(E value) {
+        return insertTail(value);
+    }
+
+    /**
+     * Prepends a new value to the front of the structure,
+     * into the free slots before the run of the first block,
+     * or into a new block whose run starts at its end.
+     *
+     * Time: O(1)
+     * Space: O(1)
+     *
+     * @param value New head value
+     * @return True if insertion is successful.
+     */
+    protected boolean insertHead(E value) {
+
+        if (head == null || head.first == 0) {
+            Block<E> block = new Block<>(BLOCK_LENGTH, BLOCK_LENGTH);
+
+            linkBefore(block, head);
+        }
+
+        head.values[--head.first] = value;
+        head.count++;
+
+        size++;
+        modCount++;
+
+        return true;
+    }
+
+    /**
+     * Inserts a new value at a specified index. A full
+     * block is split in half first, then the values on the
+     * shorter side of the index are moved over by one.
+     *
+     * Time: O(n / b + b)
+     * Space: O(1)
+     *
+     * @param value New value
+     * @param index Specified index
+     * @return True if the insertion is successful
+     */
+    protected boolean insertMiddle(E value, int index) {
+
+        if (this.empty() || index == 0) {
+            return insertHead(value);
+        }
+
+        Block<E> block = getNode(index);
+
+        // Make room by moving the upper
+        // half of the run to a new block
+        if (block.count == BLOCK_LENGTH) {
+            split(block);
+
+            if (offset > block.count) {
+                offset -= block.count;
+                block   = block.next;
+            }
+        }
+
+        place(block, offset, value);
+
+        size++;
+        modCount++;
+
+        return true;
+    }
+
+    /**
+     * Appends a new value to the back of the structure,
+     * into the free slots after the run of the last block,
+     * or into a new block whose run starts at its beginning.
+     *
+     * Time: O(1)
+     * Space: O(1)
+     *
+     * @param value New tail value
+     * @return True if the insertion is successful.
+     */
+    protected boolean insertTail(E value) {
+
+        if (tail == null || tail.first + tail.count == BLOCK_LENGTH) {
+            Block<E> block = new Block<>(BLOCK_LENGTH, 0);
+
+            linkAfter(block, tail);
+        }
+
+        tail.values[tail.first + tail.count++] = value;
+
+        size++;
+        modCount++;
+
+        return true;
+    }
+
+    /**
+     * Returns an Iterator to iterate over the structure.
+     * The iterator is fail-fast, and can be reset and reused.
+     *
+     * @return Iterator object.
+     */
+    @Override
+    public ResettableIterator<E> iterator() {
+        return new UnrolledLinkedStructureIterator();
+    }
+
+    /**
+     * Links a new block into the chain after a specified
+     * block, or as the only block if it is null.
+     *
+     * @param block New block
+     * @param before Block to link it after
+     */
+    private void linkAfter(Block<E> block, Block<E> before) {
+
+        if (before == null) {
+            head = block;
+            tail = block;
+            return;
+        }
+
+        block.prev = before;
+        block.next = before.next;
+
+        if (before.next != null) {
+            before.next.prev = block;
+        } else {
+            tail = block;
+        }
+
+        before.next = block;
+    }
+
+    /**
+     * Links a new block into the chain before a specified
+     * block, or as the only block if it is null.
+     *
+     * @param block New block
+     * @param after Block to link it before
+     */
+    private void linkBefore(Block<E> block, Block<E> after) {
+
+        if (after == null) {
+            head = block;
+            tail = block;
+            return;
+        }
+
+        block.next = after;
+        block.prev = after.prev;
+
+        if (after.prev != null) {
+            after.prev.next = block;
+        } else {
+            head = block;
+        }
+
+        after.prev = block;
+    }
+
+    /**
+     * Moves the values of the block after a specified
+     * block into it, and unlinks the emptied block. The
+     * values must fit into one block.
+     *
+     * @param block Block to merge the next block into
+     */
+    private void merge(Block<E> block) {
+        Block<E> next = block.next;
+
+        compact(block);
+        System.arraycopy(next.values, next.first, block.values, block.count, next.count);
+        block.count += next.count;
+
+        unlink(next);
+    }
+
+    /**
+     * Moves the run of a block to the beginning of its array.
+     *
+     * @param block Block to compact
+     */
+    private static <T> void compact(Block<T> block) {
+
+        if (block.first != 0) {
+            System.arraycopy(block.values, block.first, block.values, 0, block.count);
+            Arrays.fill(block.values, Math.max(block.first, block.count), block.first + block.count, null);
+            block.first = 0;
+        }
+    }
+
+    /**
+     * Inserts a value at a specified position in the
+     * run of a block that is not full, moving the values
+     * on the shorter side of the position that has room.
+     *
+     * @param block Block to insert into
+     * @param position Position within the run
+     * @param value Value to insert
+     */
+    private void place(Block<E> block, int position, E value) {
+        boolean left  = block.first > 0;
+        boolean right = block.first + block.count < BLOCK_LENGTH;
+
+        // Move the values before the position one to the left
+        if (left && (!right || position < block.count / 2)) {
+            System.arraycopy(block.values, block.first, block.values, block.first - 1, position);
+            block.first--;
+
+        // Move the values after the position one to the right
+        } else {
+            int i = block.first + position;
+            System.arraycopy(block.values, i, block.values, i + 1, block.count - position);
+        }
+
+        block.values[block.first + position] = value;
+        block.count++;
+    }
+
+//------------------------------------------------------------------------------
+
+    /**
+     * Updates the value at a specified index.
+     *
+     * @param value New value
+     * @param index Specified index
+     */
+    protected void setValue(E value, int index) {
+        Block<E> block = getNode(index);
+
+        block.values[block.first + offset] = value;
+    }
+
+//------------------------------------------------------------------------------
+
+    /**
+     * Returns the number of elements in the structure.
+     *
+     * @return Number of elements in structure
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Moves the upper half of the run of a full
+     * block into a new block linked after it.
+     *
+     * @param block Full block to split
+     */
+    private void split(Block<E> block) {
+        int      half = block.count / 2;
+        Block<E> next = new Block<>(BLOCK_LENGTH, 0);
+
+        // The block is full, so its run starts at 0
+        System.arraycopy(block.values, half, next.values, 0, block.count - half);
+        Arrays.fill(block.values, half, block.count, null);
+
+        next.count  = block.count - half;
+        block.count = half;
+
+        linkAfter(next, block);
+    }
+
+//------------------------------------------------------------------------------
+
+    /**
+     * Returns a String representation
+     * of the structure.
+     *
+     * @return String representation
+     */
+    @Override
+    public String toString() {
+        StringJoiner sj = new StringJoiner(", ", "[", "]");
+
+        for (E value : this) {
+            sj.add(value.toString());
+        }
+
+        return sj.toString();
+    }
+
+    /**
+     * Removes a block from the chain.
+     *
+     * @param block Block to unlink
+     */
+    private void unlink(Block<E> block) {
+
+        if (block.prev != null) {
+            block.prev.next = block.next;
+        } else {
+            head = block.next;
+        }
+
+        if (block.next != null) {
+            block.next.prev = block.prev;
+        } else {
+            tail = block.prev;
+        }
+
+        block.prev = null;
+        block.next = null;
+    }
+
+//------------------------------------------------------------------------------
+
+    /**
+     * Iterator that walks the chain block by block, and the
+     * run of each block by position, in O(n) time overall.
+     *
+     * <p>
+     * The iterator is fail-fast: if the structure is modified
+     * after the iterator was created or last reset, the iterator
+     * throws a {@code ConcurrentModificationException}. Calling
+     * {@code reset()} rewinds it to the first value, so one
+     * instance can be reused for any number of passes.
+     */
+    private final class UnrolledLinkedStructureIterator implements ResettableIterator<E> {
+        private Block<E> block;            // Block whose value is returned next
+        private int      position;         // Position of that value within the run
+        private int      expectedModCount; // Modifications when the iteration started
+
+        /**
+         * Constructs iterator starting
+         * at the head of the structure.
+         */
+        private UnrolledLinkedStructureIterator() {
+            reset();
+        }
+
+        /**
+         * Rewinds the iterator to the first value.
+         *
+         * @return This iterator.
+         */
+        @Override
+        public UnrolledLinkedStructureIterator reset() {
+            block            = head;
+            position         = 0;
+            expectedModCount = modCount;
+
+            return this;
+        }
+
+        /**
+         * Determines whether or not there
+         * are more values to iterate over.
+         *
+         * @return True if and only if there are more values
+         */
+        @Override
+        public boolean hasNext() {
+            return block != null;
+        }
+
+        /**
+         * Returns the next value in the chain.
+         *
+         * @return Next value
+         * @throws ConcurrentModificationException if the structure was modified
+         */
+        @Override
+        public E next() {
+
+            // The structure changed underneath the iterator
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (!hasNext()) {
+                throw new NoSuchElementException("No element");
+            }
+
+            E value = block.values[block.first + position++];
+
+            // Move on to the next block
+            if (position == block.count) {
+                block    = block.next;
+                position = 0;
+            }
+
+            return value;
+        }
+    }
+
+//------------------------------------------------------------------------------
+
+    /**
+     * Block of values chained together in an unrolled
+     * linked structure. The values occupy a contiguous
+     * run of {@code count} slots starting at {@code first}.
+     *
+     * @author Jabari Dash
+     * @param <T> Generic type
+     */
+    public static class Block<T> {
+        public final T[] values; // Slots for the values of the block
+        public int       first;  // Index of the first value in the block
+        public int       count;  // Number of values in the block
+        public Block<T>  prev;   // Pointer to previous block in chain
+        public Block<T>  next;   // Pointer to next block in chain
+
+        /**
+         * Constructs an empty {@code Block} with a specified
+         * number of slots, whose run starts at a specified slot.
+         *
+         * @param length Number of slots
+         * @param first Slot the run starts at
+         */
+        @SuppressWarnings("unchecked")
+        public Block(int length, int first) {
+
+            this.values = (T[]) new Object[length];
+            this.first  = first;
+            this.count  = 0;
+        }
+
+        /**
+         * Returns a String representation of the block
+         *
+         * @return String version of the block's values
+         */
+        @Override
+        public String toString() {
+            StringJoiner sj = new StringJoiner(", ", "[", "]");
+
+            for (int i = first; i < first + count; i++) {
+                sj.add(String.valueOf(values[i]));
+            }
+
+            return sj.toString();
+        }
+    }
+}
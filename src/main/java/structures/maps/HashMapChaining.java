@@ -1,4 +1,868 @@
 package structures.maps;
-// useful: https://www.javacodegeeks.com/2013/12/advanced-java-generics-retreiving-generic-type-arguments.html
-public final class HashMapChaining {
+
+import structures.commons.Pair;
+import structures.commons.ResettableIterator;
+import structures.trees.AVLTree;
+
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Hash map with separate chaining. Each slot of the table holds
+ * the bucket of keys whose hash codes map to it, which starts out as
+ * a singly linked chain of nodes. The length of the table is a power
+ * of two, and the table doubles when the number of keys passes the
+ * load factor times its length.
+ *
+ * <p>
+ * A good hash function keeps the chains short, but keys chosen to
+ * collide, for example by a client attacking a server, can make all
+ * keys land in the same chain, and each lookup linear. So when a
+ * chain reaches {@code TREEIFY_THRESHOLD} nodes, it is turned into an
+ * {@code AVLTree} ordered by the keys, in which a lookup takes
+ * logarithmic time no matter how many keys collide. A tree that
+ * shrinks to {@code UNTREEIFY_THRESHOLD} nodes turns back into a chain.
+ * While the table is shorter than {@code MIN_TREEIFY_LENGTH}, a long
+ * chain makes the table grow instead, because that usually splits it.
+ *
+ * <p>
+ * A bucket only becomes a tree if all of its keys are of the same
+ * class, that class is {@code Comparable}, and no two of the keys
+ * compare as equal. Other buckets stay chains. A key that is inserted
+ * into a tree turns the tree back into a chain if it is of another
+ * class, or compares as equal to a key it does not equal, the way
+ * {@code BigDecimal} 1.0 and 1.00 do.
+ *
+ * @author Jabari Dash
+ * @param <K> Generic type of the keys
+ * @param <V> Generic type of the values
+ */
+public final class HashMapChaining<K, V> implements Map<K, V> {
+
+    /**
+     * Default number of keys the map
+     * holds before it has to grow.
+     */
+    private static final int DEFAULT_CAPACITY = 12;
+
+    /**
+     * Default largest number of keys per slot.
+     */
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    /**
+     * Largest length of the table.
+     */
+    private static final int MAXIMUM_LENGTH = 1 << 30;
+
+    /**
+     * Number of nodes at which a chain becomes a tree.
+     */
+    private static final int TREEIFY_THRESHOLD = 8;
+
+    /**
+     * Number of nodes at which a tree becomes a chain.
+     */
+    private static final int UNTREEIFY_THRESHOLD = 6;
+
+    /**
+     * Shortest table in which chains become trees.
+     */
+    private static final int MIN_TREEIFY_LENGTH = 64;
+
+    /**
+     * Largest number of keys per slot
+     * before the table doubles in length.
+     */
+    private final float loadFactor;
+
+    /**
+     * Buckets of the map. Each is null, the first
+     * node of a chain, or a {@code TreeBucket}.
+     */
+    private Object[] table;
+
+    /**
+     * Length of the table minus one.
+     */
+    private int mask;
+
+    /**
+     * Number of keys in the map.
+     */
+    private int size;
+
+    /**
+     * Number of keys at which the table grows.
+     */
+    private int threshold;
+
+    /**
+     * Number of structural modifications,
+     * so that iterators can fail fast.
+     */
+    private int modCount;
+
+    /**
+     * Constructs empty map.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     */
+    public HashMapChaining() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs empty map that holds a specified
+     * number of keys before it has to grow.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(n)
+     *
+     * @param capacity Number of keys.
+     */
+    public HashMapChaining(int capacity) {
+        this(capacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs empty map that holds a specified number of keys
+     * before it has to grow, with at most a specified average
+     * number of keys per slot.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(n)
+     *
+     * @param capacity Number of keys.
+     * @param loadFactor Largest average number of keys per slot.
+     */
+    public HashMapChaining(int capacity, float loadFactor) {
+
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative, not " + capacity);
+        }
+
+        if (!(loadFactor > 0)) {
+            throw new IllegalArgumentException("Load factor must be positive, not " + loadFactor);
+        }
+
+        this.loadFactor = loadFactor;
+
+        allocate(lengthFor(capacity));
+    }
+
+    /**
+     * Constructs map from an array of keys,
+     * each of which maps to null.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(n)
+     *
+     * @param keys Array of keys
+     */
+    public HashMapChaining(K[] keys) {
+        this(keys.length);
+        insert(keys);
+    }
+
+    /**
+     * Constructs map from a collection of keys,
+     * each of which maps to null.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(n)
+     *
+     * @param keys Collection of keys
+     */
+    public HashMapChaining(Collection<K> keys) {
+        this(keys.size());
+        insert(keys);
+    }
+
+    /**
+     * Determines whether or not the map contains a specified key.
+     *
+     * <p>
+     * Time: O(1), expected, O(log(n)) worst case for comparable keys<br>
+     * Space: O(1)
+     *
+     * @param key Specified key
+     * @return True if and only if the key is in the map
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return find(key) != null;
+    }
+
+    /**
+     * Determines whether or not this map is equal to
+     * a provided object.
+     *
+     * @param object Object to compare this map with.
+     * @return True if and only if their types are the same, sizes
+     * are the same, and they map the same keys to the same values.
+     */
+    @Override
+    public boolean equals(Object object) {
+        return equivalentTo(object);
+    }
+
+    /**
+     * Returns the value of a specified key.
+     *
+     * <p>
+     * Time: O(1), expected, O(log(n)) worst case for comparable keys<br>
+     * Space: O(1)
+     *
+     * @param key Specified key
+     * @return Value of the key, or null if the key is not in the map
+     */
+    @Override
+    public V get(K key) {
+        Node<K, V> node = find(key);
+
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Returns a hash code that depends only on
+     * the pairs, like {@code equals()} does.
+     *
+     * @return Hash code of the map.
+     */
+    @Override
+    public int hashCode() {
+        return contentHash();
+    }
+
+    /**
+     * Returns an iterator over copies of the pairs of the
+     * map, bucket by bucket in the order of the table.
+     *
+     * @return Iterator object.
+     */
+    @Override
+    public ResettableIterator<Pair<K, V>> iterator() {
+        return new HashMapChainingIterator();
+    }
+
+    /**
+     * Maps a specified key to a specified value, replacing
+     * the value the key had if it was already in the map.
+     *
+     * <p>
+     * Time: O(1), expected and amortized, O(log(n)) worst case for comparable keys<br>
+     * Space: O(1)
+     *
+     * @param key Specified key
+     * @param value Specified value
+     * @return Previous value of the key, or null
+     * @throws IllegalArgumentException If the key is null.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        int    hash   = hash(key);
+        int    i      = hash & mask;
+        Object bucket = table[i];
+
+        if (bucket instanceof TreeBucket) {
+            TreeBucket<K, V> tree = (TreeBucket<K, V>) bucket;
+            Node<K, V>       node = tree.find(key);
+
+            if (node != null) {
+                V previous = node.value;
+                node.value = value;
+                return previous;
+            }
+
+            if (tree.comparable(key) && tree.insert(new Node<>(hash, key, value))) {
+                return inserted();
+            }
+
+            // The key cannot be told apart from the
+            // others by comparing, so fall back to a chain
+            bucket = table[i] = tree.chain();
+        }
+
+        Node<K, V> first  = (Node<K, V>) bucket;
+        Node<K, V> last   = null;
+        int        length = 0;
+
+        for (Node<K, V> node = first; node != null; node = node.next) {
+
+            if (node.hash == hash && (node.key == key || node.key.equals(key))) {
+                V previous = node.value;
+                node.value = value;
+                return previous;
+            }
+
+            last = node;
+            length++;
+        }
+
+        Node<K, V> node = new Node<>(hash, key, value);
+
+        if (last == null) {
+            table[i] = node;
+        } else {
+            last.next = node;
+        }
+
+        if (length + 1 >= TREEIFY_THRESHOLD) {
+            treeify(i);
+        }
+
+        return inserted();
+    }
+
+    /**
+     * Removes a specified key and its value from the map.
+     *
+     * <p>
+     * Time: O(1), expected, O(log(n)) worst case for comparable keys<br>
+     * Space: O(1)
+     *
+     * @param key Specified key
+     * @return Value the key had, or null if the key was not in the map
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(K key) {
+        int    hash   = hash(key);
+        int    i      = hash & mask;
+        Object bucket = table[i];
+
+        if (bucket instanceof TreeBucket) {
+            TreeBucket<K, V> tree = (TreeBucket<K, V>) bucket;
+            Node<K, V>       node = tree.find(key);
+
+            if (node == null) {
+                return null;
+            }
+
+            tree.remove(node);
+
+            if (tree.size() <= UNTREEIFY_THRESHOLD) {
+                table[i] = tree.chain();
+            }
+
+            return removed(node);
+        }
+
+        Node<K, V> previous = null;
+
+        for (Node<K, V> node = (Node<K, V>) bucket; node != null; node = node.next) {
+
+            if (node.hash == hash && (node.key == key || node.key.equals(key))) {
+
+                if (previous == null) {
+                    table[i] = node.next;
+                } else {
+                    previous.next = node.next;
+                }
+
+                return removed(node);
+            }
+
+            previous = node;
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the number of keys in the map.
+     *
+     * @return Number of keys in the map.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns String representation
+     * of the map.
+     *
+     * @return String representation.
+     */
+    @Override
+    public String toString() {
+        return asString();
+    }
+
+    /**
+     * Returns the number of buckets that are trees rather
+     * than chains, which is a sign of colliding keys.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @return Number of tree buckets.
+     */
+    public int treeBuckets() {
+        int count = 0;
+
+        for (Object bucket : table) {
+
+            if (bucket instanceof TreeBucket) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+//------------------------------------------------------------------------------
+
+    /**
+     * Creates an empty table of a specified length.
+     *
+     * @param length Length of the table, a power of two.
+     */
+    private void allocate(int length) {
+        table     = new Object[length];
+        mask      = length - 1;
+        threshold = (int) Math.min(Integer.MAX_VALUE, (long) (length * (double) loadFactor));
+    }
+
+    /**
+     * Returns the node of a specified key,
+     * or null if the key is not in the map.
+     *
+     * @param key Specified key
+     * @return Node of the key, or null.
+     */
+    @SuppressWarnings("unchecked")
+    private Node<K, V> find(K key) {
+        int    hash   = hash(key);
+        Object bucket = table[hash & mask];
+
+        if (bucket instanceof TreeBucket) {
+            return ((TreeBucket<K, V>) bucket).find(key);
+        }
+
+        for (Node<K, V> node = (Node<K, V>) bucket; node != null; node = node.next) {
+
+            if (node.hash == hash && (node.key == key || node.key.equals(key))) {
+                return node;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the hash code of a specified key,
+     * with the high bits folded into the low ones.
+     *
+     * @param key Specified key
+     * @return Hash code of the key.
+     * @throws IllegalArgumentException If the key is null.
+     */
+    private static int hash(Object key) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("HashMapChaining does not accept null keys");
+        }
+
+        int h = key.hashCode();
+
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Counts an inserted key, and grows
+     * the table if it has passed the threshold.
+     *
+     * @return Null, the previous value of the key.
+     */
+    private V inserted() {
+        modCount++;
+
+        if (++size > threshold && table.length < MAXIMUM_LENGTH) {
+            resize(table.length << 1);
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the length of the table needed to hold
+     * a specified number of keys within the load factor.
+     *
+     * @param capacity Number of keys.
+     * @return Length of the table, a power of two.
+     */
+    private int lengthFor(int capacity) {
+        double needed = Math.ceil(capacity / (double) loadFactor);
+
+        if (needed >= MAXIMUM_LENGTH) {
+            return MAXIMUM_LENGTH;
+        }
+
+        return Math.max(2, Integer.highestOneBit(Math.max(1, (int) needed - 1)) << 1);
+    }
+
+    /**
+     * Counts a removed key.
+     *
+     * @param node Node of the removed key.
+     * @return Value of the removed key.
+     */
+    private V removed(Node<K, V> node) {
+        size--;
+        modCount++;
+
+        return node.value;
+    }
+
+    /**
+     * Moves every node into a table of a specified length,
+     * using the cached hash codes. Each bucket splits into
+     * two, and buckets that are still long become trees.
+     *
+     * @param length New length of the table.
+     */
+    @SuppressWarnings("unchecked")
+    private void resize(int length) {
+        Object[] old = table;
+
+        allocate(length);
+
+        int[] lengths = new int[length];
+
+        for (Object bucket : old) {
+            Node<K, V> node = bucket instanceof TreeBucket ? ((TreeBucket<K, V>) bucket).chain() : (Node<K, V>) bucket;
+
+            while (node != null) {
+                Node<K, V> next = node.next;
+                int        i    = node.hash & mask;
+
+                node.next = (Node<K, V>) table[i];
+                table[i]  = node;
+                lengths[i]++;
+                node      = next;
+            }
+        }
+
+        // A table this short grows again
+        // rather than make trees anyway
+        if (length < MIN_TREEIFY_LENGTH) {
+            return;
+        }
+
+        for (int i = 0; i < length; i++) {
+
+            if (lengths[i] >= TREEIFY_THRESHOLD) {
+                treeify(i);
+            }
+        }
+    }
+
+    /**
+     * Turns the chain in a specified slot into a tree, if
+     * its keys can be compared, or grows the table instead
+     * if it is still short.
+     *
+     * @param i Slot of the chain.
+     */
+    @SuppressWarnings("unchecked")
+    private void treeify(int i) {
+
+        if (table.length < MIN_TREEIFY_LENGTH) {
+            resize(table.length << 1);
+            return;
+        }
+
+        Node<K, V> first = (Node<K, V>) table[i];
+        Class<?>   type  = first.key.getClass();
+
+        if (!Comparable.class.isAssignableFrom(type)) {
+            return;
+        }
+
+        TreeBucket<K, V> tree = new TreeBucket<>(type);
+
+        // Keep the chain unless the tree can
+        // hold every key apart from the others
+        for (Node<K, V> node = first; node != null; node = node.next) {
+
+            if (!tree.comparable(node.key) || !tree.insert(node)) {
+                return;
+            }
+        }
+
+        for (Node<K, V> node = first, next; node != null; node = next) {
+            next      = node.next;
+            node.next = null;
+        }
+
+        table[i] = tree;
+    }
+
+//------------------------------------------------------------------------------
+
+    /**
+     * Iterator over the buckets in order of the table,
+     * and over the nodes of each bucket. Fails fast
+     * if keys are inserted or removed while it runs.
+     */
+    private final class HashMapChainingIterator implements ResettableIterator<Pair<K, V>> {
+        private int                  slot;             // Slot of the next bucket to visit
+        private Node<K, V>           node;             // Node returned next in a chain
+        private Iterator<Node<K, V>> nodes;            // Nodes left in a tree bucket
+        private int                  expectedModCount; // Number of modifications when iteration started
+
+        /**
+         * Constructs iterator starting at the first slot.
+         */
+        private HashMapChainingIterator() {
+            reset();
+        }
+
+        /**
+         * Moves on to the next bucket
+         * that holds any keys.
+         */
+        @SuppressWarnings("unchecked")
+        private void advance() {
+
+            while (node == null && (nodes == null || !nodes.hasNext()) && slot < table.length) {
+                Object bucket = table[slot++];
+
+                if (bucket instanceof TreeBucket) {
+                    nodes = ((TreeBucket<K, V>) bucket).nodes();
+                } else {
+                    node  = (Node<K, V>) bucket;
+                    nodes = null;
+                }
+            }
+        }
+
+        /**
+         * Rewinds the iterator to the first
+         * pair of the map in its present state.
+         *
+         * @return This iterator.
+         */
+        @Override
+        public HashMapChainingIterator reset() {
+            slot             = 0;
+            node             = null;
+            nodes            = null;
+            expectedModCount = modCount;
+            advance();
+            return this;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return node != null || (nodes != null && nodes.hasNext());
+        }
+
+        @Override
+        public Pair<K, V> next() {
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (!hasNext()) {
+                throw new NoSuchElementException("No element");
+            }
+
+            Node<K, V> current;
+
+            if (node != null) {
+                current = node;
+                node    = node.next;
+            } else {
+                current = nodes.next();
+            }
+
+            advance();
+
+            return new Entry<>(current.key, current.value);
+        }
+    }
+
+//------------------------------------------------------------------------------
+
+    /**
+     * Node of a chain. Nodes keep their key, value and hash
+     * code when their bucket becomes a tree, so that turning
+     * it back into a chain does not allocate.
+     *
+     * @param <K> Generic type of the key
+     * @param <V> Generic type of the value
+     */
+    private static final class Node<K, V> {
+        final int  hash;  // Cached hash code of the key
+        final K    key;   // Key of the node
+        V          value; // Value of the key
+        Node<K, V> next;  // Pointer to next node in chain
+
+        /**
+         * Constructs a new node with a specified key and value.
+         *
+         * @param hash Hash code of the key
+         * @param key Key of the node
+         * @param value Value of the key
+         */
+        Node(int hash, K key, V value) {
+            this.hash  = hash;
+            this.key   = key;
+            this.value = value;
+        }
+    }
+
+//------------------------------------------------------------------------------
+
+    /**
+     * Bucket of keys of one comparable class, kept in an
+     * {@code AVLTree} from the keys to their nodes. No two
+     * of the keys compare as equal.
+     *
+     * @param <K> Generic type of the keys
+     * @param <V> Generic type of the values
+     */
+    @SuppressWarnings("unchecked")
+    private static final class TreeBucket<K, V> {
+        private final AVLTree<Comparable<Object>, Node<K, V>> tree = new AVLTree<>(); // Nodes by key
+        private final Class<?>                                type;                   // Class of all the keys
+
+        /**
+         * Constructs empty bucket for keys of a specified class.
+         *
+         * @param type Class of the keys, which is comparable.
+         */
+        TreeBucket(Class<?> type) {
+            this.type = type;
+        }
+
+        /**
+         * Unlinks the nodes from the tree,
+         * and links them into a chain.
+         *
+         * @return First node of the chain.
+         */
+        Node<K, V> chain() {
+            Node<K, V> first = null;
+
+            for (Iterator<Node<K, V>> nodes = nodes(); nodes.hasNext(); ) {
+                Node<K, V> node = nodes.next();
+
+                node.next = first;
+                first     = node;
+            }
+
+            return first;
+        }
+
+        /**
+         * Determines whether or not a key
+         * can be compared with the keys.
+         *
+         * @param key Specified key
+         * @return True if and only if the key is of the class of the others.
+         */
+        boolean comparable(K key) {
+            return key.getClass() == type;
+        }
+
+        /**
+         * Returns the node of a specified key, or null. The
+         * node that compares as equal to the key holds it
+         * only if the two keys are also equal. A key of
+         * another class cannot be compared with the keys,
+         * but may still equal one, so it is searched for
+         * among all of them.
+         *
+         * @param key Specified key
+         * @return Node of the key, or null.
+         */
+        Node<K, V> find(K key) {
+
+            if (comparable(key)) {
+                Node<K, V> node = tree.get((Comparable<Object>) key);
+
+                return node != null && node.key.equals(key) ? node : null;
+            }
+
+            for (Iterator<Node<K, V>> nodes = nodes(); nodes.hasNext(); ) {
+                Node<K, V> node = nodes.next();
+
+                if (node.key.equals(key)) {
+                    return node;
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Inserts a node whose key is not in the tree
+         * yet, and is of the class of the others, unless
+         * it compares as equal to one of them.
+         *
+         * @param node Node to insert.
+         * @return True if and only if the node was inserted.
+         */
+        boolean insert(Node<K, V> node) {
+            return tree.insert((Comparable<Object>) node.key, node);
+        }
+
+        /**
+         * Returns an iterator over the nodes in the tree, in
+         * order of their keys, over a list of them taken when
+         * it is created.
+         *
+         * @return Iterator over the nodes.
+         */
+        Iterator<Node<K, V>> nodes() {
+            Iterator<Pair<Comparable<Object>, Node<K, V>>> pairs = tree.pairs(AVLTree.IN_ORDER).iterator();
+
+            return new Iterator<Node<K, V>>() {
+
+                @Override
+                public boolean hasNext() {
+                    return pairs.hasNext();
+                }
+
+                @Override
+                public Node<K, V> next() {
+                    return pairs.next().value();
+                }
+            };
+        }
+
+        /**
+         * Removes a node that is in the tree.
+         *
+         * @param node Node to remove.
+         */
+        void remove(Node<K, V> node) {
+            tree.remove((Comparable<Object>) node.key);
+        }
+
+        /**
+         * Returns the number of nodes in the tree.
+         *
+         * @return Number of nodes.
+         */
+        int size() {
+            return tree.size();
+        }
+    }
 }
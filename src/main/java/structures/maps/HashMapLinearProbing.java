@@ -1,4 +1,753 @@
 package structures.maps;
 
-public final class HashMapLinearProbing {
+import structures.commons.Pair;
+import structures.commons.ResettableIterator;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/**
+ * Hash map with open addressing and linear probing. The keys, values
+ * and hash codes sit in three parallel arrays, and a key that finds
+ * its home slot taken goes into the next free slot after it. Lookups
+ * therefore read consecutive slots of the same arrays, which mostly
+ * sit in the same cache lines, instead of following a pointer per
+ * entry as chaining does.
+ *
+ * <p>
+ * The length of the arrays is a power of two. The home slot of a key
+ * is taken from the top bits of its hash code times a large odd
+ * constant, so that keys whose hash codes only differ in the high
+ * bits still spread over the table. The hash code of each key is
+ * cached, so that most mismatching keys are skipped without calling
+ * {@code equals()}, and growing the table never calls
+ * {@code hashCode()}.
+ *
+ * <p>
+ * Removing a key does not leave a tombstone behind. Instead, the keys
+ * after it in the same run of slots that would be found earlier by
+ * moving back are shifted back into the gap, so lookups never probe
+ * past deleted entries.
+ *
+ * <p>
+ * In Robin Hood mode, a key being inserted takes the slot of any key
+ * it passes that is closer to its own home slot than the new key is,
+ * and that key moves on instead. Keys that are far from home thus
+ * take from keys that are close to home, which evens out how far keys
+ * are from home and shortens the longest probes, at the cost of some
+ * extra moves when inserting. It also keeps each run of slots sorted
+ * by home slot, so a lookup can stop at the first key closer to its
+ * home than the lookup is to its own, instead of at the next empty
+ * slot, which makes looking up missing keys much cheaper. Removing a
+ * key then only shifts keys back until one is in its home slot.
+ * {@code probeHistogram()} and {@code missProbeHistogram()} show how
+ * far lookups probe in either mode.
+ *
+ * @author Jabari Dash
+ * @param <K> Generic type of the keys
+ * @param <V> Generic type of the values
+ */
+public final class HashMapLinearProbing<K, V> implements Map<K, V> {
+
+    /**
+     * Default number of keys the map
+     * holds before it has to grow.
+     */
+    private static final int DEFAULT_CAPACITY = 8;
+
+    /**
+     * Default largest fraction of the slots in use.
+     */
+    private static final float DEFAULT_LOAD_FACTOR = 0.5f;
+
+    /**
+     * Largest length of the arrays.
+     */
+    private static final int MAXIMUM_LENGTH = 1 << 30;
+
+    /**
+     * Largest fraction of the slots in use
+     * before the arrays double in length.
+     */
+    private final float loadFactor;
+
+    /**
+     * Whether or not inserting displaces
+     * keys closer to their home slot.
+     */
+    private final boolean robinHood;
+
+    /**
+     * Keys, null in empty slots.
+     */
+    private K[] keys;
+
+    /**
+     * Values of the keys in the same slots.
+     */
+    private V[] values;
+
+    /**
+     * Hash codes of the keys in the same slots.
+     */
+    private int[] hashes;
+
+    /**
+     * Number of bits to shift a scrambled
+     * hash code right to get a slot.
+     */
+    private int shift;
+
+    /**
+     * Length of the arrays minus one.
+     */
+    private int mask;
+
+    /**
+     * Number of keys in the map.
+     */
+    private int size;
+
+    /**
+     * Number of keys at which the arrays grow.
+     */
+    private int threshold;
+
+    /**
+     * Number of structural modifications,
+     * so that iterators can fail fast.
+     */
+    private int modCount;
+
+    /**
+     * Constructs empty map.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     */
+    public HashMapLinearProbing() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs empty map that holds a specified
+     * number of keys before it has to grow.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(n)
+     *
+     * @param capacity Number of keys.
+     */
+    public HashMapLinearProbing(int capacity) {
+        this(capacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs empty map that holds a specified number
+     * of keys before it has to grow, and uses at most
+     * a specified fraction of its slots.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(n)
+     *
+     * @param capacity Number of keys.
+     * @param loadFactor Largest fraction of the slots in use, below 1.
+     */
+    public HashMapLinearProbing(int capacity, float loadFactor) {
+        this(capacity, loadFactor, false);
+    }
+
+    /**
+     * Constructs empty map that holds a specified number
+     * of keys before it has to grow, uses at most a specified
+     * fraction of its slots, and optionally uses Robin Hood
+     * hashing.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(n)
+     *
+     * @param capacity Number of keys.
+     * @param loadFactor Largest fraction of the slots in use, below 1.
+     * @param robinHood Whether or not to use Robin Hood hashing.
+     */
+    public HashMapLinearProbing(int capacity, float loadFactor, boolean robinHood) {
+
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative, not " + capacity);
+        }
+
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Load factor must be between 0 and 1, not " + loadFactor);
+        }
+
+        this.loadFactor = loadFactor;
+        this.robinHood  = robinHood;
+
+        allocate(lengthFor(capacity));
+    }
+
+    /**
+     * Constructs map from an array of keys,
+     * each of which maps to null.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(n)
+     *
+     * @param keys Array of keys
+     */
+    public HashMapLinearProbing(K[] keys) {
+        this(keys.length);
+        insert(keys);
+    }
+
+    /**
+     * Constructs map from a collection of keys,
+     * each of which maps to null.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(n)
+     *
+     * @param keys Collection of keys
+     */
+    public HashMapLinearProbing(Collection<K> keys) {
+        this(keys.size());
+        insert(keys);
+    }
+
+    /**
+     * Determines whether or not the map contains a specified key.
+     *
+     * <p>
+     * Time: O(1), expected<br>
+     * Space: O(1)
+     *
+     * @param key Specified key
+     * @return True if and only if the key is in the map
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Determines whether or not this map is equal to
+     * a provided object.
+     *
+     * @param object Object to compare this map with.
+     * @return True if and only if their types are the same, sizes
+     * are the same, and they map the same keys to the same values.
+     */
+    @Override
+    public boolean equals(Object object) {
+        return equivalentTo(object);
+    }
+
+    /**
+     * Returns the value of a specified key.
+     *
+     * <p>
+     * Time: O(1), expected<br>
+     * Space: O(1)
+     *
+     * @param key Specified key
+     * @return Value of the key, or null if the key is not in the map
+     */
+    @Override
+    public V get(K key) {
+        int i = find(key);
+
+        return i < 0 ? null : values[i];
+    }
+
+    /**
+     * Returns a hash code that depends only on
+     * the pairs, like {@code equals()} does.
+     *
+     * @return Hash code of the map.
+     */
+    @Override
+    public int hashCode() {
+        return contentHash();
+    }
+
+    /**
+     * Returns an iterator over copies of the pairs of
+     * the map, in the order of the slots they are in.
+     *
+     * @return Iterator object.
+     */
+    @Override
+    public ResettableIterator<Pair<K, V>> iterator() {
+        return new HashMapLinearProbingIterator();
+    }
+
+    /**
+     * Maps a specified key to a specified value, replacing
+     * the value the key had if it was already in the map.
+     *
+     * <p>
+     * Time: O(1), expected and amortized<br>
+     * Space: O(1)
+     *
+     * @param key Specified key
+     * @param value Specified value
+     * @return Previous value of the key, or null
+     * @throws IllegalArgumentException If the key is null.
+     */
+    @Override
+    public V put(K key, V value) {
+        int hash = hash(key);
+        int i    = probe(hash, key);
+
+        if (i >= 0) {
+            V previous = values[i];
+            values[i] = value;
+            return previous;
+        }
+
+        // Grow before inserting, so there
+        // is always an empty slot left
+        if (size >= threshold) {
+            grow();
+            i = probe(hash, key);
+        }
+
+        place(~i, hash, key, value);
+        size++;
+        modCount++;
+
+        return null;
+    }
+
+    /**
+     * Returns how far lookups of the keys in the map probe.
+     * Entry d of the histogram is the number of keys that are
+     * d slots past their home slot, and which a lookup finds
+     * after reading d + 1 slots.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(d), for the longest distance d
+     *
+     * @return Histogram of the probe lengths of the keys.
+     */
+    public int[] probeHistogram() {
+        int[] histogram = new int[0];
+
+        for (int i = 0; i < keys.length; i++) {
+
+            if (keys[i] != null) {
+                histogram = count(histogram, distance(i));
+            }
+        }
+
+        return histogram;
+    }
+
+    /**
+     * Returns how far lookups of keys that are not in the map
+     * probe. Entry d of the histogram is the number of home slots
+     * from which such a lookup reads d slots with keys before it
+     * gives up, at an empty slot, or in Robin Hood mode, also
+     * at a key closer to its own home slot.
+     *
+     * <p>
+     * Time: O(n), expected<br>
+     * Space: O(d), for the longest probe d
+     *
+     * @return Histogram of the probe lengths of missing keys.
+     */
+    public int[] missProbeHistogram() {
+        int[] histogram = new int[0];
+
+        for (int home = 0; home < keys.length; home++) {
+            int i = home;
+            int d = 0;
+
+            while (keys[i] != null && !(robinHood && distance(i) < d)) {
+                i = (i + 1) & mask;
+                d++;
+            }
+
+            histogram = count(histogram, d);
+        }
+
+        return histogram;
+    }
+
+    /**
+     * Removes a specified key and its value from the map,
+     * and shifts the keys after it back into the gap.
+     *
+     * <p>
+     * Time: O(1), expected<br>
+     * Space: O(1)
+     *
+     * @param key Specified key
+     * @return Value the key had, or null if the key was not in the map
+     */
+    @Override
+    public V remove(K key) {
+        int i = find(key);
+
+        if (i < 0) {
+            return null;
+        }
+
+        V value = values[i];
+
+        // Walk the rest of the run. A key can fill the gap
+        // if its home slot is not between the gap and
+        // itself, otherwise moving it would put it before
+        // its home slot, where lookups would not find it.
+        for (int j = (i + 1) & mask; keys[j] != null; j = (j + 1) & mask) {
+            int home = home(hashes[j]);
+
+            // Runs are sorted by home slot, so no
+            // key after one at home can move either
+            if (robinHood && home == j) {
+                break;
+            }
+
+            if (((j - home) & mask) >= ((j - i) & mask)) {
+                keys[i]   = keys[j];
+                values[i] = values[j];
+                hashes[i] = hashes[j];
+                i         = j;
+            }
+        }
+
+        keys[i]   = null;
+        values[i] = null;
+        size--;
+        modCount++;
+
+        return value;
+    }
+
+    /**
+     * Returns the number of keys in the map.
+     *
+     * @return Number of keys in the map.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determines whether or not the map uses Robin Hood hashing.
+     *
+     * @return True if and only if the map uses Robin Hood hashing.
+     */
+    public boolean robinHood() {
+        return robinHood;
+    }
+
+    /**
+     * Returns String representation
+     * of the map.
+     *
+     * @return String representation.
+     */
+    @Override
+    public String toString() {
+        return asString();
+    }
+
+//------------------------------------------------------------------------------
+
+    /**
+     * Creates empty arrays of a specified length.
+     *
+     * @param length Length of the arrays, a power of two.
+     */
+    @SuppressWarnings("unchecked")
+    private void allocate(int length) {
+        keys      = (K[]) new Object[length];
+        values    = (V[]) new Object[length];
+        hashes    = new int[length];
+        mask      = length - 1;
+        shift     = Integer.numberOfLeadingZeros(mask);
+        threshold = Math.max(1, Math.min(length - 1, (int) (length * loadFactor)));
+    }
+
+    /**
+     * Adds one to the count of a specified
+     * probe length in a histogram.
+     *
+     * @param histogram Histogram of probe lengths.
+     * @param length Probe length.
+     * @return Histogram, made longer if needed.
+     */
+    private static int[] count(int[] histogram, int length) {
+
+        if (length >= histogram.length) {
+            histogram = Arrays.copyOf(histogram, length + 1);
+        }
+
+        histogram[length]++;
+
+        return histogram;
+    }
+
+    /**
+     * Returns how many slots past its
+     * home slot the key in a slot is.
+     *
+     * @param i Slot of the key.
+     * @return Distance from the home slot.
+     */
+    private int distance(int i) {
+        return (i - home(hashes[i])) & mask;
+    }
+
+    /**
+     * Returns the slot of a specified key,
+     * or -1 if the key is not in the map.
+     *
+     * @param key Specified key
+     * @return Slot of the key, or -1.
+     */
+    private int find(K key) {
+        int i = probe(hash(key), key);
+
+        return i < 0 ? -1 : i;
+    }
+
+    /**
+     * Returns the slot of a specified key, or if the key is
+     * not in the map, the complement of the slot where it
+     * would be inserted, which is negative. In Robin Hood
+     * mode, the lookup stops at the first key that is closer
+     * to its home slot than the lookup is to its own, because
+     * the key would have taken that slot if it were in the map.
+     *
+     * @param hash Hash code of the key.
+     * @param key Specified key
+     * @return Slot of the key, or a negative number.
+     */
+    private int probe(int hash, K key) {
+        int i = home(hash);
+
+        for (int d = 0; ; d++) {
+            K k = keys[i];
+
+            if (k == null) {
+                return ~i;
+            }
+
+            if (hashes[i] == hash && (k == key || k.equals(key))) {
+                return i;
+            }
+
+            if (robinHood && distance(i) < d) {
+                return ~i;
+            }
+
+            i = (i + 1) & mask;
+        }
+    }
+
+    /**
+     * Stores a key in a specified slot, which is either empty or,
+     * in Robin Hood mode, holds a key closer to its home slot.
+     * Then each key that is displaced moves on in the same way,
+     * until one lands in an empty slot.
+     *
+     * @param i Slot to store the key in.
+     * @param hash Hash code of the key.
+     * @param key Key to store.
+     * @param value Value of the key.
+     */
+    private void place(int i, int hash, K key, V value) {
+        int d = (i - home(hash)) & mask;
+
+        while (keys[i] != null) {
+            int distance = distance(i);
+
+            // The key in the slot is closer to home,
+            // so the new key takes the slot from it
+            if (robinHood && distance < d) {
+                K   k = keys[i];
+                V   v = values[i];
+                int h = hashes[i];
+
+                keys[i]   = key;
+                values[i] = value;
+                hashes[i] = hash;
+
+                key   = k;
+                value = v;
+                hash  = h;
+                d     = distance;
+            }
+
+            i = (i + 1) & mask;
+            d++;
+        }
+
+        keys[i]   = key;
+        values[i] = value;
+        hashes[i] = hash;
+    }
+
+    /**
+     * Returns the hash code of a specified key,
+     * with the high bits folded into the low ones.
+     *
+     * @param key Specified key
+     * @return Hash code of the key.
+     * @throws IllegalArgumentException If the key is null.
+     */
+    private static int hash(Object key) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("HashMapLinearProbing does not accept null keys");
+        }
+
+        int h = key.hashCode();
+
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the home slot of a specified hash code,
+     * the top bits of the hash code times a large odd
+     * constant, known as Fibonacci hashing.
+     *
+     * @param hash Hash code of a key.
+     * @return Home slot of the key.
+     */
+    private int home(int hash) {
+        return (hash * 0x9E3779B9) >>> shift;
+    }
+
+    /**
+     * Returns the length of the arrays needed to hold a
+     * specified number of keys within the load factor.
+     *
+     * @param capacity Number of keys.
+     * @return Length of the arrays, a power of two.
+     */
+    private int lengthFor(int capacity) {
+        double needed = Math.ceil((capacity + 1) / (double) loadFactor);
+
+        if (needed >= MAXIMUM_LENGTH) {
+            return MAXIMUM_LENGTH;
+        }
+
+        return Math.max(2, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    /**
+     * Doubles the length of the arrays, unless they
+     * are as long as they can be and have room left.
+     */
+    private void grow() {
+
+        if (keys.length < MAXIMUM_LENGTH) {
+            resize(keys.length << 1);
+
+        } else if (size == mask) {
+            throw new IllegalStateException("HashMapLinearProbing cannot hold more than 2^30 - 1 keys");
+        }
+    }
+
+    /**
+     * Moves every key into arrays of a specified length,
+     * using the cached hash codes.
+     *
+     * @param length New length of the arrays.
+     */
+    private void resize(int length) {
+        K[]   oldKeys   = keys;
+        V[]   oldValues = values;
+        int[] oldHashes = hashes;
+
+        allocate(length);
+
+        for (int j = 0; j < oldKeys.length; j++) {
+
+            if (oldKeys[j] != null) {
+                place(home(oldHashes[j]), oldHashes[j], oldKeys[j], oldValues[j]);
+            }
+        }
+    }
+
+//------------------------------------------------------------------------------
+
+    /**
+     * Iterator over the slots in order, skipping
+     * empty ones. Fails fast if keys are inserted
+     * or removed while it runs.
+     */
+    private final class HashMapLinearProbingIterator implements ResettableIterator<Pair<K, V>> {
+        private int next;             // Slot of the pair returned next
+        private int expectedModCount; // Number of modifications when iteration started
+
+        /**
+         * Constructs iterator starting at the first slot.
+         */
+        private HashMapLinearProbingIterator() {
+            reset();
+        }
+
+        /**
+         * Moves to the first slot in use
+         * at or after a specified slot.
+         *
+         * @param from Slot to start at.
+         */
+        private void advance(int from) {
+            next = from;
+
+            while (next < keys.length && keys[next] == null) {
+                next++;
+            }
+        }
+
+        /**
+         * Rewinds the iterator to the first
+         * pair of the map in its present state.
+         *
+         * @return This iterator.
+         */
+        @Override
+        public HashMapLinearProbingIterator reset() {
+            expectedModCount = modCount;
+            advance(0);
+            return this;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < keys.length;
+        }
+
+        @Override
+        public Pair<K, V> next() {
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (!hasNext()) {
+                throw new NoSuchElementException("No element");
+            }
+
+            Pair<K, V> pair = new Entry<>(keys[next], values[next]);
+            advance(next + 1);
+
+            return pair;
+        }
+    }
 }
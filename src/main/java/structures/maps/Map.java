@@ -1,4 +1,239 @@
 package structures.maps;
 
-public interface Map {
+import structures.commons.DataStructure;
+import structures.commons.Pair;
+
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Generic interface for maps from keys to values, where each key
+ * appears at most once. Keys cannot be null, values can. Because
+ * {@code get()} also returns null for a missing key,
+ * {@code containsKey()} tells the two apart.
+ *
+ * <p>
+ * Iterating over a map returns its key value pairs, in no
+ * particular order. The pairs are copies, so setting the key
+ * or value of one does not change the map.
+ *
+ * @author Jabari Dash
+ * @param <K> Generic type of the keys
+ * @param <V> Generic type of the values
+ */
+public interface Map<K, V> extends DataStructure<K>, Iterable<Pair<K, V>> {
+
+    /**
+     * Returns a String representation of the map, with
+     * the pairs in iteration order. The method cannot
+     * override {@code toString()} because this is an
+     * interface, so implementing classes call it from theirs.
+     *
+     * @return String representation of the map.
+     */
+    default String asString() {
+        StringJoiner sj = new StringJoiner(", ", "{", "}");
+
+        for (Pair<K, V> pair : this) {
+            sj.add(pair.key() + ": " + pair.value());
+        }
+
+        return sj.toString();
+    }
+
+    /**
+     * Returns a hash code computed from the pairs, which agrees
+     * with {@code sameContents()} whatever order they are in: it
+     * is the sum of the hash codes of the pairs, each of which is
+     * the hash code of its key XOR the hash code of its value.
+     * Like {@code asString()}, this cannot override
+     * {@code hashCode()} because this is an interface, so
+     * implementing classes call it from theirs.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @return Hash code of the pairs.
+     */
+    default int contentHash() {
+        int hash = 0;
+
+        for (Pair<K, V> pair : this) {
+            hash += Objects.hashCode(pair.key()) ^ Objects.hashCode(pair.value());
+        }
+
+        return hash;
+    }
+
+    /**
+     * Determines whether or not the map contains a specified key.
+     *
+     * @param key Specified key
+     * @return True if and only if the key is in the map
+     */
+    @Override
+    default boolean contains(K key) {
+        return containsKey(key);
+    }
+
+    /**
+     * Determines whether or not the map contains a specified key.
+     *
+     * @param key Specified key
+     * @return True if and only if the key is in the map
+     */
+    boolean containsKey(K key);
+
+    /**
+     * Returns the value of a specified key.
+     *
+     * @param key Specified key
+     * @return Value of the key, or null if the key is not in the map
+     */
+    V get(K key);
+
+    /**
+     * Inserts a specified key with a null value,
+     * or sets the value of the key to null if it
+     * is already in the map.
+     *
+     * @param key Specified key
+     * @return True to indicate the insertion was successful
+     */
+    @Override
+    default boolean insert(K key) {
+        put(key, null);
+        return true;
+    }
+
+    /**
+     * Maps a specified key to a specified value, replacing
+     * the value the key had if it was already in the map.
+     *
+     * @param key Specified key
+     * @param value Specified value
+     * @return Previous value of the key, or null
+     */
+    V put(K key, V value);
+
+    /**
+     * Removes a specified key and its value from the map.
+     *
+     * @param key Specified key
+     * @return Value the key had, or null if the key was not in the map
+     */
+    V remove(K key);
+
+    /**
+     * Checks that another map has the same size and maps
+     * each of the keys of this map to an equal value.
+     *
+     * @param object Object to compare.
+     * @return True if the two maps have the same contents.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    default boolean sameContents(Object object) {
+        Map<K, V> map = (Map<K, V>) object;
+
+        if (map.size() != size()) {
+            return false;
+        }
+
+        for (Pair<K, V> pair : this) {
+            K key   = pair.key();
+            V value = pair.value();
+
+            if (value == null ? map.get(key) != null || !map.containsKey(key) : !value.equals(map.get(key))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+//  Entry class starts here
+//==============================================================================
+
+    /**
+     * Key value pair returned when iterating over a map.
+     *
+     * @param <K> Generic type of the key
+     * @param <V> Generic type of the value
+     */
+    class Entry<K, V> implements Pair<K, V> {
+        private K key;   // Key of the pair
+        private V value; // Value of the pair
+
+        /**
+         * Constructs a pair with a specified key and value.
+         *
+         * @param key Key
+         * @param value Value
+         */
+        public Entry(K key, V value) {
+            this.key   = key;
+            this.value = value;
+        }
+
+        /**
+         * Checks equality between this pair and another
+         * Object. Unlike {@code equivalentTo()}, null
+         * values are equal to each other.
+         *
+         * @param object Object to check equality with.
+         * @return True if and only if both objects are equal
+         */
+        @Override
+        public boolean equals(Object object) {
+            if (object == this) {
+                return true;
+            }
+
+            if (!(object instanceof Entry)) {
+                return false;
+            }
+
+            Entry<?, ?> entry = (Entry<?, ?>) object;
+
+            return Objects.equals(key, entry.key) && Objects.equals(value, entry.value);
+        }
+
+        /**
+         * Returns the hash code of the key
+         * XOR the hash code of the value.
+         *
+         * @return Hash code of the pair.
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(value);
+        }
+
+        @Override
+        public K key() {
+            return key;
+        }
+
+        @Override
+        public void key(K key) {
+            this.key = key;
+        }
+
+        @Override
+        public String toString() {
+            return asString();
+        }
+
+        @Override
+        public V value() {
+            return value;
+        }
+
+        @Override
+        public void value(V value) {
+            this.value = value;
+        }
+    }
 }
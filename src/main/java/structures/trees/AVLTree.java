@@ -49,6 +49,43 @@ public final class AVLTree<K extends Comparable, V> extends BinarySearchTree<K,
         return node == null ? 0 : height(node.leftChild()) - height(node.rightChild());
     }
 
+    /**
+     * Updates the height of a specified node, and rotates it
+     * if its subtrees differ in height by more than one.
+     *
+     * @param node Node to balance.
+     * @return Root node of the subtree after balancing.
+     */
+    private AVLTreeNode<K, V> balance(AVLTreeNode<K, V> node) {
+
+        // Set the height to the maximum height of left and right subtrees
+        node.height = Math.max(height(node.leftChild()), height(node.rightChild())) + 1;
+
+        int balance = balanceFactor(node);
+
+        // Left Left, or Left Right
+        if (balance > 1) {
+
+            if (balanceFactor(node.leftChild()) < 0) {
+                node.leftChild = rotateLeft(node.leftChild());
+            }
+
+            return rotateRight(node);
+        }
+
+        // Right Right, or Right Left
+        if (balance < -1) {
+
+            if (balanceFactor(node.rightChild()) > 0) {
+                node.rightChild = rotateRight(node.rightChild());
+            }
+
+            return rotateLeft(node);
+        }
+
+        return node;
+    }
+
     /**
      * Computes the height of the tree. Note, this
      * method is private because it is takes a node
@@ -128,40 +165,9 @@ public final class AVLTree<K extends Comparable, V> extends BinarySearchTree<K,
             return node;
         }
 
-        // Set the height to the maximum height of left and right subtrees
-        node.height = Math.max(height(node.leftChild()), height(node.rightChild())) + 1;
-
-        // Get the balance factor
-        int balance = balanceFactor(node);
-
-        // Compare key to current node's kid's keys then
-        // check four cases in which subtrees can be unbalanced
-
-        // Left Left
-        if (balance > 1 && key.compareTo(node.key) < 0) {
-            return rotateRight(node);
-        }
-
-        // Left Right
-        if (balance > 1 && key.compareTo(node.leftChild.key) > 0) {
-            node.leftChild = rotateLeft(node.leftChild());
-            return rotateRight(node);
-        }
-
-        // Right Right
-        if (balance < -1 && key.compareTo(node.rightChild().key) > 0) {
-            return rotateLeft(node);
-        }
-
-        // Right Left
-        if (balance < -1 && key.compareTo(node.rightChild().key) < 0) {
-            node.rightChild = rotateRight(node.rightChild());
-            return rotateLeft(node);
-        }
-
-        // Return unchanged pointer
-        // (it was already balanced)
-        return node;
+        // Update the height, and rotate if
+        // the insertion unbalanced the node
+        return balance(node);
     }
 
     /**
@@ -173,10 +179,64 @@ public final class AVLTree<K extends Comparable, V> extends BinarySearchTree<K,
      */
     @Override
     public boolean remove(K key) {
+        // Store size before removal
+        int oldSize = this.size;
+
+        // Remove key
+        root = remove(root(), key);
+
+        // Return true if the size changed
+        return oldSize != this.size;
+    }
+
+    /**
+     * Removes the node with a specified key from the subtree of
+     * a specified node, and re-balances the nodes on the way back
+     * up, so the height of the tree stays logarithmic no matter
+     * how many keys are removed.
+     *
+     * @param node Node to remove from.
+     * @param key Key to remove.
+     * @return Root node of the subtree after the removal.
+     */
+    protected AVLTreeNode<K, V> remove(AVLTreeNode<K, V> node, K key) {
 
-        // TODO - Implement
+        // If we are at the bottom, the key is not in the tree
+        if (node == null) {
+            return null;
+        }
+
+        // Compare the keys
+        int comparison = key.compareTo(node.key);
+
+        // Less than
+        if (comparison < 0) {
+            node.leftChild = remove(node.leftChild(), key);
+
+        // Greater than
+        } else if (comparison > 0) {
+            node.rightChild = remove(node.rightChild(), key);
+
+        // At most one child, which takes the node's place
+        } else if (node.leftChild == null || node.rightChild == null) {
+            this.size--;
+            return node.leftChild != null ? node.leftChild() : node.rightChild();
+
+        // Two children, so take the pair of the smallest
+        // node on the right, and remove that node instead
+        } else {
+            AVLTreeNode<K, V> successor = node.rightChild();
+
+            while (successor.leftChild != null) {
+                successor = successor.leftChild();
+            }
+
+            node.key        = successor.key;
+            node.value      = successor.value;
+            node.rightChild = remove(node.rightChild(), successor.key);
+        }
 
-        return super.remove(key);
+        return balance(node);
     }
 
     /**
@@ -6,6 +6,7 @@ import structures.commons.Pair;
 import structures.vectors.ArrayList;
 
 import java.util.Collection;
+import java.util.ConcurrentModificationException;
 
 /**
  * Implementation of BinarySearchTree.
@@ -209,33 +210,34 @@ public class BinarySearchTree<K extends Comparable, V> implements BinaryTree<K,
 //------------------------------------------------------------------------------
 
     /**
-     * Finds a key via binary search.
+     * Finds a key via binary search. A search takes at most as
+     * many hops as there are nodes, so one that takes more has
+     * run into a tree that another thread is changing, and it
+     * gives up rather than follow a cycle forever. Guarded
+     * trees rely on this to search without a lock.
      *
-     * @param node Node to start recursion from.
+     * @param node Node to start searching from.
      * @param key Key to search for.
-     * @return True if the key is found.
+     * @return Node of the key, or null if the key is not found.
+     * @throws ConcurrentModificationException If the search takes more hops than there are nodes.
      */
-    @SuppressWarnings("unused")
+    @SuppressWarnings("unchecked")
     private BinarySearchTreeNode<K, V> find(BinarySearchTreeNode<K, V> node, K key) {
+        int hops = this.size;
 
-        // If this node is not null
-        // perform binary search
-        if (node != null) {
+        while (node != null) {
 
             // node.key == key
             if (node.key.equals(key)) {
                 return node;
             }
 
-            // If node.key < key
-            else if (key.compareTo(node.key) < 0) {
-                return find(node.leftChild, key);
+            if (--hops < 0) {
+                throw new ConcurrentModificationException("The tree changed during the search");
             }
 
-            // If node.key > key
-            else {
-                return find(node.rightChild, key);
-            }
+            // If key < node.key go left, otherwise right
+            node = key.compareTo(node.key) < 0 ? node.leftChild : node.rightChild;
         }
 
         // Otherwise we did not
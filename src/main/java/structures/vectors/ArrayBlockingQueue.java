@@ -0,0 +1,217 @@
+package structures.vectors;
+
+import structures.commons.BlockingStructure;
+
+import java.util.Collection;
+
+/**
+ * FIFO queue backed by a circular array that threads can wait
+ * on, with an optional capacity bound. Producers write at the put
+ * index while holding the put lock, and consumers read at the take
+ * index while holding the take lock, so a producer and a consumer
+ * never block each other. The array starts small and doubles, up
+ * to the capacity, when a producer finds it full; only then does
+ * the producer also take the take lock, to move the values while
+ * no consumer is reading them.
+ *
+ * <p>
+ * {@code put()} and {@code take()} wait for room or for a value,
+ * {@code offer(value, timeout, unit)} and {@code poll(timeout, unit)}
+ * wait at most a given time, and {@code offer()}, {@code poll()},
+ * {@code enqueue()} and {@code dequeue()} never wait. Null values
+ * cannot be inserted, because {@code poll()} returns null when the
+ * queue is empty.
+ *
+ * @author Jabari Dash
+ * @param <E> Generic type
+ * @see BlockingStructure
+ */
+public final class ArrayBlockingQueue<E> extends BlockingStructure<E> implements Queue<E> {
+
+    /**
+     * Initial length of the array.
+     */
+    private static final int INITIAL_LENGTH = 16;
+
+    /**
+     * Circular array of values. Replaced
+     * only while both locks are held.
+     */
+    private E[] elements;
+
+    /**
+     * Index of the value at the front of
+     * the queue, used by consumers only.
+     */
+    private int takeIndex;
+
+    /**
+     * Index the next value is written to,
+     * used by producers only.
+     */
+    private int putIndex;
+
+    /**
+     * Constructs empty, unbounded queue.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     */
+    public ArrayBlockingQueue() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs empty queue that holds at
+     * most a specified number of values.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param capacity Largest number of values.
+     */
+    @SuppressWarnings("unchecked")
+    public ArrayBlockingQueue(int capacity) {
+        super(capacity);
+        elements = (E[]) new Object[Math.min(capacity, INITIAL_LENGTH)];
+    }
+
+    /**
+     * Construct unbounded queue from array of values.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(n)
+     *
+     * @param values Array of values
+     */
+    public ArrayBlockingQueue(E[] values) {
+        this();
+        insert(values);
+    }
+
+    /**
+     * Construct unbounded queue from collection of values.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(n)
+     *
+     * @param values Collection of values
+     */
+    public ArrayBlockingQueue(Collection<E> values) {
+        this();
+        insert(values);
+    }
+
+    /**
+     * Writes a value at the put index, first
+     * growing the array if it is full.
+     *
+     * @param value Value to append
+     */
+    @Override
+    protected void append(E value) {
+
+        if (size() == elements.length) {
+            grow();
+        }
+
+        elements[putIndex] = value;
+
+        if (++putIndex == elements.length) {
+            putIndex = 0;
+        }
+    }
+
+    /**
+     * Clears and returns the value at the take index.
+     * The slot is cleared before the count goes down,
+     * so a producer never writes into a slot that a
+     * consumer has not finished with.
+     *
+     * @return Value at the front
+     */
+    @Override
+    protected E extract() {
+        E value = elements[takeIndex];
+
+        elements[takeIndex] = null;
+
+        if (++takeIndex == elements.length) {
+            takeIndex = 0;
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the value at the front of the queue.
+     *
+     * @return Value at the front
+     */
+    @Override
+    protected E first() {
+        return elements[takeIndex];
+    }
+
+    /**
+     * Returns the values of the array in order.
+     *
+     * @return Array of the values.
+     */
+    @Override
+    protected Object[] values() {
+        return copy(size());
+    }
+
+//------------------------------------------------------------------------------
+
+    /**
+     * Copies the values in order into a new array
+     * of a specified length. Called with both locks held.
+     *
+     * @param length Length of the new array.
+     * @return New array with the values at its front.
+     */
+    private Object[] copy(int length) {
+        Object[] copy  = new Object[length];
+        int      size  = size();
+        int      right = Math.min(size, elements.length - takeIndex);
+
+        System.arraycopy(elements, takeIndex, copy, 0, right);
+        System.arraycopy(elements, 0, copy, right, size - right);
+
+        return copy;
+    }
+
+    /**
+     * Doubles the length of the array, up to the capacity.
+     * Called with the put lock held, so the size can only
+     * go down meanwhile, and takes the take lock as well,
+     * so that no consumer reads while the values move.
+     */
+    @SuppressWarnings("unchecked")
+    private void grow() {
+        takeLock.lock();
+
+        try {
+            int size = size();
+
+            // A consumer may have made room
+            // before the take lock was acquired
+            if (size < elements.length) {
+                return;
+            }
+
+            elements  = (E[]) copy((int) Math.min(capacity, 2L * elements.length));
+            takeIndex = 0;
+            putIndex  = size;
+
+        } finally {
+            takeLock.unlock();
+        }
+    }
+}
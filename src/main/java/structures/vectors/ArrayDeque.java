@@ -0,0 +1,194 @@
+package structures.vectors;
+
+import structures.commons.DataStructure;
+import structures.commons.DynamicArray;
+import structures.commons.GrowthPolicy;
+import java.util.Collection;
+
+/**
+ * Implementation of Deque using
+ * an internal array to hold data elements.
+ * The internal array is used as a circular
+ * buffer, so values are inserted and removed
+ * at either end without shifting the rest of
+ * the deque, and without allocating a node
+ * per value.
+ *
+ * @author Jabari Dash
+ * @param <E> Generic type
+ */
+public final class ArrayDeque<E> extends DynamicArray<E> implements Deque<E> {
+
+    /**
+     * Constructs empty deque.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     */
+    public ArrayDeque() {
+        super();
+    }
+
+    /**
+     * Instantiates a deque with an internal array of a specified
+     * length that grows according to a specified growth policy.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param length Specific initial capacity.
+     * @param policy Growth policy used when the internal array is full.
+     * @see GrowthPolicy
+     */
+    public ArrayDeque(int length, GrowthPolicy policy) {
+        super(length, policy);
+    }
+
+    /**
+     * Instantiates a deque with an internal array of a specified
+     * length, growth policy, and resize and shrink thresholds.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param length Specific initial capacity.
+     * @param policy Growth policy used when the internal array is full.
+     * @param resizeThreshold Ratio above which the internal array grows.
+     * @param shrinkThreshold Ratio below which the internal array shrinks.
+     * @see GrowthPolicy
+     */
+    public ArrayDeque(int length, GrowthPolicy policy, double resizeThreshold, double shrinkThreshold) {
+        super(length, policy, resizeThreshold, shrinkThreshold);
+    }
+
+    /**
+     * Constructs deque from array of values.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param values Array of values to instantiate deque from
+     */
+    public ArrayDeque(E[] values) {
+        super(values);
+    }
+
+    /**
+     * Construct deque from Java Collection of values.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param values Collection of values to construct deque from.
+     * @see java.util.Collection
+     */
+    public ArrayDeque(Collection<E> values) {
+        super(values);
+    }
+
+    /**
+     * Inserts a specified element
+     * to the front of the deque.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param element Specified element to insert.
+     * @return True if the insertion was successful.
+     */
+    @Override
+    public boolean insertFirst(E element) {
+        return prepend(element);
+    }
+
+    /**
+     * Inserts a specified key into the back of the deque.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param element The specified key to insert.
+     * @return True if and only if the key was successfully inserted.
+     */
+    @Override
+    public boolean insert(E element) {
+        return append(element);
+    }
+
+    /**
+     * Returns but does not remove
+     * the value at the front of the deque.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Value at front of deque.
+     */
+    @Override
+    public E peek() {
+        return access(0);
+    }
+
+    /**
+     * Returns but does not remove
+     * the value at the back of the deque.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Value at back of deque.
+     */
+    @Override
+    public E peekLast() {
+        return access(size - 1);
+    }
+
+    /**
+     * Removes the value at the front of the deque.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Removed value from DataStructure
+     * @see DataStructure
+     */
+    @Override
+    public E remove() {
+        return deleteFirst();
+    }
+
+    /**
+     * Removes the value at the back of the deque.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Value at back of deque.
+     */
+    @Override
+    public E removeLast() {
+        return deleteLast();
+    }
+
+    /**
+     * Returns String representation of deque.
+     *
+     * @return String representation.
+     */
+    @Override
+    public String toString() {
+        return asString();
+    }
+}
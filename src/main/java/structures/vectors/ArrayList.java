@@ -1,8 +1,13 @@
 package structures.vectors;
 
 import structures.commons.DynamicArray;
+import structures.commons.GrowthPolicy;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.function.BinaryOperator;
+import java.util.function.IntFunction;
 
 /**
  * Basic implementation of a generic ArrayList.
@@ -48,6 +53,46 @@ public final class ArrayList<E> extends DynamicArray<E> implements List<E> {
         super(length);
     }
 
+    /**
+     * Instantiates an ArrayList with an internal array of a specified
+     * length that grows according to a specified growth policy.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param length Specific initial capacity.
+     * @param policy Growth policy used when the internal array is full.
+     * @see GrowthPolicy
+     */
+    public ArrayList(int length, GrowthPolicy policy) {
+
+        super(length, policy);
+    }
+
+    /**
+     * Instantiates an ArrayList with an internal array of a specified
+     * length, growth policy, and resize and shrink thresholds. The
+     * internal array grows once the ratio of elements to its length
+     * passes the resize threshold, and halves once a removal leaves
+     * the ratio below the shrink threshold. A shrink threshold of 0
+     * means the internal array never shrinks.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param length Specific initial capacity.
+     * @param policy Growth policy used when the internal array is full.
+     * @param resizeThreshold Ratio above which the internal array grows.
+     * @param shrinkThreshold Ratio below which the internal array shrinks.
+     * @see GrowthPolicy
+     */
+    public ArrayList(int length, GrowthPolicy policy, double resizeThreshold, double shrinkThreshold) {
+
+        super(length, policy, resizeThreshold, shrinkThreshold);
+    }
+
     /**
      * Constructs ArrayList from array of elements.
      *
@@ -109,6 +154,109 @@ public final class ArrayList<E> extends DynamicArray<E> implements List<E> {
         return append(value);
     }
 
+    /**
+     * Inserts an array of values at the end of the list,
+     * growing the internal array at most once.
+     *
+     * <p>
+     * Time: O(k)<br>
+     * Space: O(1)
+     *
+     * @param values Values to insert.
+     * @return True to indicate the insertion was successful.
+     */
+    public boolean appendAll(E[] values) {
+
+        return appendAll(Arrays.asList(values));
+    }
+
+    /**
+     * Inserts a collection of values at the end of the
+     * list, growing the internal array at most once.
+     *
+     * <p>
+     * Time: O(k)<br>
+     * Space: O(1)
+     *
+     * @param values Values to insert.
+     * @return True to indicate the insertion was successful.
+     */
+    @Override
+    public boolean appendAll(Collection<? extends E> values) {
+
+        return super.appendAll(values);
+    }
+
+    /**
+     * Inserts an array of values at the end of the list,
+     * growing the internal array at most once.
+     *
+     * <p>
+     * Time: O(k)<br>
+     * Space: O(1)
+     *
+     * @param values Values to insert.
+     * @return True to indicate the insertion was successful.
+     */
+    @Override
+    public boolean insert(E[] values) {
+
+        return appendAll(values);
+    }
+
+    /**
+     * Inserts a collection of values at the end of the
+     * list, growing the internal array at most once.
+     *
+     * <p>
+     * Time: O(k)<br>
+     * Space: O(1)
+     *
+     * @param values Values to insert.
+     * @return True to indicate the insertion was successful.
+     */
+    @Override
+    public boolean insert(Collection<E> values) {
+
+        return appendAll(values);
+    }
+
+    /**
+     * Inserts an array of values at a specified index, where
+     * an index equal to the size appends them. The values after
+     * the index are shifted over once for the whole array.
+     *
+     * <p>
+     * Time: O(n + k)<br>
+     * Space: O(1)
+     *
+     * @param index Specified index to insert values at
+     * @param values Values to be inserted
+     * @return True to indicate the insertion was successful.
+     */
+    public boolean insertAll(int index, E[] values) {
+
+        return addAll(index, Arrays.asList(values));
+    }
+
+    /**
+     * Inserts a collection of values at a specified index,
+     * where an index equal to the size appends them. The values
+     * after the index are shifted over once for the whole collection.
+     *
+     * <p>
+     * Time: O(n + k)<br>
+     * Space: O(1)
+     *
+     * @param index Specified index to insert values at
+     * @param values Values to be inserted
+     * @return True to indicate the insertion was successful.
+     */
+    public boolean insertAll(int index, Collection<? extends E> values) {
+
+        return addAll(index, values);
+    }
+
     /**
      * Inserts a value at a specified index.
      *
@@ -142,6 +290,23 @@ public final class ArrayList<E> extends DynamicArray<E> implements List<E> {
         return delete(index);
     }
 
+    /**
+     * Removes the values from a specified index, inclusive,
+     * up to another specified index, exclusive. The values
+     * after the range are shifted over once for the whole range.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param from First index to remove.
+     * @param to Index after the last index to remove.
+     */
+    public void removeRange(int from, int to) {
+
+        deleteRange(from, to);
+    }
+
     /**
      * Overwrites a value at a specified index
      * with a new value.
@@ -159,6 +324,74 @@ public final class ArrayList<E> extends DynamicArray<E> implements List<E> {
         update(index, value);
     }
 
+    /**
+     * Sorts the list in place according to a specified
+     * comparator. If the comparator is null, the values
+     * are sorted by their natural ordering. The sort is
+     * stable.
+     *
+     * <p>
+     * Time: O(n log(n))<br>
+     * Space: O(n)
+     *
+     * @param comparator Comparator to order the values by, or null.
+     */
+    public void sort(Comparator<? super E> comparator) {
+
+        sort(comparator, false);
+    }
+
+    /**
+     * Sorts the list in place according to a specified comparator,
+     * or the natural ordering of the values if it is null, using
+     * a fork/join merge sort on the common pool. Lists too small
+     * to benefit are sorted sequentially. The sort is stable.
+     *
+     * <p>
+     * Time: O(n log(n))<br>
+     * Space: O(n)
+     *
+     * @param comparator Comparator to order the values by, or null.
+     */
+    public void parallelSort(Comparator<? super E> comparator) {
+
+        sort(comparator, true);
+    }
+
+    /**
+     * Replaces every value, in parallel, with the result of
+     * a specified operator applied to all values up to and
+     * including it. For example, with addition the list
+     * [1, 2, 3, 4] becomes [1, 3, 6, 10]. The operator must
+     * be associative and free of side effects.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param operator Associative operator to accumulate the values with.
+     */
+    public void parallelPrefix(BinaryOperator<E> operator) {
+
+        prefix(operator);
+    }
+
+    /**
+     * Overwrites every value, in parallel, with the result of
+     * a specified generator applied to its index. The size of
+     * the list does not change.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param generator Function computing the value at an index.
+     */
+    public void parallelSetAll(IntFunction<? extends E> generator) {
+
+        generate(generator);
+    }
+
     /**
      * Returns String representation
      * of the List.
@@ -2,30 +2,25 @@ package structures.vectors;
 
 import structures.commons.DataStructure;
 import structures.commons.DynamicArray;
+import structures.commons.GrowthPolicy;
 import java.util.Collection;
 
 /**
  * Implementation of Queue using
  * an internal array to hold data elements.
- *
- * TODO - https://www.geeksforgeeks.org/queue-set-1introduction-and-array-implementation/
+ * The internal array is used as a circular
+ * buffer. Dequeuing advances the front of the
+ * queue rather than shifting the remaining
+ * elements, and enqueuing wraps around to the
+ * beginning of the internal array when there
+ * is space there. When the internal array grows,
+ * the queue is unrolled into the new array.
  *
  * @author Jabari Dash
  * @param <E> Generic type
  */
 public final class ArrayQueue<E> extends DynamicArray<E> implements Queue<E>, Vector<E> {
 
-    // TODO - Complete implementation
-    // a lot of the code from dynamic array probably
-    // cannot be used. We mostly care about the copy()
-    // function for when are queue becomes too large.
-    // but provided that the front will always be moving
-    // when we dequeue, a lot of the looping functions
-    // do not work. Unless, we change the way that dynamic
-    // array works, and all loops start from a variable front.
-    // For non-queues, front just always remains 0.
-    // However, this requires lots of reworking.
-
     /**
      * Constructs empty LinkedQueue.
      *
@@ -38,6 +33,44 @@ public final class ArrayQueue<E> extends DynamicArray<E> implements Queue<E>, Ve
         super();
     }
 
+    /**
+     * Instantiates a queue with an internal array of a specified
+     * length that grows according to a specified growth policy.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param length Specific initial capacity.
+     * @param policy Growth policy used when the internal array is full.
+     * @see GrowthPolicy
+     */
+    public ArrayQueue(int length, GrowthPolicy policy) {
+        super(length, policy);
+    }
+
+    /**
+     * Instantiates a queue with an internal array of a specified
+     * length, growth policy, and resize and shrink thresholds. The
+     * internal array grows once the ratio of elements to its length
+     * passes the resize threshold, and halves once a removal leaves
+     * the ratio below the shrink threshold. A shrink threshold of 0
+     * means the internal array never shrinks.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param length Specific initial capacity.
+     * @param policy Growth policy used when the internal array is full.
+     * @param resizeThreshold Ratio above which the internal array grows.
+     * @param shrinkThreshold Ratio below which the internal array shrinks.
+     * @see GrowthPolicy
+     */
+    public ArrayQueue(int length, GrowthPolicy policy, double resizeThreshold, double shrinkThreshold) {
+        super(length, policy, resizeThreshold, shrinkThreshold);
+    }
+
     /**
      * Constructs LinkedQueue from array of keys.
      *
@@ -85,10 +118,8 @@ public final class ArrayQueue<E> extends DynamicArray<E> implements Queue<E>, Ve
      * in which the value comes out depends on the implementation
      * of implementing class
      *
-     * TODO - Optimize to O(1)
-     *
      * <p>
-     * Time: O(n)<br>
+     * Time: O(1)<br>
      * Space: O(1)
      *
      * @return Removed value from DataStructure
@@ -96,23 +127,11 @@ public final class ArrayQueue<E> extends DynamicArray<E> implements Queue<E>, Ve
      */
     @Override
     public E remove() {
-        E value;
-
-        // TODO - Finish implementation
-
-        // Get first element
-        // in the queue
-        value = delete(0);
 
         // Push front pointer
         // further back in
         // internal array
-        if (!empty()) {
-            ;
-//            front++;
-        }
-
-        return value;
+        return deleteFirst();
     }
 
     /**
@@ -2,8 +2,10 @@ package structures.vectors;
 
 import structures.commons.DataStructure;
 import structures.commons.DynamicArray;
+import structures.commons.GrowthPolicy;
+import structures.commons.ResettableIterator;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Spliterator;
 
 /**
  * Implementation of Stack using
@@ -28,6 +30,50 @@ public final class ArrayStack<E> extends DynamicArray<E> implements Stack<E> {
         super();
     }
 
+//------------------------------------------------------------------------------
+
+    /**
+     * Instantiates a stack with an internal array of a specified
+     * length that grows according to a specified growth policy.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param length Specific initial capacity.
+     * @param policy Growth policy used when the internal array is full.
+     * @see GrowthPolicy
+     */
+    public ArrayStack(int length, GrowthPolicy policy) {
+
+        super(length, policy);
+    }
+
+//------------------------------------------------------------------------------
+
+    /**
+     * Instantiates a stack with an internal array of a specified
+     * length, growth policy, and resize and shrink thresholds. The
+     * internal array grows once the ratio of elements to its length
+     * passes the resize threshold, and halves once a removal leaves
+     * the ratio below the shrink threshold. A shrink threshold of 0
+     * means the internal array never shrinks.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param length Specific initial capacity.
+     * @param policy Growth policy used when the internal array is full.
+     * @param resizeThreshold Ratio above which the internal array grows.
+     * @param shrinkThreshold Ratio below which the internal array shrinks.
+     * @see GrowthPolicy
+     */
+    public ArrayStack(int length, GrowthPolicy policy, double resizeThreshold, double shrinkThreshold) {
+
+        super(length, policy, resizeThreshold, shrinkThreshold);
+    }
+
 //------------------------------------------------------------------------------
 
     /**
@@ -87,11 +133,23 @@ public final class ArrayStack<E> extends DynamicArray<E> implements Stack<E> {
      * @return an Iterator.
      */
     @Override
-    public Iterator<E> iterator() {
+    public ResettableIterator<E> iterator() {
 
         return new DynamicArrayIterator<E>(false);
     }
 
+    /**
+     * Returns a spliterator that visits the values
+     * in the same order as the iterator, top first.
+     *
+     * @return a Spliterator.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+
+        return new DynamicArraySpliterator<E>(false);
+    }
+
     /**
      * Inserts a specified key into the List.
      *
@@ -0,0 +1,783 @@
+package structures.vectors;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Implementation of List for very long sequences. The values are
+ * kept in small arrays, called chunks, and the chunks are the nodes
+ * of a balanced binary tree (a treap, balanced by random priorities).
+ * Every node knows how many values its subtree holds, so a value is
+ * found by walking down a single path of the tree, and then indexing
+ * into its chunk.
+ *
+ * <p>
+ * Inserting or removing a value only shifts the values of one
+ * chunk. A full chunk is split in two, and a chunk that drops
+ * below a quarter full is merged with a neighbour or takes values
+ * from one, so every chunk but a lone one stays at least a quarter
+ * full. So {@code get()}, {@code insert()} and {@code remove()} at
+ * any index take O(log n) time, while the values themselves stay
+ * in arrays for locality. Iterating over the list walks the chunks
+ * in order, without searching the tree.
+ *
+ * @author Jabari Dash
+ * @param <E> Generic type
+ */
+public final class ChunkedList<E> implements List<E> {
+
+    /**
+     * Default maximum number of values per chunk.
+     */
+    private static final int DEFAULT_CHUNK_LENGTH = 512;
+
+    /**
+     * Smallest allowed maximum number of values per chunk.
+     */
+    private static final int MINIMUM_CHUNK_LENGTH = 4;
+
+    /**
+     * Maximum number of values per chunk.
+     */
+    private final int CHUNK_LENGTH;
+
+    /**
+     * Source of the priorities that balance the tree.
+     */
+    private final Random random = new Random();
+
+    /**
+     * Root of the tree of chunks.
+     */
+    private Chunk<E> root;
+
+    /**
+     * Constructs empty list.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     */
+    public ChunkedList() {
+        this(DEFAULT_CHUNK_LENGTH);
+    }
+
+    /**
+     * Constructs empty list that keeps at
+     * most a specified number of values per chunk.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param chunkLength Maximum number of values per chunk.
+     */
+    public ChunkedList(int chunkLength) {
+
+        if (chunkLength < MINIMUM_CHUNK_LENGTH) {
+            throw new IllegalArgumentException("Chunk length must be at least " + MINIMUM_CHUNK_LENGTH);
+        }
+
+        CHUNK_LENGTH = chunkLength;
+    }
+
+    /**
+     * Constructs list from array of values.
+     *
+     * <p>
+     * Time: O(n log n)<br>
+     * Space: O(1)
+     *
+     * @param values Array of values to instantiate list from
+     */
+    public ChunkedList(E[] values) {
+        this();
+        insert(values);
+    }
+
+    /**
+     * Construct list from Java Collection of values.
+     *
+     * <p>
+     * Time: O(n log n)<br>
+     * Space: O(1)
+     *
+     * @param values Collection of values to construct list from.
+     * @see java.util.Collection
+     */
+    public ChunkedList(Collection<E> values) {
+        this();
+        insert(values);
+    }
+
+    /**
+     * Removes the first chunk of a tree.
+     *
+     * @param chunk Root of the tree.
+     * @return Root of the tree without its first chunk.
+     */
+    private Chunk<E> dropFirst(Chunk<E> chunk) {
+
+        if (chunk.left == null) {
+            return chunk.right;
+        }
+
+        chunk.left = dropFirst(chunk.left);
+        return chunk.update();
+    }
+
+    /**
+     * Determines whether or not this list is equal to
+     * a provided object.
+     *
+     * @param object Object to compare this list with.
+     * @return True if and only if their types are the same,
+     * lengths are the same, and the contain all the same elements.
+     */
+    @Override
+    public boolean equals(Object object) {
+        return equivalentTo(object);
+    }
+
+    /**
+     * Returns a hash code computed from the values
+     * in order, so equal lists have equal hash codes.
+     *
+     * @return Hash code of the list.
+     */
+    @Override
+    public int hashCode() {
+        return contentHash();
+    }
+
+    /**
+     * Returns the value at a specified index.
+     *
+     * <p>
+     * Time: O(log n)<br>
+     * Space: O(1)
+     *
+     * @param index Specified index.
+     * @return Value at specified index.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Chunk<E> chunk = root;
+
+        verifyIndex(index);
+
+        while (true) {
+            int left = size(chunk.left);
+
+            if (index < left) {
+                chunk = chunk.left;
+
+            } else if (index < left + chunk.count) {
+                return (E) chunk.values[index - left];
+
+            } else {
+                index -= left + chunk.count;
+                chunk  = chunk.right;
+            }
+        }
+    }
+
+    /**
+     * Inserts a value at the end of the list.
+     *
+     * <p>
+     * Time: O(log n)<br>
+     * Space: O(1)
+     *
+     * @param value The specified value to insert
+     * @return True to indicate the insertion was successful.
+     */
+    @Override
+    public boolean insert(E value) {
+        return place(value, size());
+    }
+
+    /**
+     * Inserts a value at a specified index.
+     *
+     * <p>
+     * Time: O(log n)<br>
+     * Space: O(1)
+     *
+     * @param value Value to be inserted
+     * @param index Specified index to insert value at
+     * @return True to indicate the insertion was successful.
+     */
+    @Override
+    public boolean insert(E value, int index) {
+
+        // If the list is empty, simply
+        // insert into the front
+        if (empty()) {
+            return insert(value);
+        }
+
+        verifyIndex(index);
+
+        return place(value, index);
+    }
+
+    /**
+     * Returns iterator that walks the chunks in order.
+     *
+     * @return Iterator
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new ChunkedListIterator();
+    }
+
+    /**
+     * Joins two trees, where all values of the
+     * first tree come before those of the second.
+     *
+     * @param left Tree with the first values.
+     * @param right Tree with the last values.
+     * @return Root of the joined tree.
+     */
+    private Chunk<E> join(Chunk<E> left, Chunk<E> right) {
+
+        if (left == null) {
+            return right;
+        }
+
+        if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            left.right = join(left.right, right);
+            return left.update();
+        }
+
+        right.left = join(left, right.left);
+        return right.update();
+    }
+
+    /**
+     * Inserts a value at a specified index, where an index
+     * equal to the size appends it. A full chunk is split
+     * first, so the value always fits into its chunk.
+     *
+     * @param value Value to insert.
+     * @param index Index to insert the value at.
+     * @return True to indicate the insertion was successful.
+     */
+    private boolean place(E value, int index) {
+        Chunk<E> chunk;
+
+        if (root == null) {
+            root = new Chunk<>(CHUNK_LENGTH, random.nextInt());
+        }
+
+        split(index);
+
+        chunk = root;
+
+        // Find the chunk to insert into,
+        // counting the value on the way down
+        while (true) {
+            int left = size(chunk.left);
+
+            chunk.size++;
+
+            // Positions between two chunks go to the
+            // end of the first, whatever the tree's shape
+            if (index < left || index == left && left > 0) {
+                chunk = chunk.left;
+
+            } else if (index <= left + chunk.count) {
+                index -= left;
+                break;
+
+            } else {
+                index -= left + chunk.count;
+                chunk  = chunk.right;
+            }
+        }
+
+        // Make room within the chunk only
+        System.arraycopy(chunk.values, index, chunk.values, index + 1, chunk.count - index);
+        chunk.values[index] = value;
+        chunk.count++;
+
+        return true;
+    }
+
+    /**
+     * Retrieves and removes the value at a specified index.
+     *
+     * <p>
+     * Time: O(log n)<br>
+     * Space: O(1)
+     *
+     * @param index Index to remove value from.
+     * @return Value at specified index.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        Chunk<E> chunk = root;
+        int      start = 0;
+        E        value;
+
+        // Cannot remove from nothing
+        if (empty()) {
+            throw new EmptyDataStructureException("Cannot remove from an empty ChunkedList");
+        }
+
+        verifyIndex(index);
+
+        // Find the chunk holding the value,
+        // uncounting the value on the way down
+        while (true) {
+            int left = size(chunk.left);
+
+            chunk.size--;
+
+            if (index < left) {
+                chunk = chunk.left;
+
+            } else if (index < left + chunk.count) {
+                start += left;
+                index -= left;
+                break;
+
+            } else {
+                start += left + chunk.count;
+                index -= left + chunk.count;
+                chunk  = chunk.right;
+            }
+        }
+
+        // Close the gap within the chunk only
+        value = (E) chunk.values[index];
+        System.arraycopy(chunk.values, index + 1, chunk.values, index, chunk.count - index - 1);
+        chunk.values[--chunk.count] = null;
+
+        // Keep chunks from becoming sparse
+        if (chunk.count < CHUNK_LENGTH / 4) {
+            shrink(chunk, start);
+        }
+
+        return value;
+    }
+
+    /**
+     * Overwrites a value at a specified index
+     * with a new value.
+     *
+     * <p>
+     * Time: O(log n)<br>
+     * Space: O(1)
+     *
+     * @param value New value.
+     * @param index Specified index.
+     */
+    @Override
+    public void set(E value, int index) {
+        Chunk<E> chunk = root;
+
+        verifyIndex(index);
+
+        while (true) {
+            int left = size(chunk.left);
+
+            if (index < left) {
+                chunk = chunk.left;
+
+            } else if (index < left + chunk.count) {
+                chunk.values[index - left] = value;
+                return;
+
+            } else {
+                index -= left + chunk.count;
+                chunk  = chunk.right;
+            }
+        }
+    }
+
+    /**
+     * Removes an empty chunk from the tree. A sparse chunk is
+     * merged with a neighbour if the two fit into half a chunk
+     * together. Otherwise it takes values from its fuller
+     * neighbour until the two hold about as many values, which
+     * leaves both at least a quarter full.
+     *
+     * @param chunk Sparse chunk.
+     * @param start Index of the first value of the chunk.
+     */
+    private void shrink(Chunk<E> chunk, int start) {
+        Chunk<E>[] before = cut(root, start);
+
+        // Empty chunks are dropped. An empty chunk
+        // is the first chunk after the cut.
+        if (chunk.count == 0) {
+            root = join(before[0], dropFirst(before[1]));
+            return;
+        }
+
+        Chunk<E>[] after = cut(before[1], chunk.count);
+        Chunk<E>   prev  = last(before[0]);
+        Chunk<E>   next  = first(after[1]);
+
+        // Cut the neighbours out as trees of their own
+        Chunk<E>[] lead  = cut(before[0], size(before[0]) - (prev == null ? 0 : prev.count));
+        Chunk<E>[] trail = cut(after[1], next == null ? 0 : next.count);
+
+        if (prev != null && prev.count + chunk.count <= CHUNK_LENGTH / 2) {
+            System.arraycopy(chunk.values, 0, prev.values, prev.count, chunk.count);
+            prev.count += chunk.count;
+            chunk       = null;
+
+        } else if (next != null && chunk.count + next.count <= CHUNK_LENGTH / 2) {
+            System.arraycopy(next.values, 0, chunk.values, chunk.count, next.count);
+            chunk.count += next.count;
+            next         = null;
+
+        } else if (next != null && (prev == null || next.count >= prev.count)) {
+            even(chunk, next);
+
+        } else if (prev != null) {
+            even(prev, chunk);
+        }
+
+        root = join(join(lead[0], update(prev)), join(join(update(chunk), update(next)), trail[1]));
+    }
+
+    /**
+     * Returns the number of chunks the values are kept in.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(log n)
+     *
+     * @return Number of chunks.
+     */
+    public int chunks() {
+        return chunks(root);
+    }
+
+    /**
+     * Returns the number of chunks in a tree.
+     *
+     * @param chunk Root of the tree.
+     * @return Number of chunks in the tree.
+     */
+    private static int chunks(Chunk<?> chunk) {
+        return chunk == null ? 0 : chunks(chunk.left) + 1 + chunks(chunk.right);
+    }
+
+    /**
+     * Moves values between two adjacent chunks
+     * until they hold about as many values.
+     *
+     * @param first Chunk with the first values.
+     * @param second Chunk with the values that follow.
+     */
+    private static void even(Chunk<?> first, Chunk<?> second) {
+        int total = first.count + second.count;
+        int keep  = (total + 1) / 2;
+
+        if (first.count > keep) {
+            int moved = first.count - keep;
+
+            // Move the end of the first chunk to the front of the second
+            System.arraycopy(second.values, 0, second.values, moved, second.count);
+            System.arraycopy(first.values, keep, second.values, 0, moved);
+            Arrays.fill(first.values, keep, first.count, null);
+
+        } else {
+            int moved = keep - first.count;
+
+            // Move the front of the second chunk to the end of the first
+            System.arraycopy(second.values, 0, first.values, first.count, moved);
+            System.arraycopy(second.values, moved, second.values, 0, total - keep);
+            Arrays.fill(second.values, total - keep, second.count, null);
+        }
+
+        first.count  = keep;
+        second.count = total - keep;
+    }
+
+    /**
+     * Returns the first chunk of a tree.
+     *
+     * @param chunk Root of the tree.
+     * @return First chunk, or null if the tree is empty.
+     */
+    private static <E> Chunk<E> first(Chunk<E> chunk) {
+
+        while (chunk != null && chunk.left != null) {
+            chunk = chunk.left;
+        }
+
+        return chunk;
+    }
+
+    /**
+     * Returns the last chunk of a tree.
+     *
+     * @param chunk Root of the tree.
+     * @return Last chunk, or null if the tree is empty.
+     */
+    private static <E> Chunk<E> last(Chunk<E> chunk) {
+
+        while (chunk != null && chunk.right != null) {
+            chunk = chunk.right;
+        }
+
+        return chunk;
+    }
+
+    /**
+     * Recomputes the number of values in a tree
+     * of a single chunk, if there is one.
+     *
+     * @param chunk Chunk, or null.
+     * @return The chunk.
+     */
+    private static <E> Chunk<E> update(Chunk<E> chunk) {
+        return chunk == null ? null : chunk.update();
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return Number of elements in the list.
+     */
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns the number of values in a
+     * tree, or 0 if the tree is empty.
+     *
+     * @param chunk Root of the tree.
+     * @return Number of values in the tree.
+     */
+    private static int size(Chunk<?> chunk) {
+        return chunk == null ? 0 : chunk.size;
+    }
+
+    /**
+     * Splits the chunk that an insertion at a specified
+     * index would go into in two halves, if it is full.
+     *
+     * @param index Index of the insertion.
+     */
+    private void split(int index) {
+        Chunk<E> chunk = root;
+        Chunk<E> half;
+        int      start = 0;
+
+        // Find the chunk and the index of its first value
+        while (true) {
+            int left = size(chunk.left);
+
+            if (index < left || index == left && left > 0) {
+                chunk = chunk.left;
+
+            } else if (index <= left + chunk.count) {
+                start += left;
+                break;
+
+            } else {
+                start += left + chunk.count;
+                index -= left + chunk.count;
+                chunk  = chunk.right;
+            }
+        }
+
+        // There is still room in the chunk
+        if (chunk.count < CHUNK_LENGTH) {
+            return;
+        }
+
+        Chunk<E>[] before = cut(root, start);
+        Chunk<E>[] after  = cut(before[1], chunk.count);
+
+        // Move the upper half of the values to a new chunk
+        half        = new Chunk<>(CHUNK_LENGTH, random.nextInt());
+        half.count  = chunk.count / 2;
+        chunk.count = chunk.count - half.count;
+
+        System.arraycopy(chunk.values, chunk.count, half.values, 0, half.count);
+        Arrays.fill(chunk.values, chunk.count, CHUNK_LENGTH, null);
+
+        root = join(before[0], join(join(chunk.update(), half.update()), after[1]));
+    }
+
+    /**
+     * Cuts a tree in two at a chunk boundary.
+     *
+     * @param chunk Root of the tree.
+     * @param count Number of values in the first tree, which
+     *              must end at the end of a chunk.
+     * @return The tree with the first values, and
+     * the tree with the rest of the values.
+     */
+    @SuppressWarnings("unchecked")
+    private Chunk<E>[] cut(Chunk<E> chunk, int count) {
+        Chunk<E>[] trees;
+
+        if (chunk == null) {
+            return (Chunk<E>[]) new Chunk<?>[2];
+        }
+
+        if (count <= size(chunk.left)) {
+            trees      = cut(chunk.left, count);
+            chunk.left = trees[1];
+            trees[1]   = chunk.update();
+
+        } else {
+            trees       = cut(chunk.right, count - size(chunk.left) - chunk.count);
+            chunk.right = trees[0];
+            trees[0]    = chunk.update();
+        }
+
+        return trees;
+    }
+
+    /**
+     * Returns String representation
+     * of the List.
+     *
+     * @return String representation.
+     */
+    @Override
+    public String toString() {
+        return asString();
+    }
+
+    /**
+     * Node of the tree, holding one chunk of values.
+     *
+     * @param <E> Generic type
+     */
+    private static final class Chunk<E> {
+        private final Object[] values;   // Values of the chunk
+        private final int      priority; // Random priority that balances the tree
+        private int            count;    // Number of values in the chunk
+        private int            size;     // Number of values in the subtree
+        private Chunk<E>       left;     // Chunks before this one
+        private Chunk<E>       right;    // Chunks after this one
+
+        /**
+         * Constructs empty chunk.
+         *
+         * @param length Maximum number of values.
+         * @param priority Priority in the tree.
+         */
+        private Chunk(int length, int priority) {
+            this.values   = new Object[length];
+            this.priority = priority;
+        }
+
+        /**
+         * Recomputes the number of values in
+         * the subtree after its children changed.
+         *
+         * @return This chunk.
+         */
+        private Chunk<E> update() {
+            size = size(left) + count + size(right);
+            return this;
+        }
+    }
+
+    /**
+     * Iterator that visits the chunks in order,
+     * keeping the path to the current chunk.
+     */
+    private final class ChunkedListIterator implements Iterator<E> {
+
+        @SuppressWarnings("unchecked")
+        private Chunk<E>[] path = (Chunk<E>[]) new Chunk<?>[16]; // Chunks whose values are still to come
+        private int        depth;                                // Number of chunks on the path
+        private Chunk<E>   chunk;                                // Chunk being iterated over
+        private int        cursor;                               // Position within the chunk
+
+        /**
+         * Starts at the first chunk.
+         */
+        private ChunkedListIterator() {
+            descend(root);
+            advance();
+        }
+
+        /**
+         * Moves to the next chunk in order.
+         */
+        private void advance() {
+            chunk  = depth == 0 ? null : path[--depth];
+            cursor = 0;
+
+            if (chunk != null) {
+                descend(chunk.right);
+            }
+        }
+
+        /**
+         * Pushes a chunk and all its left descendants onto the path.
+         *
+         * @param next Chunk to start from.
+         */
+        private void descend(Chunk<E> next) {
+
+            while (next != null) {
+
+                if (depth == path.length) {
+                    path = Arrays.copyOf(path, depth * 2);
+                }
+
+                path[depth++] = next;
+                next          = next.left;
+            }
+        }
+
+        /**
+         * Determines whether or not there are more values.
+         *
+         * @return True if there is a next value.
+         */
+        @Override
+        public boolean hasNext() {
+
+            // Skip chunks that are exhausted
+            while (chunk != null && cursor == chunk.count) {
+                advance();
+            }
+
+            return chunk != null;
+        }
+
+        /**
+         * Returns the next value.
+         *
+         * @return Next value.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return (E) chunk.values[cursor++];
+        }
+    }
+}
@@ -0,0 +1,538 @@
+package structures.vectors;
+
+import structures.commons.DataStructure;
+import structures.commons.ResettableIterator;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free FIFO queue that may be shared by any number of producer
+ * and consumer threads, after the algorithm by Michael and Scott. The
+ * queue is a singly linked chain of nodes that starts with a dummy
+ * node. Enqueueing links a new node after the last node with a single
+ * compare-and-set, and dequeueing swings the head pointer forward with
+ * another, so no thread ever waits on a lock held by another thread.
+ * A thread that finds the tail pointer lagging behind the last node
+ * moves it forward for whichever thread fell behind.
+ *
+ * <p>
+ * Null values cannot be enqueued, because a node whose value has
+ * been cleared marks a value that was already dequeued.
+ *
+ * <p>
+ * Under concurrent use, {@code size()} is an estimate, and the
+ * iterator is weakly consistent: it never throws a
+ * {@code ConcurrentModificationException}, it returns every value
+ * that was in the queue when iteration started and was not dequeued
+ * before the iterator reached it, and it may or may not return values
+ * enqueued during the iteration. Check-then-act sequences such as
+ * {@code if (!queue.empty()) queue.dequeue()} race with other
+ * consumers; use {@code poll()} instead, which returns null rather
+ * than throwing when the queue is empty.
+ *
+ * @author Jabari Dash
+ * @param <E> Generic type
+ */
+public final class ConcurrentLinkedQueue<E> implements Queue<E> {
+
+    /**
+     * Handle for atomic updates of {@code head}.
+     */
+    private static final VarHandle HEAD;
+
+    /**
+     * Handle for atomic updates of {@code tail}.
+     */
+    private static final VarHandle TAIL;
+
+    /**
+     * Handle for atomic updates of {@code Node.next}.
+     */
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+            HEAD = lookup.findVarHandle(ConcurrentLinkedQueue.class, "head", Node.class);
+            TAIL = lookup.findVarHandle(ConcurrentLinkedQueue.class, "tail", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+
+        } catch (ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    /**
+     * Dummy node whose successor holds the value
+     * at the front of the queue.
+     */
+    private volatile Node<E> head;
+
+    /**
+     * Last node of the chain, or a node close
+     * to it while an enqueue is completing.
+     */
+    private volatile Node<E> tail;
+
+    /**
+     * Number of values enqueued minus the number dequeued.
+     * Each thread counts into its own cell, so counting
+     * does not make the threads contend with each other.
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Constructs empty queue.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     */
+    public ConcurrentLinkedQueue() {
+        head = new Node<>(null);
+        tail = head;
+    }
+
+    /**
+     * Construct queue from array of values.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param values Array of values
+     */
+    public ConcurrentLinkedQueue(E[] values) {
+        this();
+        insert(values);
+    }
+
+    /**
+     * Construct queue from collection of values.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param values Collection of values
+     */
+    public ConcurrentLinkedQueue(Collection<E> values) {
+        this();
+        insert(values);
+    }
+
+    /**
+     * Determines whether or not the queue is empty.
+     * Under concurrent use the answer may be out of
+     * date by the time it is returned.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return True if and only if the queue held no values.
+     */
+    @Override
+    public boolean empty() {
+        return first() == null;
+    }
+
+    /**
+     * Determines whether or not this queue is equal to
+     * a provided object.
+     *
+     * @param object Object to compare this queue with.
+     * @return True if and only if their types are the same,
+     * lengths are the same, and the contain all the same elements.
+     */
+    @Override
+    public boolean equals(Object object) {
+        return equivalentTo(object);
+    }
+
+    /**
+     * Returns a hash code computed from the values in
+     * order, so equal queues have equal hash codes. While
+     * other threads use the queue this is an estimate.
+     *
+     * @return Hash code of the queue.
+     */
+    @Override
+    public int hashCode() {
+        return contentHash();
+    }
+
+    /**
+     * Returns the node after the dummy node,
+     * or null if the queue is empty.
+     *
+     * @return First node with a value.
+     */
+    private Node<E> first() {
+
+        while (true) {
+            Node<E> h     = head;
+            Node<E> first = h.next;
+
+            // A node without a value was dequeued after
+            // the head was read, so read the head again
+            if (first == null || first.value != null) {
+                return first;
+            }
+        }
+    }
+
+    /**
+     * Inserts a value at the back of the queue without
+     * blocking. The value is visible to consumers as soon
+     * as its node is linked into the chain.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param value Value to enqueue.
+     * @return True to indicate the insertion was successful.
+     * @throws IllegalArgumentException If the value is null.
+     */
+    @Override
+    public boolean insert(E value) {
+
+        if (value == null) {
+            throw new IllegalArgumentException("ConcurrentLinkedQueue does not accept null values");
+        }
+
+        Node<E> node = new Node<>(value);
+
+        while (true) {
+            Node<E> last = tail;
+            Node<E> next = last.next;
+
+            if (last != tail) {
+                continue;
+            }
+
+            if (next == null) {
+
+                // Link the node after the last node,
+                // then try to swing the tail onto it.
+                // If that fails, another thread did it.
+                if (NEXT.compareAndSet(last, null, node)) {
+                    TAIL.compareAndSet(this, last, node);
+                    count.increment();
+                    return true;
+                }
+
+            } else {
+
+                // The tail is lagging behind,
+                // help the other enqueue finish
+                TAIL.compareAndSet(this, last, next);
+            }
+        }
+    }
+
+    /**
+     * Returns an iterator over the values from the front
+     * of the queue to the back. The iterator is weakly
+     * consistent and never throws a
+     * {@code ConcurrentModificationException}.
+     *
+     * @return Iterator object.
+     */
+    @Override
+    public ResettableIterator<E> iterator() {
+        return new ConcurrentLinkedQueueIterator();
+    }
+
+    /**
+     * Returns but does not remove the
+     * value at the front of the queue.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Value at front of queue.
+     */
+    @Override
+    public E peek() {
+        Node<E> first;
+        E       value;
+
+        // The value may be dequeued in between
+        // finding the node and reading it
+        do {
+            first = first();
+
+            if (first == null) {
+                throw new EmptyDataStructureException("Cannot peek into an empty ConcurrentLinkedQueue");
+            }
+
+            value = first.value;
+
+        } while (value == null);
+
+        return value;
+    }
+
+    /**
+     * Retrieves and removes the value at the front of the
+     * queue, or returns null if the queue is empty. Unlike
+     * {@code dequeue()}, this is safe to call without first
+     * checking whether the queue is empty.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Value at front of queue, or null.
+     */
+    public E poll() {
+
+        while (true) {
+            Node<E> h     = head;
+            Node<E> last  = tail;
+            Node<E> first = h.next;
+
+            if (h != head) {
+                continue;
+            }
+
+            if (first == null) {
+                return null;
+            }
+
+            // The tail is still on the dummy node,
+            // help the pending enqueue finish first
+            if (h == last) {
+                TAIL.compareAndSet(this, last, first);
+                continue;
+            }
+
+            E value = first.value;
+
+            // The node whose value is taken becomes the new
+            // dummy node. Its value is cleared so that the
+            // queue does not keep it reachable, and the old
+            // dummy node is linked to itself so that it does
+            // not keep the rest of the chain reachable either.
+            if (value != null && HEAD.compareAndSet(this, h, first)) {
+                first.value = null;
+                NEXT.setRelease(h, h);
+                count.decrement();
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Removes an element from the DataStructure. The order
+     * in which the value comes out depends on the implementation
+     * of implementing class
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Removed value from DataStructure
+     * @see DataStructure
+     */
+    @Override
+    public E remove() {
+        E value = poll();
+
+        if (value == null) {
+            throw new EmptyDataStructureException("Cannot dequeue from an empty ConcurrentLinkedQueue");
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the number of values in the queue. Under
+     * concurrent use this is an estimate, as values may be
+     * enqueued and dequeued while it is computed.
+     *
+     * <p>
+     * Time: O(t) for t threads<br>
+     * Space: O(1)
+     *
+     * @return Number of values in the queue.
+     */
+    @Override
+    public int size() {
+        long size = count.sum();
+
+        return (int) Math.max(0, Math.min(size, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Returns a spliterator over the values. The number of
+     * values is not known in advance under concurrent use,
+     * so the spliterator does not report a size.
+     *
+     * @return Spliterator over the values.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.CONCURRENT);
+    }
+
+    /**
+     * Returns an array with the values of the queue in order.
+     * The values are collected in a single pass, so the array
+     * is consistent even if the size changes meanwhile.
+     *
+     * @param array Array whose type the returned array has.
+     * @return Array of the values.
+     */
+    @Override
+    public E[] toArray(E[] array) {
+        java.util.ArrayList<E> values = new java.util.ArrayList<>();
+
+        for (E value : this) {
+            values.add(value);
+        }
+
+        return values.toArray(java.util.Arrays.copyOf(array, 0));
+    }
+
+    /**
+     * Returns String representation
+     * of the queue.
+     *
+     * @return String representation.
+     */
+    @Override
+    public String toString() {
+        return asString();
+    }
+
+//------------------------------------------------------------------------------
+
+    /**
+     * Weakly consistent iterator that follows the chain of
+     * nodes. If the node it stands on has been dequeued and
+     * unlinked from the chain, it continues at the front of
+     * the queue.
+     */
+    private final class ConcurrentLinkedQueueIterator implements ResettableIterator<E> {
+        private Node<E> node;  // Node whose value is returned next
+        private E       value; // Value of that node, read when the node was reached
+
+        /**
+         * Constructs iterator starting
+         * at the front of the queue.
+         */
+        private ConcurrentLinkedQueueIterator() {
+            reset();
+        }
+
+        /**
+         * Finds the first node after a specified node that
+         * still holds a value, and remembers both.
+         *
+         * @param from Node to search after.
+         */
+        private void advance(Node<E> from) {
+            Node<E> next = from.next;
+
+            while (true) {
+
+                // The node was dequeued and linked to
+                // itself, so start over at the front
+                if (next == from) {
+                    next = head.next;
+                }
+
+                if (next == null) {
+                    node  = null;
+                    value = null;
+                    return;
+                }
+
+                E v = next.value;
+
+                if (v != null) {
+                    node  = next;
+                    value = v;
+                    return;
+                }
+
+                from = next;
+                next = next.next;
+            }
+        }
+
+        /**
+         * Rewinds the iterator to the
+         * present front of the queue.
+         *
+         * @return This iterator.
+         */
+        @Override
+        public ConcurrentLinkedQueueIterator reset() {
+            advance(head);
+            return this;
+        }
+
+        /**
+         * Determines whether or not there
+         * are more values to iterate over.
+         *
+         * @return True if and only if there are more values
+         */
+        @Override
+        public boolean hasNext() {
+            return node != null;
+        }
+
+        /**
+         * Returns the next value in the queue.
+         *
+         * @return Next value
+         */
+        @Override
+        public E next() {
+
+            if (!hasNext()) {
+                throw new NoSuchElementException("No element");
+            }
+
+            E result = value;
+            advance(node);
+
+            return result;
+        }
+    }
+
+//------------------------------------------------------------------------------
+
+    /**
+     * Node of the chain. The value is cleared
+     * once it has been dequeued.
+     *
+     * @param <T> Generic type
+     */
+    private static final class Node<T> {
+        volatile T       value; // Value of the node
+        volatile Node<T> next;  // Pointer to next node in chain
+
+        /**
+         * Constructs a new node with a specified value.
+         *
+         * @param value Specified value of Node
+         */
+        Node(T value) {
+            this.value = value;
+        }
+    }
+}
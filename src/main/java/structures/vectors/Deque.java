@@ -0,0 +1,94 @@
+package structures.vectors;
+
+/**
+ * Concrete implementations of double-ended
+ * queue data structures will implement this
+ * interface. A deque behaves like a Queue,
+ * but values can also be inserted at the front,
+ * and removed from the back.
+ *
+ * @author Jabari Dash
+ * @param <E> Generic type
+ */
+public interface Deque<E> extends Queue<E> {
+
+    /**
+     * Inserts a specified element
+     * to the front of the deque.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param element Specified element to insert.
+     * @return True if the insertion was successful.
+     */
+    boolean insertFirst(E element);
+
+    /**
+     * Inserts a specified element
+     * to the back of the deque.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param element Specified element to insert.
+     * @return True if the insertion was successful.
+     */
+    default boolean insertLast(E element) {
+        return insert(element);
+    }
+
+    /**
+     * Removes and returns the
+     * value at the front of the deque.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Value at front of deque.
+     */
+    default E removeFirst() {
+        return remove();
+    }
+
+    /**
+     * Removes and returns the
+     * value at the back of the deque.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Value at back of deque.
+     */
+    E removeLast();
+
+    /**
+     * Returns but does not remove the
+     * value at the front of the deque.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Value at front of deque.
+     */
+    default E peekFirst() {
+        return peek();
+    }
+
+    /**
+     * Returns but does not remove the
+     * value at the back of the deque.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Value at back of deque.
+     */
+    E peekLast();
+}
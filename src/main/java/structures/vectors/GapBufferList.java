@@ -0,0 +1,450 @@
+package structures.vectors;
+
+import structures.commons.GrowthPolicy;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Implementation of List using a gap buffer. The internal
+ * array holds the values in two runs with the free space,
+ * the gap, between them. Values are inserted into and removed
+ * from the edges of the gap, and the gap is only moved when
+ * an edit happens somewhere else. The gap stays where the last
+ * edit happened, so a sequence of edits near one position, like
+ * typing at a cursor, does not shift the rest of the list.
+ *
+ * <p>
+ * Moving the gap shifts every value between its old and new
+ * position, so edits that jump around the list cost as much as
+ * they do in {@code ArrayList}. Reads never move the gap.
+ *
+ * <p>
+ * The list keeps the same {@code allocations()}, {@code shifts()}
+ * and {@code copies()} analytics as {@code ArrayList}, so the two
+ * can be compared directly.
+ *
+ * @author Jabari Dash
+ * @param <E> Generic type
+ */
+public final class GapBufferList<E> implements List<E> {
+
+    /**
+     * Default initial length of the internal array.
+     */
+    private static final int DEFAULT_INITIAL_SIZE = 10;
+
+    /**
+     * Growth policy used when the gap is used up.
+     */
+    private final GrowthPolicy GROWTH_POLICY;
+
+    /**
+     * The internal array containing the values and the gap.
+     */
+    private E[] elements;
+
+    /**
+     * Index of the first slot of the gap, which
+     * is also the logical index the gap sits at.
+     */
+    private int gapStart;
+
+    /**
+     * Index of the first slot after the gap.
+     */
+    private int gapEnd;
+
+    /**
+     * Number of memory re-allocations.
+     */
+    private int allocations;
+
+    /**
+     * Number of values shifted while moving the gap.
+     */
+    private int shifts;
+
+    /**
+     * Number of values copied to a new internal array.
+     */
+    private int copies;
+
+    /**
+     * Constructs empty list.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     */
+    public GapBufferList() {
+        this(DEFAULT_INITIAL_SIZE);
+    }
+
+    /**
+     * Constructs empty list with a
+     * specified initial capacity.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param length Specific initial capacity of the list.
+     */
+    public GapBufferList(int length) {
+        this(length, GrowthPolicy.DOUBLING);
+    }
+
+    /**
+     * Constructs empty list with a specified initial
+     * capacity that grows according to a specified
+     * growth policy.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param length Specific initial capacity.
+     * @param policy Growth policy used when the internal array is full.
+     * @see GrowthPolicy
+     */
+    @SuppressWarnings("unchecked")
+    public GapBufferList(int length, GrowthPolicy policy) {
+
+        if (policy == null) {
+            throw new IllegalArgumentException("Growth policy must not be null");
+        }
+
+        GROWTH_POLICY = policy;
+        elements      = (E[]) new Object[Math.max(length, DEFAULT_INITIAL_SIZE)];
+        gapStart      = 0;
+        gapEnd        = elements.length;
+    }
+
+    /**
+     * Constructs list from array of values.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param values Array of values to instantiate list from
+     */
+    public GapBufferList(E[] values) {
+        this(values.length + 1);
+        insert(values);
+    }
+
+    /**
+     * Construct list from Java Collection of values.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param values Collection of values to construct list from.
+     * @see java.util.Collection
+     */
+    public GapBufferList(Collection<E> values) {
+        this(values.size() + 1);
+        insert(values);
+    }
+
+    /**
+     * Returns the number of memory
+     * re-allocations the internal array
+     * has undergone such that the list
+     * is in it's present state.
+     *
+     * @return Number of underwent re-allocations
+     */
+    public int allocations() {
+        return allocations;
+    }
+
+    /**
+     * Returns the number of values that
+     * have been copied to a new internal
+     * array such that the list is in its
+     * present state.
+     *
+     * @return Number of underwent copies.
+     */
+    public int copies() {
+        return copies;
+    }
+
+    /**
+     * Determines whether or not this list is equal to
+     * a provided object.
+     *
+     * @param object Object to compare this list with.
+     * @return True if and only if their types are the same,
+     * lengths are the same, and the contain all the same elements.
+     */
+    @Override
+    public boolean equals(Object object) {
+        return equivalentTo(object);
+    }
+
+    /**
+     * Returns a hash code computed from the values
+     * in order, so equal lists have equal hash codes.
+     *
+     * @return Hash code of the list.
+     */
+    @Override
+    public int hashCode() {
+        return contentHash();
+    }
+
+    /**
+     * Returns the value at a specified index.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param index Specified index.
+     * @return Value at specified index.
+     */
+    @Override
+    public E get(int index) {
+        verifyIndex(index);
+        return elements[physical(index)];
+    }
+
+    /**
+     * Moves the values into a larger internal array
+     * according to the growth policy, leaving the gap
+     * where it was.
+     */
+    private void grow() {
+        int size   = size();
+        int length = Math.max(GROWTH_POLICY.grow(size, elements.length), elements.length + 1);
+        int tail   = elements.length - gapEnd;
+
+        @SuppressWarnings("unchecked")
+        E[] temp = (E[]) new Object[length];
+
+        // Copy the values before and after the gap
+        // to either end of the new array
+        System.arraycopy(elements, 0, temp, 0, gapStart);
+        System.arraycopy(elements, gapEnd, temp, length - tail, tail);
+
+        elements = temp;
+        gapEnd   = length - tail;
+        copies  += size;
+        allocations++;
+    }
+
+    /**
+     * Inserts a value at the end of the list.
+     *
+     * <p>
+     * Time: O(1) if the last edit was at the end, O(n) otherwise<br>
+     * Space: O(1)
+     *
+     * @param value The specified value to insert
+     * @return True to indicate the insertion was successful.
+     */
+    @Override
+    public boolean insert(E value) {
+        return place(value, size());
+    }
+
+    /**
+     * Inserts a value at a specified index. The gap is moved
+     * to the index first, so inserting next to the previous
+     * edit shifts nothing.
+     *
+     * <p>
+     * Time: O(1) near the last edit, O(n) otherwise<br>
+     * Space: O(1)
+     *
+     * @param value Value to be inserted
+     * @param index Specified index to insert value at
+     * @return True to indicate the insertion was successful.
+     */
+    @Override
+    public boolean insert(E value, int index) {
+
+        // If the list is empty, simply
+        // insert into the front
+        if (empty()) {
+            return insert(value);
+        }
+
+        verifyIndex(index);
+
+        return place(value, index);
+    }
+
+    /**
+     * Returns the length of the internal array.
+     *
+     * @return Length of internal array that contains the elements
+     */
+    public int internalSize() {
+        return elements.length;
+    }
+
+    /**
+     * Moves the gap to a specified logical index by
+     * shifting the values between the old and the new
+     * position of the gap over to its other side.
+     *
+     * @param index Logical index to move the gap to.
+     */
+    private void moveGap(int index) {
+        int count;
+
+        if (index < gapStart) {
+
+            // Move the values before the gap
+            // to the slots just before its end
+            count = gapStart - index;
+            System.arraycopy(elements, index, elements, gapEnd - count, count);
+            Arrays.fill(elements, index, Math.min(gapStart, gapEnd - count), null);
+
+            gapStart -= count;
+            gapEnd   -= count;
+            shifts   += count;
+
+        } else if (index > gapStart) {
+
+            // Move the values after the gap
+            // to the slots just after its start
+            count = index - gapStart;
+            System.arraycopy(elements, gapEnd, elements, gapStart, count);
+            Arrays.fill(elements, Math.max(gapEnd, gapStart + count), gapEnd + count, null);
+
+            gapStart += count;
+            gapEnd   += count;
+            shifts   += count;
+        }
+    }
+
+    /**
+     * Maps a logical index to its index in the
+     * internal array, skipping over the gap.
+     *
+     * @param index Logical index.
+     * @return Index in the internal array.
+     */
+    private int physical(int index) {
+        return index < gapStart ? index : index + gapEnd - gapStart;
+    }
+
+    /**
+     * Moves the gap to a specified index and fills
+     * its first slot with a specified value.
+     *
+     * @param value Value to insert.
+     * @param index Index to insert the value at.
+     * @return True to indicate the insertion was successful.
+     */
+    private boolean place(E value, int index) {
+
+        // Always keep room for one more value
+        if (gapStart == gapEnd) {
+            grow();
+        }
+
+        moveGap(index);
+        elements[gapStart++] = value;
+
+        return true;
+    }
+
+    /**
+     * Retrieves and removes the value at a specified index.
+     * The gap is moved next to the index and widened over
+     * it, from whichever side it is closer to.
+     *
+     * <p>
+     * Time: O(1) near the last edit, O(n) otherwise<br>
+     * Space: O(1)
+     *
+     * @param index Index to remove value from.
+     * @return Value at specified index.
+     */
+    @Override
+    public E remove(int index) {
+        E value;
+
+        // Cannot remove from nothing
+        if (empty()) {
+            throw new EmptyDataStructureException("Cannot remove from an empty GapBufferList");
+        }
+
+        verifyIndex(index);
+
+        // The value is before the gap, so it
+        // is removed from the start of the gap
+        if (index < gapStart) {
+            moveGap(index + 1);
+            value = elements[--gapStart];
+            elements[gapStart] = null;
+
+            // The value is after the gap, so it
+            // is removed from the end of the gap
+        } else {
+            moveGap(index);
+            value = elements[gapEnd];
+            elements[gapEnd++] = null;
+        }
+
+        return value;
+    }
+
+    /**
+     * Overwrites a value at a specified index
+     * with a new value.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param value New value.
+     * @param index Specified index.
+     */
+    @Override
+    public void set(E value, int index) {
+        verifyIndex(index);
+        elements[physical(index)] = value;
+    }
+
+    /**
+     * Returns total number of values that
+     * have been shifted to the left or right
+     * such that the list is in its present state.
+     *
+     * @return Total number of shifts.
+     */
+    public int shifts() {
+        return shifts;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return Number of elements in the list.
+     */
+    @Override
+    public int size() {
+        return elements.length - (gapEnd - gapStart);
+    }
+
+    /**
+     * Returns String representation
+     * of the List.
+     *
+     * @return String representation.
+     */
+    @Override
+    public String toString() {
+        return asString();
+    }
+}
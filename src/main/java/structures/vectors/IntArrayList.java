@@ -0,0 +1,471 @@
+package structures.vectors;
+
+import structures.commons.DataStructure.EmptyDataStructureException;
+import structures.commons.GrowthPolicy;
+import structures.commons.PrimitiveDynamicArray;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.StringJoiner;
+import java.util.function.IntConsumer;
+
+/**
+ * ArrayList of primitive {@code int} values. It offers the same
+ * operations as {@code List}, but stores the values in an
+ * {@code int[]} rather than an {@code Object[]}, so no value is
+ * ever boxed. This saves the memory of a wrapper object per
+ * value, and the pointer chase on every access.
+ *
+ * <p>
+ * Since it does not box, it does not implement {@code List}
+ * or {@code Iterable}. Iterate with {@code iterator()}, which
+ * returns a {@code PrimitiveIterator.OfInt}, or {@code forEach()}.
+ *
+ * @author Jabari Dash
+ */
+public final class IntArrayList extends PrimitiveDynamicArray {
+
+    /**
+     * The internal array containing the elements.
+     */
+    private int[] elements;
+
+    /**
+     * Constructs empty list. The default capacity
+     * of the list is 10.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     */
+    public IntArrayList() {
+        this(0);
+    }
+
+    /**
+     * Instantiates a list with an internal array of a
+     * specified length. If a length smaller than the default
+     * capacity (10) is passed, the capacity will default to 10.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param length Specific initial capacity of the list.
+     */
+    public IntArrayList(int length) {
+        super(length);
+        elements = new int[initialLength()];
+    }
+
+    /**
+     * Instantiates a list with an internal array of a specified
+     * length that grows according to a specified growth policy.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param length Specific initial capacity.
+     * @param policy Growth policy used when the internal array is full.
+     * @see GrowthPolicy
+     */
+    public IntArrayList(int length, GrowthPolicy policy) {
+        this(length, policy, DEFAULT_RESIZE_THRESHOLD, DEFAULT_SHRINK_THRESHOLD);
+    }
+
+    /**
+     * Instantiates a list with an internal array of a specified
+     * length, growth policy, and resize and shrink thresholds.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param length Specific initial capacity.
+     * @param policy Growth policy used when the internal array is full.
+     * @param resizeThreshold Ratio above which the internal array grows.
+     * @param shrinkThreshold Ratio below which the internal array shrinks.
+     * @see GrowthPolicy
+     */
+    public IntArrayList(int length, GrowthPolicy policy, double resizeThreshold, double shrinkThreshold) {
+        super(length, policy, resizeThreshold, shrinkThreshold);
+        elements = new int[initialLength()];
+    }
+
+    /**
+     * Constructs list from array of values.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(n)
+     *
+     * @param values Array of values to construct the list from
+     */
+    public IntArrayList(int[] values) {
+        this(values.length);
+        insert(values);
+    }
+
+    /**
+     * Returns the internal array.
+     *
+     * @return Internal array.
+     */
+    @Override
+    protected Object array() {
+        return elements;
+    }
+
+    /**
+     * Replaces the internal array.
+     *
+     * @param array New internal array.
+     */
+    @Override
+    protected void array(Object array) {
+        elements = (int[]) array;
+    }
+
+    /**
+     * Allocates a new internal array.
+     *
+     * @param length Length of the new array.
+     * @return New internal array.
+     */
+    @Override
+    protected Object allocate(int length) {
+        return new int[length];
+    }
+
+    /**
+     * Returns the length of the internal array.
+     *
+     * @return Length of the internal array.
+     */
+    @Override
+    protected int length() {
+        return elements.length;
+    }
+
+    /**
+     * Determines whether or not a specified value is in the list
+     * via linear search.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param value Specified value to search for.
+     * @return True if and only if the specified value if in the list.
+     */
+    public boolean contains(int value) {
+
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Determines whether or not this list is equal to
+     * a provided object.
+     *
+     * @param object Object to compare this list with.
+     * @return True if and only if the object is also an
+     * {@code IntArrayList} with the same values in the same order.
+     */
+    @Override
+    public boolean equals(Object object) {
+
+        if (this == object) {
+            return true;
+        }
+
+        if (!(object instanceof IntArrayList)) {
+            return false;
+        }
+
+        IntArrayList that = (IntArrayList) object;
+
+        return Arrays.equals(this.elements, 0, this.size, that.elements, 0, that.size);
+    }
+
+    /**
+     * Returns a hash code computed from the values
+     * in order, so equal lists have equal hash codes.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @return Hash code of the list.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Integer.hashCode(elements[i]);
+        }
+
+        return hash;
+    }
+
+    /**
+     * Performs an action on each value
+     * in the list, in order.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param action Action to perform on each value.
+     */
+    public void forEach(IntConsumer action) {
+
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    /**
+     * Returns the value at a specified index.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param index Specified index.
+     * @return Value at specified index.
+     */
+    public int get(int index) {
+        verifyIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * Inserts a value at the end of the list.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param value The specified value to insert
+     * @return True to indicate the insertion was successful.
+     */
+    public boolean insert(int value) {
+
+        // Only re-allocate if full,
+        // nothing is shifted
+        claim(size);
+        elements[size - 1] = value;
+
+        return true;
+    }
+
+    /**
+     * Inserts an array of values at the end of the list.
+     *
+     * <p>
+     * Time: O(k)<br>
+     * Space: O(1)
+     *
+     * @param values Values to insert.
+     * @return True to indicate the insertion was successful.
+     */
+    public boolean insert(int[] values) {
+
+        for (int value : values) {
+            insert(value);
+        }
+
+        return true;
+    }
+
+    /**
+     * Inserts a value at a specified index.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param value Value to be inserted
+     * @param index Specified index to insert value at
+     * @return True to indicate the insertion was successful.
+     */
+    public boolean insert(int value, int index) {
+
+        // If the list is empty, simply
+        // insert into the front
+        if (empty()) {
+            return insert(value);
+        }
+
+        verifyIndex(index);
+        claim(index);
+        elements[index] = value;
+
+        return true;
+    }
+
+    /**
+     * Insert element at front of list.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param value Value to insert.
+     * @return True if the insertion was successful.
+     */
+    public boolean insertFirst(int value) {
+        return insert(value, 0);
+    }
+
+    /**
+     * Insert element at end of list.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param value Value to insert.
+     * @return True if the insertion was successful.
+     */
+    public boolean insertLast(int value) {
+        return insert(value);
+    }
+
+    /**
+     * Returns an iterator over the values
+     * in the list that does not box them, as
+     * long as {@code nextInt()} is used.
+     *
+     * @return Primitive iterator
+     */
+    public PrimitiveIterator.OfInt iterator() {
+
+        return new PrimitiveIterator.OfInt() {
+
+            /**
+             * Index of next item to return in iteration.
+             */
+            int cursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public int nextInt() {
+
+                // If there are no more keys left, throw an Exception
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No next element");
+                }
+
+                return elements[cursor++];
+            }
+        };
+    }
+
+    /**
+     * Retrieves and removes the value at a specified index.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param index Index to remove value from.
+     * @return Value at specified index.
+     */
+    public int remove(int index) {
+        int value;
+
+        // Cannot remove from nothing
+        if (empty()) {
+            throw new EmptyDataStructureException("Cannot remove from an empty IntArrayList");
+        }
+
+        verifyIndex(index);
+        value = elements[index];
+        release(index);
+
+        return value;
+    }
+
+    /**
+     * Removes first value from the list.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @return First element in the list.
+     */
+    public int removeFirst() {
+        return remove(0);
+    }
+
+    /**
+     * Removes the last value from the list.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Last element in the list.
+     */
+    public int removeLast() {
+        return remove(size - 1);
+    }
+
+    /**
+     * Overwrites a value at a specified index
+     * with a new value.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param value New value.
+     * @param index Specified index.
+     */
+    public void set(int value, int index) {
+        verifyIndex(index);
+        elements[index] = value;
+    }
+
+    /**
+     * Returns the values in the list as
+     * a new array of exactly {@code size()}.
+     *
+     * @return Array of values.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Returns String representation
+     * of the list.
+     *
+     * @return String representation.
+     */
+    @Override
+    public String toString() {
+        StringJoiner sj = new StringJoiner(", ", "[", "]");
+
+        for (int i = 0; i < size; i++) {
+            sj.add(String.valueOf(elements[i]));
+        }
+
+        return sj.toString();
+    }
+}
@@ -0,0 +1,295 @@
+package structures.vectors;
+
+import structures.commons.DataStructure.EmptyDataStructureException;
+import structures.commons.GrowthPolicy;
+import structures.commons.PrimitiveDynamicArray;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.StringJoiner;
+import java.util.function.IntConsumer;
+
+/**
+ * Stack of primitive {@code int} values backed by an
+ * internal {@code int[]}. It uses the same method names as
+ * {@code Stack} so callers can switch easily, but values
+ * are never boxed, and once the internal array has grown
+ * large enough, pushing and popping never allocate.
+ *
+ * @author Jabari Dash
+ */
+public final class IntArrayStack extends PrimitiveDynamicArray {
+
+    /**
+     * The internal array containing the elements.
+     */
+    private int[] elements;
+
+    /**
+     * Constructs empty stack. The default
+     * capacity of the stack is 10.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     */
+    public IntArrayStack() {
+        this(0);
+    }
+
+    /**
+     * Instantiates a stack with an internal array of a
+     * specified length. If a length smaller than the default
+     * capacity (10) is passed, the capacity will default to 10.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param length Specific initial capacity of the stack.
+     */
+    public IntArrayStack(int length) {
+        super(length);
+        elements = new int[initialLength()];
+    }
+
+    /**
+     * Instantiates a stack with an internal array of a specified
+     * length that grows according to a specified growth policy.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param length Specific initial capacity.
+     * @param policy Growth policy used when the internal array is full.
+     * @see GrowthPolicy
+     */
+    public IntArrayStack(int length, GrowthPolicy policy) {
+        this(length, policy, DEFAULT_RESIZE_THRESHOLD, DEFAULT_SHRINK_THRESHOLD);
+    }
+
+    /**
+     * Instantiates a stack with an internal array of a specified
+     * length, growth policy, and resize and shrink thresholds.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param length Specific initial capacity.
+     * @param policy Growth policy used when the internal array is full.
+     * @param resizeThreshold Ratio above which the internal array grows.
+     * @param shrinkThreshold Ratio below which the internal array shrinks.
+     * @see GrowthPolicy
+     */
+    public IntArrayStack(int length, GrowthPolicy policy, double resizeThreshold, double shrinkThreshold) {
+        super(length, policy, resizeThreshold, shrinkThreshold);
+        elements = new int[initialLength()];
+    }
+
+    /**
+     * Returns the internal array.
+     *
+     * @return Internal array.
+     */
+    @Override
+    protected Object array() {
+        return elements;
+    }
+
+    /**
+     * Replaces the internal array.
+     *
+     * @param array New internal array.
+     */
+    @Override
+    protected void array(Object array) {
+        elements = (int[]) array;
+    }
+
+    /**
+     * Allocates a new internal array.
+     *
+     * @param length Length of the new array.
+     * @return New internal array.
+     */
+    @Override
+    protected Object allocate(int length) {
+        return new int[length];
+    }
+
+    /**
+     * Determines whether or not a specified value is in the stack
+     * via linear search.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param value Specified value to search for.
+     * @return True if and only if the specified value if in the stack.
+     */
+    public boolean contains(int value) {
+
+        for (int i = 0; i < size; i++) {
+            if (elements[physical(i)] == value) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Performs an action on each value in the
+     * stack, in the order they would be removed.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param action Action to perform on each value.
+     */
+    public void forEach(IntConsumer action) {
+
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[physical(size - 1 - i)]);
+        }
+    }
+
+    /**
+     * Returns an iterator over the values in the
+     * stack, in the order they would be removed. The
+     * values are not boxed as long as {@code nextInt()}
+     * is used.
+     *
+     * @return Primitive iterator
+     */
+    public PrimitiveIterator.OfInt iterator() {
+
+        return new PrimitiveIterator.OfInt() {
+
+            /**
+             * Number of values returned so far.
+             */
+            int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < size;
+            }
+
+            @Override
+            public int nextInt() {
+
+                // If there are no more keys left, throw an Exception
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No next element");
+                }
+
+                int value = elements[physical(size - 1 - i)];
+                i++;
+
+                return value;
+            }
+        };
+    }
+
+    /**
+     * Returns the length of the internal array.
+     *
+     * @return Length of the internal array.
+     */
+    @Override
+    protected int length() {
+        return elements.length;
+    }
+
+    /**
+     * Retrieves and removes the topmost value from the stack.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return The topmost value on the stack.
+     */
+    public int pop() {
+        int value = top();
+
+        releaseLast();
+
+        return value;
+    }
+
+    /**
+     * Pushes a specified value onto the stack.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param value Specified value to be pushed onto the stack
+     */
+    public void push(int value) {
+
+        // Claim the slot first, the internal
+        // array may be replaced while doing so
+        int index = claimLast();
+
+        elements[index] = value;
+    }
+
+    /**
+     * Retrieves but does not remove the topmost value from the stack.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return The topmost value on the stack.
+     */
+    public int top() {
+
+        // Cannot look at nothing
+        if (empty()) {
+            throw new EmptyDataStructureException("Cannot access an empty IntArrayStack");
+        }
+
+        return elements[physical(size - 1)];
+    }
+
+
+    /**
+     * Returns the values in the stack as a new array,
+     * in the order they would be removed.
+     *
+     * @return Array of values.
+     */
+    public int[] toArray() {
+        int[] array = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            array[i] = elements[physical(size - 1 - i)];
+        }
+
+        return array;
+    }
+
+    /**
+     * Returns String representation of stack.
+     *
+     * @return String representation.
+     */
+    @Override
+    public String toString() {
+        StringJoiner sj = new StringJoiner(", ", "[", "]");
+
+        for (int i = 0; i < size; i++) {
+            sj.add(String.valueOf(elements[physical(size - 1 - i)]));
+        }
+
+        return sj.toString();
+    }
+}
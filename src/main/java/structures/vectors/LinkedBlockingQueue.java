@@ -0,0 +1,173 @@
+package structures.vectors;
+
+import structures.commons.BlockingStructure;
+
+import java.util.Collection;
+
+/**
+ * FIFO queue of linked nodes that threads can wait on, with an
+ * optional capacity bound. Producers append nodes at the tail while
+ * holding the put lock, and consumers unlink them at the head while
+ * holding the take lock, so a producer and a consumer never block
+ * each other. The chain starts with a dummy node, so that the two
+ * sides never touch the same node unless the queue is empty.
+ *
+ * <p>
+ * {@code put()} and {@code take()} wait for room or for a value,
+ * {@code offer(value, timeout, unit)} and {@code poll(timeout, unit)}
+ * wait at most a given time, and {@code offer()}, {@code poll()},
+ * {@code enqueue()} and {@code dequeue()} never wait. Null values
+ * cannot be inserted, because {@code poll()} returns null when the
+ * queue is empty.
+ *
+ * @author Jabari Dash
+ * @param <E> Generic type
+ * @see BlockingStructure
+ */
+public final class LinkedBlockingQueue<E> extends BlockingStructure<E> implements Queue<E> {
+
+    /**
+     * Dummy node whose successor holds the
+     * value at the front of the queue.
+     */
+    private Node<E> head;
+
+    /**
+     * Last node of the chain.
+     */
+    private Node<E> last;
+
+    /**
+     * Constructs empty, unbounded queue.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     */
+    public LinkedBlockingQueue() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs empty queue that holds at
+     * most a specified number of values.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param capacity Largest number of values.
+     */
+    public LinkedBlockingQueue(int capacity) {
+        super(capacity);
+        head = last = new Node<>(null);
+    }
+
+    /**
+     * Construct unbounded queue from array of values.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param values Array of values
+     */
+    public LinkedBlockingQueue(E[] values) {
+        this();
+        insert(values);
+    }
+
+    /**
+     * Construct unbounded queue from collection of values.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param values Collection of values
+     */
+    public LinkedBlockingQueue(Collection<E> values) {
+        this();
+        insert(values);
+    }
+
+    /**
+     * Links a node with a specified value
+     * after the last node of the chain.
+     *
+     * @param value Value to append
+     */
+    @Override
+    protected void append(E value) {
+        last = last.next = new Node<>(value);
+    }
+
+    /**
+     * Unlinks the dummy node, and makes the node holding the
+     * front value the new dummy node. The old dummy node is
+     * linked to itself, so that it does not keep the rest of
+     * the chain reachable if it lingers in an old GC generation.
+     *
+     * @return Value at the front
+     */
+    @Override
+    protected E extract() {
+        Node<E> h     = head;
+        Node<E> first = h.next;
+        E       value = first.value;
+
+        h.next      = h;
+        head        = first;
+        first.value = null;
+
+        return value;
+    }
+
+    /**
+     * Returns the value at the front of the queue.
+     *
+     * @return Value at the front
+     */
+    @Override
+    protected E first() {
+        return head.next.value;
+    }
+
+    /**
+     * Returns the values of the chain in order.
+     *
+     * @return Array of the values.
+     */
+    @Override
+    protected Object[] values() {
+        Object[] values = new Object[size()];
+        int      i      = 0;
+
+        for (Node<E> node = head.next; node != null; node = node.next) {
+            values[i++] = node.value;
+        }
+
+        return values;
+    }
+
+//------------------------------------------------------------------------------
+
+    /**
+     * Node of the chain.
+     *
+     * @param <T> Generic type
+     */
+    private static final class Node<T> {
+        T       value; // Value of the node
+        Node<T> next;  // Pointer to next node in chain
+
+        /**
+         * Constructs a new node with a specified value.
+         *
+         * @param value Specified value of Node
+         */
+        Node(T value) {
+            this.value = value;
+        }
+    }
+}
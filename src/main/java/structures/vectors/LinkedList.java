@@ -1,6 +1,7 @@
 package structures.vectors;
 
 import structures.commons.LinkedStructure;
+import structures.commons.ResettableIterator;
 
 import java.util.Collection;
 
@@ -57,6 +58,26 @@ public final class LinkedList<T> extends LinkedStructure<T> implements List<T> {
     super(values);
   }
 
+//------------------------------------------------------------------------------
+
+  /**
+   * Returns an iterator that walks the nodes of the list
+   * rather than looking up every index, so iterating over
+   * the whole list takes O(n) time. The iterator is
+   * fail-fast, and can be reset and reused.
+   *
+   * <p>
+   * Time: O(1)<br>
+   * Space: O(1)
+   *
+   * @return Iterator
+   */
+  @Override
+  public ResettableIterator<T> iterator() {
+
+    return super.iterator();
+  }
+
 //------------------------------------------------------------------------------
 
   /**
@@ -112,6 +133,41 @@ public final class LinkedList<T> extends LinkedStructure<T> implements List<T> {
     return delete(index);
   }
 
+  /**
+   * Removes the first value from the list.
+   *
+   * <p>
+   * Time: O(1)<br>
+   * Space: O(1)
+   *
+   * @return First value in the list
+   */
+  @Override
+  public T removeFirst() {
+
+    return deleteHead();
+  }
+
+//------------------------------------------------------------------------------
+
+  /**
+   * Removes the last value from the list without
+   * walking the chain from the front.
+   *
+   * <p>
+   * Time: O(1)<br>
+   * Space: O(1)
+   *
+   * @return Last value in the list
+   */
+  @Override
+  public T removeLast() {
+
+    return deleteTail();
+  }
+
+//------------------------------------------------------------------------------
+
   /**
    * Overwrites a value at a specified index
    * with a new value.
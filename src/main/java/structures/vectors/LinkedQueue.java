@@ -81,6 +81,6 @@ public final class LinkedQueue<E> extends LinkedStructure<E> implements Queue<E>
      */
     @Override
     public E remove() {
-        return delete(0);
+        return deleteHead();
     }
 }
\ No newline at end of file
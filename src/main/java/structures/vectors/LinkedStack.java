@@ -108,6 +108,6 @@ public final class LinkedStack<T> extends LinkedStructure<T> implements Stack<T>
      */
     @Override
     public T remove() {
-        return delete(0);
+        return deleteHead();
     }
 }
\ No newline at end of file
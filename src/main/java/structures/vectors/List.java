@@ -1,5 +1,7 @@
 package structures.vectors;
 
+import structures.commons.ResettableIterator;
+
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -177,12 +179,14 @@ public interface List<T> extends Vector<T> {
 
     /**
      * Static Iterator class so that the List can be iterated on via
-     * the enhance for loop.
+     * the enhance for loop. Every step looks up the next index, so
+     * lists whose {@code get()} is not O(1) should override
+     * {@code iterator()}.
      *
      * @author Jabari Dash
      * @param <T> Generic type
      */
-    class ListIterator<T> implements Iterator<T> {
+    class ListIterator<T> implements ResettableIterator<T> {
         private List<T> list;   // List to iterate over
         private int     cursor; // Cursor to keep track of position in iteration
 
@@ -197,6 +201,19 @@ public interface List<T> extends Vector<T> {
             this.cursor = 0;
         }
 
+//------------------------------------------------------------------------------
+
+        /**
+         * Rewinds the iterator to the first index.
+         *
+         * @return This iterator.
+         */
+        @Override
+        public ListIterator<T> reset() {
+            this.cursor = 0;
+            return this;
+        }
+
 //------------------------------------------------------------------------------
 
         /**
@@ -0,0 +1,467 @@
+package structures.vectors;
+
+import structures.commons.ByteBufferArray;
+import structures.commons.ElementCodec;
+import structures.commons.GrowthPolicy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * ArrayList whose elements live in a memory-mapped file. Every
+ * element is stored as a fixed-width record by an {@code ElementCodec},
+ * after a small header holding the width of the records and the
+ * number of elements. Reopening the file maps the existing records
+ * as they are, so a list of millions of elements is available again
+ * without reading or decoding any of them.
+ *
+ * <p>
+ * The list behaves like {@code ArrayList}: appending, inserting and
+ * removing at an index with shifting, growth according to a growth
+ * policy, {@code internalSize()}, and the {@code allocations()},
+ * {@code shifts()} and {@code copies()} analytics. Growing the list
+ * extends the file and maps it again, the records already in the
+ * file stay where they are, and {@code copies()} only counts the
+ * records that do have to move. A single file holds at most
+ * {@code Integer.MAX_VALUE} bytes.
+ *
+ * <p>
+ * Changes reach the file through the page cache of the operating
+ * system. Call {@code force()} to make sure they have been written
+ * to the storage device. Records are little-endian, so the file can
+ * be moved between machines.
+ *
+ * @author Jabari Dash
+ * @param <E> Generic type
+ */
+public final class MappedArrayList<E> extends ByteBufferArray<E> implements List<E>, AutoCloseable {
+
+    /**
+     * Identifies a file written by this class.
+     */
+    private static final int MAGIC = 0x4D41524C;
+
+    /**
+     * Number of bytes in the header.
+     */
+    private static final int HEADER = 16;
+
+    /**
+     * Position of the magic number in the header.
+     */
+    private static final int MAGIC_OFFSET = 0;
+
+    /**
+     * Position of the record width in the header.
+     */
+    private static final int WIDTH_OFFSET = 4;
+
+    /**
+     * Position of the number of elements in the header.
+     */
+    private static final int SIZE_OFFSET = 8;
+
+    /**
+     * Channel of the mapped file,
+     * or null once the list has been closed.
+     */
+    private FileChannel channel;
+
+    /**
+     * Opens the list stored in a specified file, or creates
+     * an empty list with the default capacity of 10 elements
+     * if the file does not exist yet.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param path File containing the list.
+     * @param codec Codec used to store the elements.
+     */
+    public MappedArrayList(Path path, ElementCodec<E> codec) {
+        this(path, codec, 0);
+    }
+
+    /**
+     * Opens the list stored in a specified file, or creates
+     * an empty list with a specified initial capacity if the
+     * file does not exist yet.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param path File containing the list.
+     * @param codec Codec used to store the elements.
+     * @param length Specific initial capacity of a new list.
+     */
+    public MappedArrayList(Path path, ElementCodec<E> codec, int length) {
+        this(path, codec, length, GrowthPolicy.DOUBLING, DEFAULT_RESIZE_THRESHOLD, DEFAULT_SHRINK_THRESHOLD);
+    }
+
+    /**
+     * Opens the list stored in a specified file, or creates an
+     * empty list if the file does not exist yet, with a specified
+     * initial capacity, growth policy, and resize and shrink
+     * thresholds. An existing list keeps at least the capacity
+     * it was stored with.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param path File containing the list.
+     * @param codec Codec used to store the elements.
+     * @param length Specific initial capacity.
+     * @param policy Growth policy used when the file is full.
+     * @param resizeThreshold Ratio above which the file grows.
+     * @param shrinkThreshold Ratio below which the file shrinks.
+     * @throws UncheckedIOException If the file cannot be opened or mapped.
+     * @throws IllegalArgumentException If the file does not contain a list of the codec's width.
+     * @see GrowthPolicy
+     */
+    public MappedArrayList(Path path, ElementCodec<E> codec, int length, GrowthPolicy policy, double resizeThreshold, double shrinkThreshold) {
+        super(codec, HEADER, Math.max(length, storedLength(path, codec)), policy, resizeThreshold, shrinkThreshold);
+
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+            boolean existing = channel.size() > 0;
+
+            // Check the header before mapping, which extends
+            // the file, so a rejected file is left untouched
+            int stored = existing ? open() : 0;
+
+            buffer = (ByteBuffer) allocate(initialLength());
+
+            if (existing) {
+                size = stored;
+                back = stored;
+            } else {
+                buffer.putInt(MAGIC_OFFSET, MAGIC);
+                buffer.putInt(WIDTH_OFFSET, width);
+                buffer.putInt(SIZE_OFFSET, 0);
+            }
+
+        } catch (IOException exception) {
+            close();
+            throw new UncheckedIOException(exception);
+
+        } catch (RuntimeException exception) {
+            close();
+            throw exception;
+        }
+    }
+
+    /**
+     * Maps the file with room for a specified number of
+     * elements, extending the file if it is too short.
+     *
+     * @param length Number of elements the mapping holds.
+     * @return New mapping of the file.
+     */
+    @Override
+    protected Object allocate(int length) {
+
+        try {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, lengthInBytes(length)).order(ByteOrder.LITTLE_ENDIAN);
+
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Replaces the mapping of the file. The old one is
+     * unmapped right away by {@code discard()}.
+     *
+     * @param array New mapping of the file.
+     */
+    @Override
+    protected void array(Object array) {
+        buffer = (ByteBuffer) array;
+    }
+
+    /**
+     * Unmaps the old mapping of the file, and then truncates
+     * the file if the new mapping is shorter, which only
+     * happens when the list shrinks.
+     *
+     * @param array Old mapping of the file.
+     */
+    @Override
+    protected void discard(Object array) {
+        super.discard(array);
+
+        try {
+            if (buffer.capacity() < ((ByteBuffer) array).capacity()) {
+                channel.truncate(buffer.capacity());
+            }
+
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Unmaps and closes the file. The elements remain in
+     * the file, but changes that were not forced may not
+     * have reached the storage device yet. Calling this
+     * more than once has no effect.
+     */
+    @Override
+    public void close() {
+        ByteBuffer  old  = buffer;
+        FileChannel file = channel;
+
+        buffer  = null;
+        channel = null;
+        size    = 0;
+        free(old);
+
+        try {
+            if (file != null) {
+                file.close();
+            }
+
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Determines whether or not this list is equal to
+     * a provided object.
+     *
+     * @param object Object to compare this list with.
+     * @return True if and only if their types are the same,
+     * lengths are the same, and the contain all the same elements.
+     */
+    @Override
+    public boolean equals(Object object) {
+        return equivalentTo(object);
+    }
+
+    /**
+     * Returns a hash code computed from the values
+     * in order, so equal lists have equal hash codes.
+     *
+     * @return Hash code of the list.
+     */
+    @Override
+    public int hashCode() {
+        return contentHash();
+    }
+
+    /**
+     * Writes all changes to the list to the storage device.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     */
+    public void force() {
+        ((MappedByteBuffer) buffer()).force();
+    }
+
+    /**
+     * Returns the value at a specified index.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param index Specified index.
+     * @return Value at specified index.
+     */
+    @Override
+    public E get(int index) {
+        return access(index);
+    }
+
+    /**
+     * Inserts a value at the end of the list.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param value The specified value to insert
+     * @return True to indicate the insertion was successful.
+     */
+    @Override
+    public boolean insert(E value) {
+        append(value);
+        persist();
+
+        return true;
+    }
+
+    /**
+     * Inserts a value at a specified index.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param value Value to be inserted
+     * @param index Specified index to insert value at
+     * @return True to indicate the insertion was successful.
+     */
+    @Override
+    public boolean insert(E value, int index) {
+        add(value, index);
+        persist();
+
+        return true;
+    }
+
+    /**
+     * Moves a range of elements. Every mapping views the same
+     * file, so the elements are moved within the destination
+     * mapping, where the overlap of the ranges is handled.
+     *
+     * @param src Source mapping
+     * @param from First element in source mapping
+     * @param dst Destination mapping
+     * @param to First element in destination mapping
+     * @param length Number of elements to move
+     */
+    @Override
+    protected void move(Object src, int from, Object dst, int to, int length) {
+        super.move(dst, from, dst, to, length);
+    }
+
+    /**
+     * Reads and checks the header of an existing file without
+     * mapping it, and returns the number of elements it holds.
+     *
+     * @return Number of elements in the file.
+     * @throws IOException If the header cannot be read.
+     * @throws IllegalArgumentException If the file does not contain a list of the codec's width.
+     */
+    private int open() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER).order(ByteOrder.LITTLE_ENDIAN);
+        int        read   = 0;
+
+        // Read the whole header, even if the channel
+        // returns it in parts, until the end of the file
+        while (header.hasRemaining() && read >= 0) {
+            read = channel.read(header, header.position());
+        }
+
+        if (header.hasRemaining() || header.getInt(MAGIC_OFFSET) != MAGIC) {
+            throw new IllegalArgumentException("File does not contain a MappedArrayList");
+        }
+
+        if (header.getInt(WIDTH_OFFSET) != width) {
+            throw new IllegalArgumentException("File contains elements of " + header.getInt(WIDTH_OFFSET) + " bytes, codec has " + width);
+        }
+
+        int  stored = header.getInt(SIZE_OFFSET);
+        long length = (channel.size() - HEADER) / width;
+
+        if (stored < 0 || stored >= length) {
+            throw new IllegalArgumentException("File is corrupt, size: " + stored + " length: " + length);
+        }
+
+        return stored;
+    }
+
+    /**
+     * Records the number of elements in the header.
+     */
+    private void persist() {
+        buffer.putInt(SIZE_OFFSET, size);
+    }
+
+    /**
+     * Retrieves and removes the value at a specified index.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param index Index to remove value from.
+     * @return Value at specified index.
+     */
+    @Override
+    public E remove(int index) {
+        E value = delete(index);
+
+        persist();
+
+        return value;
+    }
+
+    /**
+     * Every mapping views the same file, so values that
+     * keep their index when the file is mapped again do
+     * not have to be copied.
+     *
+     * @param src Source mapping
+     * @param dst Destination mapping
+     * @return True, the mappings share the file.
+     */
+    @Override
+    protected boolean sameStorage(Object src, Object dst) {
+        return true;
+    }
+
+    /**
+     * Overwrites a value at a specified index
+     * with a new value.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param value New value.
+     * @param index Specified index.
+     */
+    @Override
+    public void set(E value, int index) {
+        update(index, value);
+    }
+
+    /**
+     * Returns the number of elements an existing file has
+     * room for, or 0 if the file does not exist yet.
+     *
+     * @param path File containing the list.
+     * @param codec Codec used to store the elements.
+     * @return Capacity of the file in elements.
+     */
+    private static int storedLength(Path path, ElementCodec<?> codec) {
+
+        try {
+            if (codec == null || codec.width() <= 0 || !Files.exists(path)) {
+                return 0;
+            }
+
+            return (int) Math.max(0, (Files.size(path) - HEADER) / codec.width());
+
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Returns String representation
+     * of the List.
+     *
+     * @return String representation.
+     */
+    @Override
+    public String toString() {
+        return asString();
+    }
+}
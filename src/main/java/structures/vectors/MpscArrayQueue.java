@@ -0,0 +1,186 @@
+package structures.vectors;
+
+import structures.commons.RingBuffer;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Bounded FIFO queue for any number of producer threads and one
+ * consumer thread. Producers claim slots by moving the shared tail
+ * forward with a compare-and-set, then publish the value into the
+ * claimed slot with a release store. The consumer reads slots with
+ * an acquire load, and a slot that is still empty tells it that the
+ * value has not been published yet. Only the producers contend with
+ * each other, and only on the tail.
+ *
+ * <p>
+ * {@code fill()} claims all of its slots with a single
+ * compare-and-set, and {@code drainTo()} publishes the head
+ * once per batch.
+ *
+ * @author Jabari Dash
+ * @param <E> Generic type
+ * @see RingBuffer
+ */
+public final class MpscArrayQueue<E> extends RingBuffer<E> implements Queue<E> {
+
+    /**
+     * Constructs empty queue with room for 1024 values.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     */
+    public MpscArrayQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs empty queue with room for at least
+     * a specified number of values, rounded up to a
+     * power of two.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param capacity Smallest number of values the queue can hold.
+     */
+    public MpscArrayQueue(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Construct queue from array of values.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param values Array of values
+     */
+    public MpscArrayQueue(E[] values) {
+        super(values);
+    }
+
+    /**
+     * Construct queue from collection of values.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param values Collection of values
+     */
+    public MpscArrayQueue(Collection<E> values) {
+        super(values);
+    }
+
+    /**
+     * Returns the value at the head once it is published. If
+     * a producer has claimed the slot but not written it yet,
+     * the consumer spins until it does, which only takes as long
+     * as that producer needs to get the value and store it.
+     *
+     * @param sequence Sequence at the head of the queue.
+     * @param index Slot of the sequence.
+     * @return Value of the sequence, {@code SKIP}, or null.
+     */
+    @Override
+    protected E available(long sequence, int index) {
+        E value = element(index);
+
+        if (value == null && sequence < tail.getAcquire()) {
+            do {
+                Thread.onSpinWait();
+                value = element(index);
+            } while (value == null);
+        }
+
+        return value;
+    }
+
+    /**
+     * Inserts as many values as fit, up to a specified number.
+     * The free slots are claimed with a single compare-and-set,
+     * and then a value is taken from a specified supplier for
+     * each of them. If the supplier throws or returns null, the
+     * values taken so far stay in the queue, and the rest of the
+     * claimed slots are published as {@code SKIP}, which the
+     * consumer steps over.
+     *
+     * <p>
+     * Time: O(k)<br>
+     * Space: O(1)
+     *
+     * @param supplier Supplier of the values to insert, must not return null.
+     * @param limit Largest number of values to insert.
+     * @return Number of values inserted.
+     */
+    @Override
+    public int fill(Supplier<? extends E> supplier, int limit) {
+        long first;
+        long end;
+
+        do {
+            first = tail.getAcquire();
+            end   = first + Math.max(0, Math.min(limit, elements.length - (first - head.getAcquire())));
+
+            if (end == first) {
+                return 0;
+            }
+
+        } while (!tail.compareAndSet(first, end));
+
+        long t = first;
+
+        try {
+            for (; t < end; t++) {
+                E value = supplier.get();
+
+                verifyValue(value);
+                SLOT.setRelease(elements, (int) t & mask, value);
+            }
+
+        } finally {
+
+            // Every claimed slot must be published,
+            // or the consumer waits for it forever
+            for (long s = t; s < end; s++) {
+                SLOT.setRelease(elements, (int) s & mask, SKIP);
+            }
+        }
+
+        return (int) (end - first);
+    }
+
+    /**
+     * Inserts a value at the back of the queue unless the
+     * queue is full. Any thread may call this.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param value Value to insert, must not be null.
+     * @return True if and only if the value was inserted.
+     */
+    @Override
+    public boolean offer(E value) {
+        verifyValue(value);
+
+        while (true) {
+            long t = tail.getAcquire();
+
+            if (t - head.getAcquire() >= elements.length) {
+                return false;
+            }
+
+            if (tail.compareAndSet(t, t + 1)) {
+                SLOT.setRelease(elements, (int) t & mask, value);
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package structures.vectors;
+
+import structures.commons.ByteBufferArray;
+import structures.commons.ElementCodec;
+import structures.commons.GrowthPolicy;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * ArrayList whose elements live outside of the Java heap, in a
+ * direct {@code ByteBuffer}. Every element is stored as a fixed-width
+ * record by an {@code ElementCodec}, so a list of millions of elements
+ * is a single native allocation that the garbage collector never has
+ * to trace. Values are decoded on every {@code get()}, so this list
+ * is meant for primitive or small fixed-width records.
+ *
+ * <p>
+ * The list behaves like {@code ArrayList}: appending, inserting and
+ * removing at an index with shifting, growth according to a growth
+ * policy, {@code internalSize()}, and the {@code allocations()},
+ * {@code shifts()} and {@code copies()} analytics. A single buffer
+ * holds at most {@code Integer.MAX_VALUE} bytes.
+ *
+ * <p>
+ * The native memory is released as soon as {@code close()} is
+ * called, rather than whenever the garbage collector gets to it.
+ * The list cannot be used after it has been closed.
+ *
+ * @author Jabari Dash
+ * @param <E> Generic type
+ */
+public final class OffHeapArrayList<E> extends ByteBufferArray<E> implements List<E>, AutoCloseable {
+
+    /**
+     * Constructs empty list with the default
+     * capacity of 10 elements.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param codec Codec used to store the elements.
+     */
+    public OffHeapArrayList(ElementCodec<E> codec) {
+        this(codec, 0);
+    }
+
+    /**
+     * Constructs empty list with a specified initial capacity.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param codec Codec used to store the elements.
+     * @param length Specific initial capacity of the list.
+     */
+    public OffHeapArrayList(ElementCodec<E> codec, int length) {
+        this(codec, length, GrowthPolicy.DOUBLING, DEFAULT_RESIZE_THRESHOLD, DEFAULT_SHRINK_THRESHOLD);
+    }
+
+    /**
+     * Constructs empty list with a specified initial capacity,
+     * growth policy, and resize and shrink thresholds.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param codec Codec used to store the elements.
+     * @param length Specific initial capacity.
+     * @param policy Growth policy used when the internal buffer is full.
+     * @param resizeThreshold Ratio above which the internal buffer grows.
+     * @param shrinkThreshold Ratio below which the internal buffer shrinks.
+     * @see GrowthPolicy
+     */
+    public OffHeapArrayList(ElementCodec<E> codec, int length, GrowthPolicy policy, double resizeThreshold, double shrinkThreshold) {
+        super(codec, 0, length, policy, resizeThreshold, shrinkThreshold);
+
+        this.buffer = (ByteBuffer) allocate(initialLength());
+    }
+
+    /**
+     * Allocates a new native buffer.
+     *
+     * @param length Number of elements the buffer holds.
+     * @return New native buffer.
+     */
+    @Override
+    protected Object allocate(int length) {
+        return ByteBuffer.allocateDirect(lengthInBytes(length)).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Replaces the native buffer. The old one is released
+     * right away by {@code discard()}, rather than when
+     * the garbage collector gets to it.
+     *
+     * @param array New native buffer.
+     */
+    @Override
+    protected void array(Object array) {
+        buffer = (ByteBuffer) array;
+    }
+
+    /**
+     * Releases the native memory of the list. Calling this
+     * more than once has no effect.
+     */
+    @Override
+    public void close() {
+        ByteBuffer old = buffer;
+
+        buffer = null;
+        size   = 0;
+        free(old);
+    }
+
+    /**
+     * Determines whether or not this list is equal to
+     * a provided object.
+     *
+     * @param object Object to compare this list with.
+     * @return True if and only if their types are the same,
+     * lengths are the same, and the contain all the same elements.
+     */
+    @Override
+    public boolean equals(Object object) {
+        return equivalentTo(object);
+    }
+
+    /**
+     * Returns a hash code computed from the values
+     * in order, so equal lists have equal hash codes.
+     *
+     * @return Hash code of the list.
+     */
+    @Override
+    public int hashCode() {
+        return contentHash();
+    }
+
+    /**
+     * Returns the value at a specified index.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param index Specified index.
+     * @return Value at specified index.
+     */
+    @Override
+    public E get(int index) {
+        return access(index);
+    }
+
+    /**
+     * Inserts a value at the end of the list.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param value The specified value to insert
+     * @return True to indicate the insertion was successful.
+     */
+    @Override
+    public boolean insert(E value) {
+        return append(value);
+    }
+
+    /**
+     * Inserts a value at a specified index.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param value Value to be inserted
+     * @param index Specified index to insert value at
+     * @return True to indicate the insertion was successful.
+     */
+    @Override
+    public boolean insert(E value, int index) {
+        return add(value, index);
+    }
+
+    /**
+     * Retrieves and removes the value at a specified index.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param index Index to remove value from.
+     * @return Value at specified index.
+     */
+    @Override
+    public E remove(int index) {
+        return delete(index);
+    }
+
+    /**
+     * Overwrites a value at a specified index
+     * with a new value.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param value New value.
+     * @param index Specified index.
+     */
+    @Override
+    public void set(E value, int index) {
+        update(index, value);
+    }
+
+    /**
+     * Returns String representation
+     * of the List.
+     *
+     * @return String representation.
+     */
+    @Override
+    public String toString() {
+        return asString();
+    }
+}
@@ -0,0 +1,210 @@
+package structures.vectors;
+
+import structures.commons.RingBuffer;
+import structures.commons.Sequence;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Bounded FIFO queue for exactly one producer thread and one
+ * consumer thread. Each side owns its sequence, writes it with
+ * a release store, and reads the other side's sequence with an
+ * acquire load, so neither side ever waits or performs an atomic
+ * read-modify-write. Each side also caches the last sequence it
+ * read from the other, and only reads it again when the cached
+ * value says the queue looks full or empty, which keeps the
+ * other side's cache line from moving back and forth. The cached
+ * sequences are padded like the shared ones, so that neither side
+ * writes to a cache line the other side reads.
+ *
+ * <p>
+ * {@code fill()} and {@code drainTo()} publish their sequence once
+ * per batch rather than once per value.
+ *
+ * @author Jabari Dash
+ * @param <E> Generic type
+ * @see RingBuffer
+ */
+public final class SpscArrayQueue<E> extends RingBuffer<E> implements Queue<E> {
+
+    /**
+     * Head as last read by the producer,
+     * written only by the producer.
+     */
+    private final Sequence cachedHead = new Sequence(0);
+
+    /**
+     * Tail as last read by the consumer,
+     * written only by the consumer.
+     */
+    private final Sequence cachedTail = new Sequence(0);
+
+    /**
+     * Constructs empty queue with room for 1024 values.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     */
+    public SpscArrayQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs empty queue with room for at least
+     * a specified number of values, rounded up to a
+     * power of two.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param capacity Smallest number of values the queue can hold.
+     */
+    public SpscArrayQueue(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Construct queue from array of values.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param values Array of values
+     */
+    public SpscArrayQueue(E[] values) {
+        this(Math.max(DEFAULT_CAPACITY, values.length));
+
+        // Inserted here, not by the super constructor,
+        // which runs before the cached sequences exist
+        insert(values);
+    }
+
+    /**
+     * Construct queue from collection of values.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param values Collection of values
+     */
+    public SpscArrayQueue(Collection<E> values) {
+        this(Math.max(DEFAULT_CAPACITY, values.size()));
+        insert(values);
+    }
+
+    /**
+     * Returns the value at the head if the producer has
+     * published it. The producer's tail is only read again
+     * once the consumer has caught up with the cached one.
+     *
+     * @param sequence Sequence at the head of the queue.
+     * @param index Slot of the sequence.
+     * @return Value of the sequence, or null.
+     */
+    @Override
+    protected E available(long sequence, int index) {
+
+        long t = cachedTail.get();
+
+        if (sequence >= t) {
+            t = tail.getAcquire();
+            cachedTail.set(t);
+
+            if (sequence >= t) {
+                return null;
+            }
+        }
+
+        return elements[index];
+    }
+
+    /**
+     * Inserts as many values as fit, up to a specified number,
+     * and publishes them all at once. Only the producer may
+     * call this.
+     *
+     * <p>
+     * Time: O(k)<br>
+     * Space: O(1)
+     *
+     * @param supplier Supplier of the values to insert, must not return null.
+     * @param limit Largest number of values to insert.
+     * @return Number of values inserted.
+     */
+    @Override
+    public int fill(Supplier<? extends E> supplier, int limit) {
+        long first = tail.get();
+        long t     = first;
+        long end   = first + Math.min(limit, room(first, limit));
+
+        try {
+            for (; t < end; t++) {
+                E value = supplier.get();
+
+                verifyValue(value);
+                elements[(int) t & mask] = value;
+            }
+
+        } finally {
+            if (t != first) {
+                tail.setRelease(t);
+            }
+        }
+
+        return (int) (t - first);
+    }
+
+    /**
+     * Inserts a value at the back of the queue unless the
+     * queue is full. Only the producer may call this.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param value Value to insert, must not be null.
+     * @return True if and only if the value was inserted.
+     */
+    @Override
+    public boolean offer(E value) {
+        verifyValue(value);
+
+        long t = tail.get();
+
+        if (room(t, 1) == 0) {
+            return false;
+        }
+
+        elements[(int) t & mask] = value;
+        tail.setRelease(t + 1);
+
+        return true;
+    }
+
+    /**
+     * Returns the number of free slots after a specified tail,
+     * reading the consumer's head again only if the cached one
+     * leaves fewer than a wanted number.
+     *
+     * @param t Tail of the producer.
+     * @param wanted Number of free slots wanted.
+     * @return Number of free slots.
+     */
+    private long room(long t, int wanted) {
+        long room = elements.length - (t - cachedHead.get());
+
+        if (room < wanted) {
+            long h = head.getAcquire();
+
+            cachedHead.set(h);
+            room = elements.length - (t - h);
+        }
+
+        return room;
+    }
+}
@@ -0,0 +1,149 @@
+package structures.vectors;
+
+import structures.commons.ResettableIterator;
+import structures.commons.UnrolledLinkedStructure;
+
+import java.util.Collection;
+
+/**
+ * Doubly linked list that packs several values into each node.
+ * Compared to {@code LinkedList}, it uses a fraction of the memory
+ * per value, and looking up an index skips a whole block of values
+ * at a time.
+ *
+ * @author Jabari Dash
+ * @param <T> Generic type
+ * @see UnrolledLinkedStructure
+ */
+public final class UnrolledLinkedList<T> extends UnrolledLinkedStructure<T> implements List<T> {
+
+    /**
+     * Constructs empty list with the default block length of 64.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     */
+    public UnrolledLinkedList() {
+        super();
+    }
+
+    /**
+     * Constructs empty list whose blocks hold
+     * a specified number of values.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param blockLength Number of values per block.
+     */
+    public UnrolledLinkedList(int blockLength) {
+        super(blockLength);
+    }
+
+    /**
+     * Constructs list from array of values.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param values Array of values to construct the list from
+     */
+    public UnrolledLinkedList(T[] values) {
+        super(values);
+    }
+
+    /**
+     * Construct list from Java Collection of values.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param values Collection of values to construct list from.
+     * @see java.util.Collection
+     */
+    public UnrolledLinkedList(Collection<T> values) {
+        super(values);
+    }
+
+    /**
+     * Returns an iterator that walks the blocks of the list,
+     * so iterating over the whole list takes O(n) time. The
+     * iterator is fail-fast, and can be reset and reused.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Iterator
+     */
+    @Override
+    public ResettableIterator<T> iterator() {
+        return super.iterator();
+    }
+
+    /**
+     * Returns the value at a specified index in the list
+     *
+     * <p>
+     * Time: O(n / b)<br>
+     * Space: O(1)
+     *
+     * @param index The specified to retrieve the value from
+     * @return The value at the specified index
+     */
+    @Override
+    public T get(int index) {
+        return getValue(index);
+    }
+
+    /**
+     * Insert specified value at specified index in list.
+     *
+     * <p>
+     * Time: O(n / b + b)<br>
+     * Space: O(1)
+     *
+     * @param value Specified value to be inserted into the list
+     * @param index Specified index
+     * @return True to indicate the insertion was successful.
+     */
+    @Override
+    public boolean insert(T value, int index) {
+        return insertMiddle(value, index);
+    }
+
+    /**
+     * Removes the value at a specified index from the list.
+     *
+     * <p>
+     * Time: O(n / b + b)<br>
+     * Space: O(1)
+     *
+     * @param index Index of value to remove
+     * @return Value at specified index
+     */
+    @Override
+    public T remove(int index) {
+        return delete(index);
+    }
+
+    /**
+     * Overwrites a value at a specified index
+     * with a new value.
+     *
+     * <p>
+     * Time: O(n / b)<br>
+     * Space: O(1)
+     *
+     * @param value The value to be put in the list
+     * @param index Index to overwrite
+     */
+    @Override
+    public void set(T value, int index) {
+        setValue(value, index);
+    }
+}
@@ -0,0 +1,102 @@
+package structures.vectors;
+
+import structures.commons.DataStructure;
+import structures.commons.UnrolledLinkedStructure;
+
+import java.util.Collection;
+
+/**
+ * FIFO queue on an unrolled linked list. Values are
+ * enqueued into the free slots of the last block and
+ * dequeued from the run of the first, so a queue of
+ * n values allocates only about n / 64 nodes.
+ *
+ * @author Jabari Dash
+ * @param <E> Generic type
+ * @see UnrolledLinkedStructure
+ */
+public final class UnrolledLinkedQueue<E> extends UnrolledLinkedStructure<E> implements Queue<E> {
+
+    /**
+     * Constructs empty queue with the default block length of 64.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     */
+    public UnrolledLinkedQueue() {
+        super();
+    }
+
+    /**
+     * Constructs empty queue whose blocks hold
+     * a specified number of values.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param blockLength Number of values per block.
+     */
+    public UnrolledLinkedQueue(int blockLength) {
+        super(blockLength);
+    }
+
+    /**
+     * Construct queue from array of values.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param values Array of values
+     */
+    public UnrolledLinkedQueue(E[] values) {
+        super(values);
+    }
+
+    /**
+     * Construct queue from collection of values.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param values Collection of values
+     */
+    public UnrolledLinkedQueue(Collection<E> values) {
+        super(values);
+    }
+
+    /**
+     * Returns but does not remove the
+     * value at the front of the queue.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Value at front of queue.
+     */
+    @Override
+    public E peek() {
+        return getValue(0);
+    }
+
+    /**
+     * Removes an element from the DataStructure. The order
+     * in which the value comes out depends on the implementation
+     * of implementing class
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Removed value from DataStructure
+     * @see DataStructure
+     */
+    @Override
+    public E remove() {
+        return delete(0);
+    }
+}
@@ -0,0 +1,119 @@
+package structures.vectors;
+
+import structures.commons.DataStructure;
+import structures.commons.UnrolledLinkedStructure;
+
+import java.util.Collection;
+
+/**
+ * LIFO stack on an unrolled linked list. Values are
+ * pushed into the free slots before the run of the
+ * first block and popped from it, so a stack of n
+ * values allocates only about n / 64 nodes.
+ *
+ * @author Jabari Dash
+ * @param <T> Generic type
+ * @see UnrolledLinkedStructure
+ */
+public final class UnrolledLinkedStack<T> extends UnrolledLinkedStructure<T> implements Stack<T>, Vector<T> {
+
+    /**
+     * Constructs empty stack with the default block length of 64.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     */
+    public UnrolledLinkedStack() {
+        super();
+    }
+
+    /**
+     * Constructs empty stack whose blocks hold
+     * a specified number of values.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param blockLength Number of values per block.
+     */
+    public UnrolledLinkedStack(int blockLength) {
+        super(blockLength);
+    }
+
+    /**
+     * Construct stack from array of values
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param values Array of values
+     */
+    public UnrolledLinkedStack(T[] values) {
+        super(values);
+    }
+
+    /**
+     * Construct stack from collection of values
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @param values Collection of values
+     */
+    public UnrolledLinkedStack(Collection<T> values) {
+        super(values);
+    }
+
+    /**
+     * Inserts a value at the top of stack.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param value Specified value to be inserted into the stack
+     * @return True if insertion was successful
+     */
+    @Override
+    public boolean insert(T value) {
+
+        // The top of the stack is the head, so that
+        // iteration visits the values in LIFO order
+        return insertHead(value);
+    }
+
+    /**
+     * Retrieves but does not remove the topmost value from the stack.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return The topmost value on the stack.
+     */
+    @Override
+    public T top() {
+        return getValue(0);
+    }
+
+    /**
+     * Removes an element from the DataStructure. The order
+     * in which the value comes out depends on the implementation
+     * of implementing class
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Removed value from DataStructure
+     * @see DataStructure
+     */
+    @Override
+    public T remove() {
+        return delete(0);
+    }
+}
@@ -4,7 +4,11 @@ import structures.commons.DataStructure;
 
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.StringJoiner;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Interface for all linear DataStructures such as {@code LinkedList}, {@code ArrayList},
@@ -64,6 +68,42 @@ public interface Vector<T> extends DataStructure<T>, Iterable<T> {
         return false;
     }
 
+    /**
+     * Returns a hash code computed from the values in iteration
+     * order, which agrees with {@code sameContents()}. Like
+     * {@code asString()}, this cannot override {@code hashCode()}
+     * because this is an interface, so implementing classes call
+     * it from theirs.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(1)
+     *
+     * @return Hash code of the values.
+     */
+    default int contentHash() {
+        int hash = 1;
+
+        for (T value : this) {
+            hash = 31 * hash + (value == null ? 0 : value.hashCode());
+        }
+
+        return hash;
+    }
+
+//------------------------------------------------------------------------------
+
+    /**
+     * Returns a parallel stream over the values of the vector,
+     * in the order the iterator returns them. How well the work
+     * is divided among threads depends on {@code spliterator()}.
+     *
+     * @return Parallel stream of the values.
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
 //------------------------------------------------------------------------------
 
     /**
@@ -80,6 +120,34 @@ public interface Vector<T> extends DataStructure<T>, Iterable<T> {
      */
     T remove();
 
+//------------------------------------------------------------------------------
+
+    /**
+     * Returns a spliterator over the values of the vector that
+     * knows the size of the vector, so streams can presize their
+     * results and split the work into batches of the iterator's
+     * values. Array based vectors override this to split the
+     * internal array directly.
+     *
+     * @return Spliterator over the values.
+     */
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+//------------------------------------------------------------------------------
+
+    /**
+     * Returns a sequential stream over the values of the
+     * vector, in the order the iterator returns them.
+     *
+     * @return Stream of the values.
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
 //------------------------------------------------------------------------------
 
     /**
@@ -0,0 +1,444 @@
+package structures.vectors;
+
+import structures.commons.Sequence;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * Work-stealing deque after the algorithm by Chase and Lev, for
+ * schedulers that give each worker thread its own stack of tasks. The
+ * worker that owns the deque pushes and pops at the bottom as with any
+ * other {@code Stack}, using plain reads and writes and one ordered
+ * store, and only needs a compare-and-set when it pops the very last
+ * value. Other threads, the thieves, take the oldest value from the
+ * top with {@code steal()}, which moves the top forward with a
+ * compare-and-set, so thieves and the owner never lock each other out.
+ *
+ * <p>
+ * The values sit in a circular array whose length is a power of two.
+ * When the owner pushes onto a full array, it copies the values into
+ * one twice as long. Thieves may still be reading the old array, which
+ * is fine, because the values they can steal are in both.
+ *
+ * <p>
+ * {@code push()}, {@code pop()}, {@code poll()}, {@code top()} and the
+ * iterator may only be used by the owner thread. {@code steal()} and
+ * {@code size()} may be used by any thread. Null values cannot be
+ * pushed, because {@code poll()} and {@code steal()} return null when
+ * the deque is empty. A slot that a thief took a value from keeps
+ * the value until the owner pushes into that slot again.
+ *
+ * @author Jabari Dash
+ * @param <E> Generic type
+ */
+public final class WorkStealingDeque<E> implements Stack<E> {
+
+    /**
+     * Default length of the array.
+     */
+    private static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * Handle for ordered access to the slots of the array.
+     */
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    /**
+     * Circular array of values. Replaced by the owner when
+     * it grows, and read by thieves, so it is volatile.
+     */
+    private volatile E[] elements;
+
+    /**
+     * Index after the newest value, written only by the owner.
+     */
+    private final Sequence bottom = new Sequence(0);
+
+    /**
+     * Index of the oldest value, moved forward by thieves,
+     * and by the owner when it pops the last value.
+     */
+    private final Sequence top = new Sequence(0);
+
+    /**
+     * Constructs empty deque.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     */
+    public WorkStealingDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs empty deque with room for at least
+     * a specified number of values before it grows.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @param capacity Initial number of values the array can hold.
+     */
+    @SuppressWarnings("unchecked")
+    public WorkStealingDeque(int capacity) {
+
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30, not " + capacity);
+        }
+
+        elements = (E[]) new Object[Math.max(2, Integer.highestOneBit(capacity - 1) << 1)];
+    }
+
+    /**
+     * Construct deque from array of values, the
+     * last value of which ends up on top.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(n)
+     *
+     * @param values Array of values
+     */
+    public WorkStealingDeque(E[] values) {
+        this();
+        insert(values);
+    }
+
+    /**
+     * Construct deque from collection of values, the
+     * last value of which ends up on top.
+     *
+     * <p>
+     * Time: O(n)<br>
+     * Space: O(n)
+     *
+     * @param values Collection of values
+     */
+    public WorkStealingDeque(Collection<E> values) {
+        this();
+        insert(values);
+    }
+
+    /**
+     * Determines whether or not this deque is equal to
+     * a provided object.
+     *
+     * @param object Object to compare this deque with.
+     * @return True if and only if their types are the same,
+     * lengths are the same, and the contain all the same elements.
+     */
+    @Override
+    public boolean equals(Object object) {
+        return equivalentTo(object);
+    }
+
+    /**
+     * Returns a hash code computed from the values in
+     * order, so equal deques have equal hash codes. While
+     * other threads use the deque this is an estimate.
+     *
+     * @return Hash code of the deque.
+     */
+    @Override
+    public int hashCode() {
+        return contentHash();
+    }
+
+    /**
+     * Pushes a value onto the bottom of the deque, growing
+     * the array if it is full. The value is written before the
+     * bottom is published, so a thief that sees the new bottom
+     * also sees the value. Only the owner may call this.
+     *
+     * <p>
+     * Time: O(1), amortized<br>
+     * Space: O(1)
+     *
+     * @param value Value to push.
+     * @return True to indicate the insertion was successful.
+     * @throws IllegalArgumentException If the value is null.
+     */
+    @Override
+    public boolean insert(E value) {
+
+        if (value == null) {
+            throw new IllegalArgumentException("WorkStealingDeque does not accept null values");
+        }
+
+        long b = bottom.get();
+        long t = top.getAcquire();
+        E[]  a = elements;
+
+        if (b - t >= a.length) {
+            a = grow(a, t, b);
+        }
+
+        a[(int) b & (a.length - 1)] = value;
+        bottom.setRelease(b + 1);
+
+        return true;
+    }
+
+    /**
+     * Returns an iterator over the values from the bottom of
+     * the deque to the top, newest first. Only the owner may
+     * call this, and a value may be stolen after the iterator
+     * has returned it.
+     *
+     * @return Iterator object.
+     */
+    @Override
+    public Iterator<E> iterator() {
+
+        return new Iterator<E>() {
+            private final E[]  a    = elements;           // Array as of when iteration started
+            private final long last = top.getAcquire();   // Index to stop at
+            private       long next = bottom.get() - 1;   // Index of the next value
+
+            @Override
+            public boolean hasNext() {
+                return next >= Math.max(last, top.getAcquire());
+            }
+
+            @Override
+            public E next() {
+
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No element");
+                }
+
+                return a[(int) next-- & (a.length - 1)];
+            }
+        };
+    }
+
+    /**
+     * Removes and returns the value at the bottom of the
+     * deque, or null if the deque is empty. The owner first
+     * claims the bottom slot and then reads the top, with
+     * a full fence in between, so that a thief either sees
+     * the claim or the owner sees the thief's steal. Only
+     * when a single value is left do the owner and the
+     * thieves race for it with a compare-and-set.
+     * Only the owner may call this.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Value at the bottom, or null.
+     */
+    public E poll() {
+        long b = bottom.get() - 1;
+        E[]  a = elements;
+
+        bottom.setRelease(b);
+        VarHandle.fullFence();
+
+        long t = top.get();
+
+        // Empty, restore the bottom
+        if (t > b) {
+            bottom.setRelease(b + 1);
+            return null;
+        }
+
+        int i     = (int) b & (a.length - 1);
+        E   value = a[i];
+
+        // Last value, race the thieves for it
+        if (t == b) {
+
+            if (!top.compareAndSet(t, t + 1)) {
+                value = null;
+            }
+
+            bottom.setRelease(b + 1);
+        }
+
+        // Only the owner writes the slots, and no
+        // thief can reach this slot any more
+        a[i] = null;
+
+        return value;
+    }
+
+    /**
+     * Removes and returns the value at the bottom of the
+     * deque. Only the owner may call this.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Value at the bottom.
+     */
+    @Override
+    public E remove() {
+        E value = poll();
+
+        if (value == null) {
+            throw new EmptyDataStructureException("Cannot pop from an empty WorkStealingDeque");
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the number of values in the deque. While
+     * thieves steal from it, this is an estimate.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Number of values in the deque.
+     */
+    @Override
+    public int size() {
+        long t = top.getAcquire();
+        long b = bottom.getAcquire();
+
+        return (int) Math.max(0, b - t);
+    }
+
+    /**
+     * Returns a spliterator over the values. Thieves may
+     * take values while it runs, so it does not report a size.
+     *
+     * @return Spliterator over the values.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.CONCURRENT);
+    }
+
+    /**
+     * Removes and returns the value at the top of the deque,
+     * the oldest one, or null if the deque is empty. The value
+     * is read before the top is moved forward, and the read only
+     * counts if the compare-and-set succeeds. A thief that loses
+     * the race to another thief tries again. Any thread may call
+     * this.
+     *
+     * <p>
+     * Time: O(1), without contention<br>
+     * Space: O(1)
+     *
+     * @return Value at the top, or null.
+     */
+    @SuppressWarnings("unchecked")
+    public E steal() {
+
+        while (true) {
+            long t = top.getAcquire();
+
+            VarHandle.fullFence();
+
+            long b = bottom.getAcquire();
+
+            if (t >= b) {
+                return null;
+            }
+
+            E[] a     = elements;
+            E   value = (E) SLOT.getAcquire(a, (int) t & (a.length - 1));
+
+            if (top.compareAndSet(t, t + 1)) {
+                return value;
+            }
+
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Returns but does not remove the value at the
+     * bottom of the deque. Only the owner may call this.
+     *
+     * <p>
+     * Time: O(1)<br>
+     * Space: O(1)
+     *
+     * @return Value at the bottom.
+     */
+    @Override
+    public E top() {
+        long b = bottom.get() - 1;
+        E[]  a = elements;
+
+        if (top.getAcquire() > b) {
+            throw new EmptyDataStructureException("Cannot peek into an empty WorkStealingDeque");
+        }
+
+        return a[(int) b & (a.length - 1)];
+    }
+
+    /**
+     * Returns an array with the values of the deque, from
+     * the bottom to the top, collected in a single pass.
+     *
+     * @param array Array whose type the returned array has.
+     * @return Array of the values.
+     */
+    @Override
+    public E[] toArray(E[] array) {
+        java.util.ArrayList<E> values = new java.util.ArrayList<>();
+
+        for (E value : this) {
+            values.add(value);
+        }
+
+        return values.toArray(java.util.Arrays.copyOf(array, 0));
+    }
+
+    /**
+     * Returns String representation
+     * of the deque.
+     *
+     * @return String representation.
+     */
+    @Override
+    public String toString() {
+        return asString();
+    }
+
+//------------------------------------------------------------------------------
+
+    /**
+     * Copies the values between the top and the bottom into
+     * an array twice as long, and publishes it. The values
+     * keep their indices, so thieves still reading the old
+     * array find the same values there.
+     *
+     * @param a Present array.
+     * @param t Top index.
+     * @param b Bottom index.
+     * @return New array.
+     */
+    @SuppressWarnings("unchecked")
+    private E[] grow(E[] a, long t, long b) {
+
+        if (a.length == 1 << 30) {
+            throw new IllegalStateException("WorkStealingDeque cannot hold more than 2^30 values");
+        }
+
+        E[] grown = (E[]) new Object[a.length << 1];
+
+        for (long i = t; i < b; i++) {
+            grown[(int) i & (grown.length - 1)] = a[(int) i & (a.length - 1)];
+        }
+
+        elements = grown;
+
+        return grown;
+    }
+}
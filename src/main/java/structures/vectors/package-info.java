@@ -4,6 +4,7 @@
  * <ul>
  *   <li>Stack</li>
  *   <li>Queue</li>
+ *   <li>Deque</li>
  *   <li>List</li>
  * </ul>
  *
@@ -355,6 +355,119 @@ class Vectors extends Specification {
         numberOfKeys | "memory_allocations_for_large_lists" | "memory_allocations_to_build_array_list_of_size_n"
     }
 
-}
+    def "number of shifts saved by inserting k values at once rather than one at a time"() {
+        setup:
+        java.util.ArrayList<Number[]> points = new java.util.ArrayList<Number[]>();
+        structures.vectors.ArrayList<Integer> single
+        structures.vectors.ArrayList<Integer> batch
+        Integer[] values
+        Integer[] point
+
+        when:
+        for (int k = 1; k <= length; k+=interval) {
+            single = new structures.vectors.ArrayList<Integer>([0, 0] as Integer[])
+            batch  = new structures.vectors.ArrayList<Integer>([0, 0] as Integer[])
+            values = new Integer[k]
+
+            Arrays.fill(values, k)
+
+            for (Integer value : values) {
+                single.insert(value, 1);
+            }
+
+            batch.insertAll(1, values);
+
+            point    = new Integer[2]
+            point[0] = k
+            point[1] = single.shifts() - batch.shifts()
+
+            points.add(point)
+        }
+
+        then:
+        Plot.generateCSV(experimentName, points)
+        Plot.generatePlot(
+                experimentName,
+                plotTitle,
+                "Input_data",
+                "k",
+                "S(k)",
+                "S(k)",
+                "k",
+                false,
+                false,
+                true,
+                false,
+                true,
+                false
+        )
+
+
+        where:
+
+        length        | experimentName                      | plotTitle
+        numberOfKeys  | "shifts_saved_when_inserting_batch" | "shifts_saved_when_inserting_batch"
+
+    }
+
+    def "number of shifts to insert n values next to the previous insertion"() {
+        setup:
+        java.util.ArrayList<Number[]> points = new java.util.ArrayList<Number[]>();
+        structures.vectors.ArrayList<Integer> arrayList = new structures.vectors.ArrayList<Integer>();
+        structures.vectors.GapBufferList<Integer> gapBuffer = new structures.vectors.GapBufferList<Integer>();
+        Integer[] point
+        int cursor
+
+        when:
+        for (int i = 0; i < length; i++) {
+            arrayList.insert(i);
+            gapBuffer.insert(i);
+        }
+
+        // Type at a cursor in the middle of the list,
+        // jumping to a new position every interval values
+        for (int i = 0; i < length; i++) {
+
+            if (i % interval == 0) {
+                cursor = Plot.rand(0, arrayList.size()-1)
+            }
+
+            arrayList.insert(i, cursor);
+            gapBuffer.insert(i, cursor);
+            cursor++
+
+            point    = new Integer[2]
+            point[0] = arrayList.size()
+            point[1] = arrayList.shifts() - gapBuffer.shifts()
+
+            points.add(point)
+        }
+
+        then:
+        arrayList.toString() == gapBuffer.toString()
+        Plot.generateCSV(experimentName, points)
+        Plot.generatePlot(
+                experimentName,
+                plotTitle,
+                "Input_data",
+                "n",
+                "S(n)",
+                "S(n)",
+                "n",
+                false,
+                false,
+                true,
+                false,
+                true,
+                false
+        )
+
 
+        where:
+
+        length        | experimentName                                  | plotTitle
+        numberOfKeys  | "shifts_saved_by_gap_buffer_when_inserting_at_cursor" | "shifts_saved_by_gap_buffer_when_inserting_at_cursor"
 
+    }
+
+}
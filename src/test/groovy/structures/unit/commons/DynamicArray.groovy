@@ -1,12 +1,156 @@
 package structures.unit.commons
 
+import spock.lang.Unroll
+import structures.commons.DataStructure
+import structures.commons.DynamicArray
+import structures.commons.GrowthPolicy
 import structures.vectors.ArrayList
 import structures.vectors.ArrayQueue
 import structures.vectors.ArrayStack
 import util.Spec
 
+/**
+ * The growth policy factories are called through method pointers,
+ * because Groovy 2.4 cannot call static interface methods directly.
+ */
 abstract class DynamicArraySpec extends Spec {
 
+    @Unroll
+    def "Growing with policy #name gives an internal array of length #length"() {
+        given:
+        DynamicArray<Integer> array = (DynamicArray<Integer>) myClass.newInstance(10, policy)
+
+        when:
+        (0..<10).each { ((DataStructure<Integer>) array).insert(it) }
+
+        then:
+        array.size()         == 10
+        array.internalSize() == length
+        array.allocations()  == 1
+
+        where:
+        name             | policy                         | length
+        "DOUBLING"       | GrowthPolicy.DOUBLING          | 18
+        "ONE_AND_A_HALF" | GrowthPolicy.ONE_AND_A_HALF    | 13
+        "geometric(3)"   | GrowthPolicy.&geometric(3.0d)  | 27
+        "chunked(5)"     | GrowthPolicy.&chunked(5)       | 15
+        "chunked(1)"     | GrowthPolicy.&chunked(1)       | 13
+    }
+
+    def "Ensuring capacity up front avoids re-allocations while inserting"() {
+        given:
+        DynamicArray<Integer> array = (DynamicArray<Integer>) constructor()
+
+        when:
+        array.ensureCapacity(5)
+
+        then:
+        array.allocations() == 0
+
+        when:
+        array.ensureCapacity(1000)
+        (0..<1000).each { ((DataStructure<Integer>) array).insert(it) }
+
+        then:
+        array.size()        == 1000
+        array.allocations() == 1
+    }
+
+    def "Trimming shrinks the internal array to fit, but never below the initial size"() {
+        given:
+        DynamicArray<Integer> array = (DynamicArray<Integer>) constructor()
+
+        when:
+        (0..<100).each { ((DataStructure<Integer>) array).insert(it) }
+        int allocations = array.allocations()
+        String string   = array.toString()
+        array.trimToSize()
+
+        then:
+        array.internalSize() == 119
+        array.allocations()  == allocations + 1
+        array.toString()     == string
+
+        when:
+        DynamicArray<Integer> small = (DynamicArray<Integer>) constructor([1, 2, 3] as Object[])
+        small.trimToSize()
+
+        then:
+        small.internalSize() == 10
+        small.allocations()  == 0
+    }
+
+    def "Inserting and removing around a shrink does not re-allocate back and forth"() {
+        given:
+        DynamicArray<Integer>  array     = (DynamicArray<Integer>) myClass.newInstance(10, GrowthPolicy.DOUBLING, 0.85d, 0.25d)
+        DataStructure<Integer> structure = (DataStructure<Integer>) array
+
+        when:
+        (0..<100).each { structure.insert(it) }
+        int length = array.internalSize()
+        int grown  = array.allocations()
+
+        while (array.allocations() == grown) {
+            structure.remove()
+        }
+
+        int shrunk      = array.internalSize()
+        int allocations = array.allocations()
+
+        100.times {
+            structure.insert(it)
+            structure.remove()
+        }
+
+        then:
+        shrunk               == length.intdiv(2)
+        array.allocations()  == allocations
+        array.internalSize() == shrunk
+    }
+
+    @Unroll
+    def "A resize threshold of #resize with shrink threshold #shrink is rejected"() {
+        when:
+        myClass.newInstance(10, GrowthPolicy.DOUBLING, resize, shrink)
+
+        then:
+        thrown IllegalArgumentException
+
+        where:
+        resize | shrink
+        0.0d   | 0.0d
+        1.0d   | 0.0d
+        1.5d   | 0.0d
+        -0.5d  | 0.0d
+        0.85d  | -0.1d
+        0.85d  | 0.425d
+        0.85d  | 0.5d
+        0.5d   | 0.3d
+    }
+
+    def "A null growth policy is rejected"() {
+        when:
+        myClass.newInstance(10, (GrowthPolicy) null)
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    @Unroll
+    def "Growth policy #name is rejected"() {
+        when:
+        policy()
+
+        then:
+        thrown IllegalArgumentException
+
+        where:
+        name           | policy
+        "geometric(1)" | { GrowthPolicy.&geometric(1.0d) }
+        "geometric(0)" | { GrowthPolicy.&geometric(0.0d) }
+        "chunked(0)"   | { GrowthPolicy.&chunked(0) }
+        "chunked(-1)"  | { GrowthPolicy.&chunked(-1) }
+    }
 }
 
 final class DynamicArraySpec_ArrayList extends DynamicArraySpec {
@@ -14,6 +158,57 @@ final class DynamicArraySpec_ArrayList extends DynamicArraySpec {
     def setup() {
         myClass = ArrayList
     }
+
+    def "Shifts and copies count each value moved by middle inserts, deletes and resizes"() {
+        given:
+        ArrayList<Integer> list = new ArrayList<>()
+
+        when: "Appending into free slots moves nothing"
+        (0..<8).each { list.insert(it) }
+
+        then:
+        list.shifts() == 0
+        list.copies() == 0
+
+        when: "A middle insert shifts the 5 values from index 3 on"
+        list.insert(99, 3)
+
+        then:
+        list.shifts() == 5
+        list.copies() == 0
+
+        when: "A delete shifts the 7 values after index 2"
+        list.remove(2)
+
+        then:
+        list.shifts()   == 12
+        list.copies()   == 0
+        list.toString() == "[0, 1, 99, 3, 4, 5, 6, 7]"
+
+        when: "A resize copies all 9 values into the new array"
+        list.insert(8)
+        list.insert(9)
+
+        then:
+        list.allocations() == 1
+        list.shifts()      == 12
+        list.copies()      == 9
+
+        when: "A middle insert into a full array copies all 16 values around the gap"
+        list.insert(10)
+        list.insert(11)
+        list.insert(12)
+        list.insert(13)
+        list.insert(14)
+        list.insert(15)
+        list.insert(100, 4)
+
+        then:
+        list.allocations() == 2
+        list.shifts()      == 12
+        list.copies()      == 9 + 16
+        list.toString()    == "[0, 1, 99, 3, 100, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15]"
+    }
 }
 
 final class DynamicArraySpec_ArrayStack extends DynamicArraySpec {
@@ -28,4 +223,4 @@ final class DynamicArraySpec_ArrayQueue extends DynamicArraySpec {
     def setup() {
         myClass = ArrayQueue
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,232 @@
+package structures.unit.commons
+
+import spock.lang.Specification
+import spock.lang.Timeout
+import spock.lang.Unroll
+import structures.commons.Guard
+import structures.commons.GuardedStructure
+import structures.commons.GuardedTree
+import structures.commons.GuardedVector
+import structures.trees.AVLTree
+import structures.trees.BinaryTree
+import structures.vectors.ArrayList
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.atomic.AtomicBoolean
+
+class GuardedStructureSpec extends Specification {
+
+    @Unroll
+    def "A guarded vector passes every call on to the wrapped vector"() {
+        given:
+        GuardedVector<Integer> vector = new GuardedVector<>(new ArrayList<Integer>(), guard)
+
+        when:
+        vector.insert([1, 2, 3] as Integer[])
+
+        then:
+        vector.size()     == 3
+        vector.contains(2)
+        vector.toString() == "[1, 2, 3]"
+        vector.stream().mapToInt { it }.sum() == 6
+        vector.toArray(new Integer[0]) == [1, 2, 3] as Integer[]
+
+        where:
+        guard << [Guard.readWrite(), Guard.optimistic()]
+    }
+
+    @Unroll
+    def "A guarded tree passes every call on to the wrapped tree"() {
+        given:
+        GuardedTree<Integer, String> tree = new GuardedTree<>(new AVLTree<Integer, String>(), guard)
+
+        when:
+        (1..7).each { tree.insert(it, "v" + it) }
+        tree.removeValue("v7")
+
+        then:
+        tree.size()       == 6
+        tree.get(3)       == "v3"
+        tree.getKey("v5") == 5
+        !tree.containsKey(7)
+        tree.toString(BinaryTree.IN_ORDER) == "[1, 2, 3, 4, 5, 6]"
+        tree.collect { it.key() } as Set == (1..6) as Set
+
+        where:
+        guard << [Guard.readWrite(), Guard.optimistic()]
+    }
+
+    def "Null structures and guards are rejected"() {
+        when:
+        new GuardedStructure<Integer>(null, Guard.readWrite())
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    @Unroll
+    def "A bounded optimistic read rethrows a #failure.class.simpleName that no write caused"() {
+        given:
+        Guard guard = Guard.optimistic()
+        int   calls = 0
+
+        when:
+        guard.readBounded {
+            calls++
+            throw failure
+        }
+
+        then:
+        Throwable thrown = thrown()
+        thrown.is(failure)
+        calls == 1
+
+        where:
+        failure << [new IllegalStateException(), new StackOverflowError()]
+    }
+
+    @Unroll
+    def "A bounded optimistic read that a write got in the way of runs again under the read lock after a #failure.class.simpleName"() {
+        given:
+        Guard guard = Guard.optimistic()
+        int   calls = 0
+
+        when:
+        String result = guard.readBounded {
+            if (calls++ == 0) {
+                Thread.start { guard.write { null } }.join()
+                throw failure
+            }
+
+            "read"
+        }
+
+        then:
+        result == "read"
+        calls  == 2
+
+        where:
+        failure << [new IllegalStateException(), new StackOverflowError()]
+    }
+
+    @Unroll
+    def "A guarded structure has the hash code of the structure it wraps"() {
+        given:
+        ArrayList<Integer>     list   = new ArrayList<>([1, 2, 3] as Integer[])
+        GuardedVector<Integer> vector = new GuardedVector<>(list, guard)
+
+        expect:
+        vector.hashCode() == list.hashCode()
+
+        where:
+        guard << [Guard.readWrite(), Guard.optimistic()]
+    }
+
+    @Timeout(10)
+    def "Optimistic lookups in a search tree do not hold the lock, so a writer does not wait for them"() {
+        given:
+        GuardedTree<Probe, Integer> tree    = new GuardedTree<>(new AVLTree<Probe, Integer>(), Guard.optimistic())
+        CountDownLatch              entered = new CountDownLatch(1)
+        CountDownLatch              release = new CountDownLatch(1)
+        Integer                     found   = null
+
+        (0..<10).each { tree.insert(new Probe(it), it) }
+
+        when:
+        Thread reader = Thread.start { found = tree.get(new Probe(5, entered, release)) }
+        entered.await()
+
+        // The reader is stuck in the middle of its lookup,
+        // which would block this write if it held the lock
+        boolean inserted = tree.insert(new Probe(10), 10)
+        release.countDown()
+        reader.join()
+
+        then:
+        inserted
+        found       == 5
+        tree.size() == 11
+    }
+
+    @Timeout(60)
+    @Unroll
+    def "Readers never see a key with the wrong value while a writer changes the tree"() {
+        given:
+        GuardedTree<Integer, Integer> tree = new GuardedTree<>(new AVLTree<Integer, Integer>(), guard)
+        int                           n    = 5000
+        AtomicBoolean                 done = new AtomicBoolean()
+        AtomicBoolean                 bad  = new AtomicBoolean()
+
+        java.util.List<Thread> readers = (0..<3).collect {
+            Thread.start {
+                Random random = new Random()
+
+                while (!done.get()) {
+                    int     key   = random.nextInt(n)
+                    Integer value = tree.get(key)
+
+                    if (value != null && value != key * 2) {
+                        bad.set(true)
+                    }
+
+                    Thread.yield()
+                }
+            }
+        }
+
+        when:
+        (0..<n).each { tree.insert(it, it * 2) }
+        (0..<n).step(2).each { tree.remove(it) }
+
+        done.set(true)
+        readers*.join()
+
+        then:
+        !bad.get()
+        tree.size() == n.intdiv(2)
+        tree.isBalanced()
+
+        where:
+        guard << [Guard.readWrite(), Guard.optimistic()]
+    }
+
+    /**
+     * Key that can hold up the lookup it is used in.
+     */
+    static class Probe implements Comparable<Probe> {
+        final int            value
+        final CountDownLatch entered
+        final CountDownLatch release
+
+        Probe(int value, CountDownLatch entered = null, CountDownLatch release = null) {
+            this.value   = value
+            this.entered = entered
+            this.release = release
+        }
+
+        @Override
+        int compareTo(Probe other) {
+            if (entered != null) {
+                entered.countDown()
+                release.await()
+            }
+
+            return Integer.compare(value, other.value)
+        }
+
+        @Override
+        boolean equals(Object other) {
+            return other instanceof Probe && ((Probe) other).value.intValue() == value.intValue()
+        }
+
+        @Override
+        int hashCode() {
+            return value
+        }
+
+        @Override
+        String toString() {
+            return String.valueOf(value)
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package structures.unit.commons
+
+import spock.lang.Specification
+import spock.lang.Unroll
+import structures.commons.LinkedStructure
+import structures.vectors.LinkedList
+import structures.vectors.LinkedQueue
+import structures.vectors.LinkedStack
+
+class LinkedStructureSpec extends Specification {
+
+    def "Queue churn reuses pooled nodes"() {
+        given:
+        LinkedQueue<Integer> queue = new LinkedQueue<>()
+        queue.poolNodes(16)
+
+        when:
+        (0..<10).each { queue.enqueue(it) }
+        (0..<1000).each {
+            assert queue.dequeue() == it
+            queue.enqueue(it + 10)
+        }
+
+        then:
+        queue.size()       == 10
+        queue.poolMisses() == 10
+        queue.poolHits()   == 1000
+        queue.pooled()     == 0
+    }
+
+    @Unroll
+    def "Pool holds at most its capacity"() {
+        given:
+        LinkedStructure<Integer> structure = type.newInstance()
+        structure.poolNodes(4)
+
+        when:
+        (0..<10).each { structure.insert(it) }
+        (0..<10).each { structure.remove() }
+
+        then:
+        structure.pooled() == 4
+
+        when:
+        structure.poolNodes(1)
+
+        then:
+        structure.pooled() == 1
+
+        where:
+        type << [LinkedQueue, LinkedStack]
+    }
+
+    def "Nodes are not reused when pooling is disabled"() {
+        given:
+        LinkedList<Integer> list = new LinkedList<>([1, 2, 3] as Integer[])
+
+        when:
+        list.remove(1)
+        list.insert(4)
+
+        then:
+        list.toString()   == "[1, 3, 4]"
+        list.poolHits()   == 0
+        list.poolMisses() == 4
+        list.pooled()     == 0
+    }
+
+    def "Removing the last value moves the tail back"() {
+        given:
+        LinkedList<Integer> list = new LinkedList<>([1, 2, 3, 4] as Integer[])
+
+        when:
+        list.remove(3)
+        list.insert(5)
+
+        then:
+        list.toString() == "[1, 2, 3, 5]"
+        list.get(3)     == 5
+        list.get(2)     == 3
+    }
+
+    def "removeLast() and removeFirst() keep both ends consistent"() {
+        given:
+        LinkedList<Integer> list = new LinkedList<>([1, 2, 3] as Integer[])
+
+        expect:
+        list.removeLast()  == 3
+        list.removeFirst() == 1
+        list.removeLast()  == 2
+        list.empty()
+
+        when:
+        list.insert(7)
+        list.insertFirst(6)
+
+        then:
+        list.toString() == "[6, 7]"
+        list.get(1)     == 7
+    }
+
+    def "Draining a queue leaves it reusable"() {
+        given:
+        LinkedQueue<Integer> queue = new LinkedQueue<>([1, 2] as Integer[])
+
+        when:
+        queue.dequeue()
+        queue.dequeue()
+        queue.enqueue(3)
+        queue.enqueue(4)
+
+        then:
+        queue.toString() == "[3, 4]"
+        queue.peek()     == 3
+    }
+}
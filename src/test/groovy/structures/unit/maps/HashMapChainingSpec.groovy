@@ -0,0 +1,205 @@
+package structures.unit.maps
+
+import spock.lang.Specification
+import spock.lang.Timeout
+import structures.maps.HashMapChaining
+
+class HashMapChainingSpec extends Specification {
+
+    /**
+     * Comparable key whose hash code is
+     * the same for every instance.
+     */
+    static final class FloodKey implements Comparable<FloodKey> {
+        final int value
+
+        FloodKey(int value) {
+            this.value = value
+        }
+
+        @Override
+        int hashCode() {
+            return 42
+        }
+
+        @Override
+        boolean equals(Object object) {
+            return object instanceof FloodKey && object.value == value
+        }
+
+        @Override
+        int compareTo(FloodKey other) {
+            return Integer.compare(value, other.value)
+        }
+    }
+
+    /**
+     * Decimal key whose hash code is the same for every
+     * instance. Like {@code BigDecimal}, 1.0 and 1.00
+     * compare as equal, but are not equal.
+     */
+    static final class FloodDecimal implements Comparable<FloodDecimal> {
+        final BigDecimal value
+
+        FloodDecimal(String value) {
+            this.value = new BigDecimal(value)
+        }
+
+        @Override
+        int hashCode() {
+            return 42
+        }
+
+        @Override
+        boolean equals(Object object) {
+            return object instanceof FloodDecimal && object.value.toString() == value.toString()
+        }
+
+        @Override
+        int compareTo(FloodDecimal other) {
+            return value.compareTo(other.value)
+        }
+    }
+
+    @Timeout(30)
+    def "Colliding comparable keys end up in a tree bucket"() {
+        given:
+        HashMapChaining<FloodKey, Integer> map = new HashMapChaining<>()
+        int                                n   = 20000
+
+        when:
+        n.times { map.put(new FloodKey(it), it) }
+
+        then:
+        map.treeBuckets() == 1
+        map.size()        == n
+        (0..<n).every { map.get(new FloodKey(it)) == it }
+        !map.containsKey(new FloodKey(n))
+    }
+
+    def "A tree bucket turns back into a chain when it shrinks"() {
+        given:
+        HashMapChaining<FloodKey, Integer> map = new HashMapChaining<>(100)
+
+        when:
+        (0..<10).each { map.put(new FloodKey(it), it) }
+
+        then:
+        map.treeBuckets() == 1
+
+        when:
+        (0..<4).each { map.remove(new FloodKey(it)) }
+
+        then:
+        map.treeBuckets() == 0
+        map.size()        == 6
+        (4..<10).every { map.get(new FloodKey(it)) == it }
+    }
+
+    def "Keys of another class in a colliding bucket are still found"() {
+        given:
+        HashMapChaining<Object, Integer> map = new HashMapChaining<>(100)
+        Object                           odd = new Object() {
+            @Override
+            int hashCode() {
+                return 42
+            }
+        }
+
+        when:
+        (0..<10).each { map.put(new FloodKey(it), it) }
+        map.put(odd, -1)
+
+        then:
+        map.treeBuckets() == 0
+        map.get(odd)      == -1
+        (0..<10).every { map.get(new FloodKey(it)) == it }
+    }
+
+    def "Colliding keys that are not comparable stay in a chain"() {
+        given:
+        HashMapChaining<Object, Integer> map = new HashMapChaining<>(100)
+
+        when:
+        20.times { int i ->
+            map.put(new Object() {
+                @Override
+                int hashCode() {
+                    return 42
+                }
+            }, i)
+        }
+
+        then:
+        map.treeBuckets() == 0
+        map.size()        == 20
+    }
+
+    def "Keys that compare as equal without being equal are kept apart in a tree bucket"() {
+        given:
+        HashMapChaining<FloodDecimal, Integer> map = new HashMapChaining<>(100)
+
+        when:
+        (0..<10).each { map.put(new FloodDecimal(it + ".0"), it) }
+
+        then:
+        map.treeBuckets() == 1
+        map.get(new FloodDecimal("1.0")) == 1
+        map.get(new FloodDecimal("1.00")) == null
+        !map.containsKey(new FloodDecimal("1.00"))
+        map.remove(new FloodDecimal("1.00")) == null
+
+        when:
+        map.put(new FloodDecimal("1.00"), 100)
+
+        then:
+        map.treeBuckets() == 0
+        map.size()        == 11
+        map.get(new FloodDecimal("1.0"))  == 1
+        map.get(new FloodDecimal("1.00")) == 100
+        (0..<10).every { map.get(new FloodDecimal(it + ".0")) == it }
+
+        when:
+        map.remove(new FloodDecimal("1.00"))
+        map.put(new FloodDecimal("10.0"), 10)
+
+        then:
+        map.treeBuckets() == 1
+        map.size()        == 11
+        map.get(new FloodDecimal("1.0"))  == 1
+        map.get(new FloodDecimal("1.00")) == null
+    }
+
+    def "A chain with keys that compare as equal without being equal does not become a tree"() {
+        given:
+        HashMapChaining<FloodDecimal, Integer> map = new HashMapChaining<>(100)
+
+        when:
+        map.put(new FloodDecimal("1.00"), 100)
+        (0..<20).each { map.put(new FloodDecimal(it + ".0"), it) }
+
+        then:
+        map.treeBuckets() == 0
+        map.size()        == 21
+        map.get(new FloodDecimal("1.00")) == 100
+        (0..<20).every { map.get(new FloodDecimal(it + ".0")) == it }
+    }
+
+    def "A map has the same hash code whether its bucket is a tree or a chain"() {
+        given:
+        HashMapChaining<FloodKey, Integer> tree  = new HashMapChaining<>(100)
+        HashMapChaining<FloodKey, Integer> chain = new HashMapChaining<>(100)
+
+        when:
+        (0..<8).each { tree.put(new FloodKey(it), it) }
+        tree.remove(new FloodKey(7))
+        (6..0).each { chain.put(new FloodKey(it), it) }
+
+        then:
+        tree.treeBuckets()  == 1
+        chain.treeBuckets() == 0
+        tree == chain
+        tree.hashCode() == chain.hashCode()
+        tree.hashCode() == (0..<7).sum { 42 ^ it }
+    }
+}
@@ -0,0 +1,112 @@
+package structures.unit.maps
+
+import spock.lang.Specification
+import spock.lang.Unroll
+import structures.maps.HashMapLinearProbing
+
+class HashMapLinearProbingSpec extends Specification {
+
+    /**
+     * Returns the smallest probe length that at least
+     * 99% of the lookups in a histogram stay within.
+     */
+    static int p99(int[] histogram) {
+        long total = histogram.sum() as long
+        long seen  = 0
+
+        for (int d = 0; d < histogram.length; d++) {
+            seen += histogram[d]
+
+            if (seen >= 0.99 * total) {
+                return d
+            }
+        }
+
+        return histogram.length - 1
+    }
+
+    def "Equal maps have equal hash codes, whatever order the pairs were put in"() {
+        given:
+        HashMapLinearProbing<Integer, String> first  = new HashMapLinearProbing<>()
+        HashMapLinearProbing<Integer, String> second = new HashMapLinearProbing<>(4, 0.5f, true)
+
+        when:
+        (0..<100).each { first.put(it, it % 3 == 0 ? null : "v" + it) }
+        (99..0).each { second.put(it, it % 3 == 0 ? null : "v" + it) }
+
+        then:
+        first == second
+        first.hashCode() == second.hashCode()
+        first.hashCode() == (0..<100).sum { it ^ (it % 3 == 0 ? 0 : ("v" + it).hashCode()) }
+
+        when:
+        second.put(1, "other")
+
+        then:
+        first != second
+        first.hashCode() != second.hashCode()
+    }
+
+    @Unroll
+    def "Robin Hood mode matches a reference map, load factor #loadFactor"() {
+        given:
+        HashMapLinearProbing<Integer, Integer> map       = new HashMapLinearProbing<>(0, loadFactor, true)
+        java.util.Map<Integer, Integer>        reference = [:]
+        Random                                 random    = new Random(3)
+
+        when:
+        50000.times { int i ->
+            int key = random.nextInt(2000)
+
+            switch (random.nextInt(3)) {
+                case 0:  assert map.put(key, i)  == reference.put(key, i); break
+                case 1:  assert map.remove(key)  == reference.remove(key); break
+                default: assert map.get(key)     == reference.get(key)
+            }
+        }
+
+        then:
+        map.robinHood()
+        map.size() == reference.size()
+        reference.every { key, value -> map.get(key) == value }
+        map.probeHistogram().sum() == map.size()
+
+        where:
+        loadFactor << [0.3f, 0.5f, 0.9f]
+    }
+
+    def "The miss histogram counts every home slot"() {
+        given:
+        HashMapLinearProbing<Integer, Integer> map = new HashMapLinearProbing<>(4, 0.5f)
+
+        expect:
+        map.probeHistogram()     == [] as int[]
+        map.missProbeHistogram() == [16] as int[]
+    }
+
+    def "Robin Hood mode shortens the longest probes of a full table"() {
+        given:
+        HashMapLinearProbing<Integer, Integer> linear    = new HashMapLinearProbing<>(29000, 0.9f, false)
+        HashMapLinearProbing<Integer, Integer> robinHood = new HashMapLinearProbing<>(29000, 0.9f, true)
+        Random                                 random    = new Random(1)
+
+        when: "the table is filled up to its threshold, 0.9 of 2^15 slots"
+        while (linear.size() < (int) ((1 << 15) * 0.9f)) {
+            int key = random.nextInt()
+
+            linear.put(key, key)
+            robinHood.put(key, key)
+        }
+
+        then:
+        linear.missProbeHistogram().sum()    == 1 << 15
+        robinHood.missProbeHistogram().sum() == 1 << 15
+        robinHood.size()                     == linear.size()
+
+        p99(linear.probeHistogram())         == 80
+        p99(robinHood.probeHistogram())      == 26
+        p99(linear.missProbeHistogram())     == 584
+        p99(robinHood.missProbeHistogram())  == 26
+        robinHood.probeHistogram().length    <  linear.probeHistogram().length
+    }
+}
@@ -0,0 +1,184 @@
+package structures.unit.maps
+
+import spock.lang.Unroll
+import structures.commons.Pair
+import structures.maps.HashMapChaining
+import structures.maps.HashMapLinearProbing
+import structures.maps.Map
+import util.Spec
+
+abstract class MapSpec<T> extends Spec {
+
+    /**
+     * Key whose hash code only depends on its
+     * value modulo 7, so that keys collide.
+     */
+    static final class CollidingKey {
+        final int value
+
+        CollidingKey(int value) {
+            this.value = value
+        }
+
+        @Override
+        int hashCode() {
+            return value % 7
+        }
+
+        @Override
+        boolean equals(Object object) {
+            return object instanceof CollidingKey && object.value == value
+        }
+    }
+
+    def "Construct an empty map from default constructor"() {
+        when:
+        Map<Object, Object> map = (Map<Object, Object>) constructor()
+
+        then:
+        map.empty()
+        map.size()     == 0
+        map.toString() == "{}"
+        map.get(1)     == null
+    }
+
+    @Unroll
+    def "Construct a map from an array of keys, #keys"() {
+        when:
+        Map<Object, Object> map = (Map<Object, Object>) constructor(keys as Object[])
+
+        then:
+        map.size() == keys.toSet().size()
+        keys.every { map.containsKey(it) && map.get(it) == null }
+
+        where:
+        keys << [[], [1], [1, 2, 3], [3, 3, 3], (0..<100).toList()]
+    }
+
+    @Unroll
+    def "Construct a map from a collection of keys, #keys"() {
+        when:
+        Map<Object, Object> map = (Map<Object, Object>) constructor(keys)
+
+        then:
+        map.size() == keys.toSet().size()
+        keys.every { map.contains(it) }
+
+        where:
+        keys << [[], ["a"], ["a", "b", "c"]]
+    }
+
+    def "put() replaces the value of a key and returns the previous one"() {
+        given:
+        Map<Object, Object> map = (Map<Object, Object>) constructor()
+
+        expect:
+        map.put("a", 1) == null
+        map.put("a", 2) == 1
+        map.get("a")    == 2
+        map.size()      == 1
+        map.toString()  == "{a: 2}"
+    }
+
+    def "remove() returns the value of the key, or null if it was not in the map"() {
+        given:
+        Map<Object, Object> map = (Map<Object, Object>) constructor()
+
+        when:
+        (0..<1000).each { map.put(it, it * 2) }
+
+        then:
+        map.remove(500)  == 1000
+        map.remove(500)  == null
+        map.remove(5000) == null
+        map.size()       == 999
+        !map.containsKey(500)
+        (0..<1000).findAll { it != 500 }.every { map.get(it) == it * 2 }
+    }
+
+    def "Colliding keys are all found again after others are removed"() {
+        given:
+        Map<Object, Object>           map       = (Map<Object, Object>) constructor()
+        java.util.Map<Object, Object> reference = [:]
+        Random                        random    = new Random(1)
+
+        when:
+        10000.times { int i ->
+            CollidingKey key = new CollidingKey(random.nextInt(200))
+
+            if (random.nextBoolean()) {
+                assert map.put(key, i) == reference.put(key, i)
+            } else {
+                assert map.remove(key) == reference.remove(key)
+            }
+        }
+
+        then:
+        map.size() == reference.size()
+        reference.every { key, value -> map.get(key) == value }
+        map.collect { it.key() } as Set == reference.keySet()
+    }
+
+    def "Null keys are rejected"() {
+        when:
+        Map<Object, Object> map = (Map<Object, Object>) constructor()
+        map.put(null, 1)
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "Inserting while iterating fails fast"() {
+        given:
+        Map<Object, Object> map = (Map<Object, Object>) constructor([1, 2, 3] as Object[])
+
+        when:
+        map.each { map.put(it.key() + 10, null) }
+
+        then:
+        thrown ConcurrentModificationException
+    }
+
+    def "Maps with the same pairs are equal"() {
+        expect:
+        constructor([1, 2, 3] as Object[]) == constructor([3, 2, 1] as Object[])
+        constructor([1, 2, 3] as Object[]) != constructor([1, 2] as Object[])
+    }
+
+    def "Pairs with the same key and value are equal and hash alike, even with null values"() {
+        given:
+        Map<Object, Object> first  = (Map<Object, Object>) constructor([1] as Object[])
+        Map<Object, Object> second = (Map<Object, Object>) constructor([1] as Object[])
+
+        when:
+        Pair<Object, Object> a = first.iterator().next()
+        Pair<Object, Object> b = second.iterator().next()
+
+        then:
+        a == b
+        a.hashCode() == b.hashCode()
+        a.hashCode() == 1
+
+        when:
+        second.put(1, "one")
+        b = second.iterator().next()
+
+        then:
+        a != b
+        b.hashCode() == (1 ^ "one".hashCode())
+    }
+}
+
+class MapSpec_HashMapLinearProbing<T> extends MapSpec {
+
+    def setup() {
+        myClass = HashMapLinearProbing
+    }
+}
+
+class MapSpec_HashMapChaining<T> extends MapSpec {
+
+    def setup() {
+        myClass = HashMapChaining
+    }
+}
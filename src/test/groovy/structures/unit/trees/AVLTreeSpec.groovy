@@ -0,0 +1,65 @@
+package structures.unit.trees
+
+import spock.lang.Specification
+import spock.lang.Unroll
+import structures.trees.AVLTree
+import structures.trees.BinaryTree
+
+class AVLTreeSpec extends Specification {
+
+    /**
+     * Returns the values of a range in a fixed random order.
+     */
+    static List<Integer> shuffled(Range<Integer> range) {
+        List<Integer> values = range.toList()
+
+        Collections.shuffle(values, new Random(1))
+
+        return values
+    }
+
+    @Unroll
+    def "Inserting #order keys keeps the tree balanced"() {
+        given:
+        AVLTree<Integer, Integer> tree = new AVLTree<>()
+
+        when:
+        keys.each { tree.insert(it, it) }
+
+        then:
+        tree.isBalanced()
+        tree.size()   == 1000
+        tree.height() <= 1.45 * (Math.log(1002) / Math.log(2))
+        tree.keys(BinaryTree.IN_ORDER) == (0..<1000).toArray()
+
+        where:
+        order       | keys
+        "ascending" | (0..<1000).toList()
+        "zigzag"    | (0..<500).collectMany { [it, 999 - it] }
+        "shuffled"  | shuffled(0..<1000)
+    }
+
+    def "Removing keys keeps the tree balanced"() {
+        given:
+        AVLTree<Integer, Integer>  tree      = new AVLTree<>()
+        java.util.TreeSet<Integer> reference = new java.util.TreeSet<Integer>()
+        Random                     random    = new Random(2)
+
+        when:
+        20000.times {
+            int key = random.nextInt(1000)
+
+            if (random.nextBoolean()) {
+                assert tree.insert(key, key) == reference.add(key)
+            } else {
+                assert tree.remove(key)      == reference.remove(key)
+            }
+        }
+
+        then:
+        tree.isBalanced()
+        tree.size() == reference.size()
+        tree.keys(BinaryTree.IN_ORDER) == reference.toArray()
+        reference.every { tree.get(it) == it }
+    }
+}
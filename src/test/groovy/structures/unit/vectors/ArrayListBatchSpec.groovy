@@ -0,0 +1,111 @@
+package structures.unit.vectors
+
+import spock.lang.Specification
+import spock.lang.Unroll
+import structures.vectors.ArrayList
+
+class ArrayListBatchSpec extends Specification {
+
+    @Unroll
+    def "Insert a batch of values at an index"() {
+        given:
+        ArrayList<Integer> list = new ArrayList<>(input as Integer[])
+
+        when:
+        list.insertAll(index, values as Integer[])
+
+        then:
+        list.toString() == string
+        list.size()     == input.size() + values.size()
+
+        where:
+        input     | index | values    || string
+        [1, 2, 3] | 0     | [7, 8]    || "[7, 8, 1, 2, 3]"
+        [1, 2, 3] | 1     | [7, 8]    || "[1, 7, 8, 2, 3]"
+        [1, 2, 3] | 3     | [7, 8]    || "[1, 2, 3, 7, 8]"
+        []        | 0     | [7, 8, 9] || "[7, 8, 9]"
+        [1, 2, 3] | 1     | []        || "[1, 2, 3]"
+        [1, 2, 3] | 2     | 1..20     || "[1, 2, " + (1..20).join(", ") + ", 3]"
+    }
+
+    @Unroll
+    def "Append a batch of values"() {
+        given:
+        ArrayList<Integer> list = new ArrayList<>(input as Integer[])
+
+        when:
+        list.appendAll(values)
+
+        then:
+        list.toString() == string
+
+        where:
+        input  | values || string
+        [1, 2] | [3, 4] || "[1, 2, 3, 4]"
+        []     | [3]    || "[3]"
+        [1, 2] | []     || "[1, 2]"
+    }
+
+    @Unroll
+    def "Remove a range of values"() {
+        given:
+        ArrayList<Integer> list = new ArrayList<>(input as Integer[])
+
+        when:
+        list.removeRange(from, to)
+
+        then:
+        list.toString() == string
+
+        where:
+        input           | from | to || string
+        [1, 2, 3, 4, 5] | 1    | 3  || "[1, 4, 5]"
+        [1, 2, 3, 4, 5] | 0    | 5  || "[]"
+        [1, 2, 3, 4, 5] | 3    | 5  || "[1, 2, 3]"
+        [1, 2, 3, 4, 5] | 2    | 2  || "[1, 2, 3, 4, 5]"
+    }
+
+    @Unroll
+    def "Invalid batch indices"() {
+        given:
+        ArrayList<Integer> list = new ArrayList<>([1, 2, 3] as Integer[])
+
+        when:
+        operation(list)
+
+        then:
+        thrown IndexOutOfBoundsException
+
+        where:
+        operation                                         | _
+        { l -> l.insertAll(4, [1] as Integer[]) }         | _
+        { l -> l.insertAll(-1, [1] as Integer[]) }        | _
+        { l -> l.removeRange(2, 1) }                      | _
+        { l -> l.removeRange(0, 4) }                      | _
+    }
+
+    @Unroll
+    def "A batch shifts and allocates once"() {
+        given:
+        ArrayList<Integer> single = new ArrayList<>([0, 0] as Integer[])
+        ArrayList<Integer> batch  = new ArrayList<>([0, 0] as Integer[])
+        Integer[]          values = (1..k) as Integer[]
+
+        when:
+        values.each { single.insert(it, 1) }
+        batch.insertAll(1, values)
+
+        then:
+        batch.toString()     == "[0, " + values.join(", ") + ", 0]"
+        batch.shifts()       <= 1
+        batch.allocations()  <= 1
+        single.shifts()      >= batch.shifts()
+        single.allocations() >= batch.allocations()
+
+        where:
+        k    | _
+        5    | _
+        100  | _
+        2500 | _
+    }
+}
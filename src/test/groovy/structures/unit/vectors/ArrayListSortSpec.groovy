@@ -0,0 +1,91 @@
+package structures.unit.vectors
+
+import spock.lang.Specification
+import spock.lang.Unroll
+import structures.vectors.ArrayList
+
+import java.util.function.BinaryOperator
+import java.util.function.IntFunction
+
+class ArrayListSortSpec extends Specification {
+
+    @Unroll
+    def "Sort a list sequentially and in parallel"() {
+        given:
+        Random random = new Random(size)
+        java.util.List<Integer> input = (0..<size).collect { random.nextInt(100) }
+        ArrayList<Integer> sequential = new ArrayList<>(input as Integer[])
+        ArrayList<Integer> parallel   = new ArrayList<>(input as Integer[])
+
+        when:
+        sequential.sort(comparator)
+        parallel.parallelSort(comparator)
+
+        then:
+        sequential.toArray() == (comparator ? input.toSorted(comparator) : input.toSorted()).toArray()
+        parallel.toArray()   == sequential.toArray()
+        parallel.size()      == size
+
+        where:
+        size   | comparator
+        0      | null
+        1      | null
+        10     | null
+        50000  | null
+        10     | Collections.reverseOrder()
+        50000  | Collections.reverseOrder()
+    }
+
+    def "Parallel sort is stable"() {
+        given:
+        ArrayList<String> list = new ArrayList<>()
+        (0..<20000).each { list.insert((it % 7) + ":" + it) }
+
+        when:
+        list.parallelSort({ String a, String b -> a.charAt(0) <=> b.charAt(0) } as Comparator<String>)
+
+        then:
+        (1..<list.size()).every {
+            String a = list.get(it - 1)
+            String b = list.get(it)
+            a.charAt(0) < b.charAt(0) || a.split(":")[1].toInteger() < b.split(":")[1].toInteger()
+        }
+    }
+
+    def "Parallel prefix accumulates values"() {
+        given:
+        ArrayList<Integer> list = new ArrayList<>([1, 2, 3, 4, 5] as Integer[])
+
+        when:
+        list.parallelPrefix({ Integer a, Integer b -> a + b } as BinaryOperator<Integer>)
+
+        then:
+        list.toString() == "[1, 3, 6, 10, 15]"
+    }
+
+    def "Parallel set all overwrites values by index"() {
+        given:
+        ArrayList<Integer> list = new ArrayList<>()
+        (0..<10000).each { list.insert(0) }
+
+        when:
+        list.parallelSetAll({ int i -> i * 2 } as IntFunction<Integer>)
+
+        then:
+        list.size() == 10000
+        (0..<10000).every { list.get(it) == it * 2 }
+    }
+
+    def "Sorting invalidates iterators"() {
+        given:
+        ArrayList<Integer> list = new ArrayList<>([3, 1, 2] as Integer[])
+        Iterator<Integer> iterator = list.iterator()
+
+        when:
+        list.sort(null)
+        iterator.next()
+
+        then:
+        thrown ConcurrentModificationException
+    }
+}
@@ -0,0 +1,179 @@
+package structures.unit.vectors
+
+import spock.lang.Specification
+import spock.lang.Timeout
+import spock.lang.Unroll
+import structures.commons.BlockingStructure
+import structures.vectors.ArrayBlockingQueue
+import structures.vectors.LinkedBlockingQueue
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicInteger
+
+class BlockingQueueSpec extends Specification {
+
+    @Unroll
+    def "A capacity bound makes offer() fail once the queue is full"() {
+        given:
+        BlockingStructure<Integer> queue = type.newInstance(20)
+
+        expect:
+        (0..<20).every { queue.offer(it) }
+        !queue.offer(20)
+        queue.remainingCapacity() == 0
+        queue.poll()              == 0
+        queue.offer(20)
+        queue.toArray(new Integer[0]) == (1..20).toArray()
+
+        where:
+        type << [ArrayBlockingQueue, LinkedBlockingQueue]
+    }
+
+    @Unroll
+    def "Timed offer() and poll() give up when time runs out"() {
+        given:
+        BlockingStructure<Integer> queue = type.newInstance(1)
+
+        expect:
+        queue.poll(10, TimeUnit.MILLISECONDS) == null
+        queue.offer(1, 10, TimeUnit.MILLISECONDS)
+        !queue.offer(2, 10, TimeUnit.MILLISECONDS)
+        queue.poll(10, TimeUnit.MILLISECONDS) == 1
+
+        where:
+        type << [ArrayBlockingQueue, LinkedBlockingQueue]
+    }
+
+    @Unroll
+    def "Null values are rejected"() {
+        when:
+        BlockingStructure<Integer> queue = type.newInstance()
+        queue.put(null)
+
+        then:
+        thrown IllegalArgumentException
+
+        where:
+        type << [ArrayBlockingQueue, LinkedBlockingQueue]
+    }
+
+    @Timeout(10)
+    @Unroll
+    def "A waiting take() can be interrupted"() {
+        given:
+        BlockingStructure<Integer> queue       = type.newInstance()
+        boolean                    interrupted = false
+
+        Thread consumer = Thread.start {
+            try {
+                queue.take()
+            } catch (InterruptedException exception) {
+                interrupted = true
+            }
+        }
+
+        when:
+        consumer.interrupt()
+        consumer.join()
+
+        then:
+        interrupted
+
+        where:
+        type << [ArrayBlockingQueue, LinkedBlockingQueue]
+    }
+
+    @Timeout(60)
+    @Unroll
+    def "put() and take() hand every value over once through a small queue"() {
+        given:
+        BlockingStructure<Integer>      queue     = type.newInstance(8)
+        int                             producers = 4
+        int                             n         = 20000
+        ConcurrentHashMap<Integer, Boolean> seen  = new ConcurrentHashMap<>()
+
+        when:
+        java.util.List<Thread> threads = (0..<producers).collect { int p ->
+            Thread.start {
+                for (int i = 0; i < n; i++) {
+                    queue.put(p * n + i)
+                }
+            }
+        } + (0..<producers).collect {
+            Thread.start {
+                for (int i = 0; i < n; i++) {
+                    seen.put(queue.take(), true)
+                }
+            }
+        }
+
+        threads*.join()
+
+        then:
+        seen.size() == producers * n
+        queue.empty()
+
+        where:
+        type << [ArrayBlockingQueue, LinkedBlockingQueue]
+    }
+
+    @Timeout(60)
+    @Unroll
+    def "Values keep their order while a queue with #bound grows under put() and take()"() {
+        given:
+        BlockingStructure<Integer> queue     = capacity == null ? type.newInstance() : type.newInstance(capacity)
+        int                        producers = 4
+        int                        consumers = 4
+        int                        n         = 50000
+        AtomicBoolean              ordered   = new AtomicBoolean(true)
+        AtomicInteger              taken     = new AtomicInteger()
+
+        when: "producers run ahead in bursts, so the array grows while consumers take"
+        java.util.List<Thread> threads = (0..<producers).collect { int p ->
+            Thread.start {
+                for (int i = 0; i < n; i++) {
+                    queue.put(p * n + i)
+
+                    if (i % 1000 == 999) {
+                        Thread.yield()
+                    }
+                }
+            }
+        } + (0..<consumers).collect {
+            Thread.start {
+                int[] last = new int[producers]
+                java.util.Arrays.fill(last, -1)
+
+                for (int i = 0; i < n; i++) {
+                    int value = queue.take()
+                    int p     = value.intdiv(n)
+
+                    // Values of one producer reach any one
+                    // consumer in the order they were put
+                    if (value % n <= last[p]) {
+                        ordered.set(false)
+                    }
+
+                    last[p] = value % n
+                    taken.incrementAndGet()
+                }
+            }
+        }
+
+        threads*.join()
+
+        then:
+        ordered.get()
+        taken.get() == producers * n
+        queue.empty()
+
+        where:
+        type                | capacity | bound
+        ArrayBlockingQueue  | 1 << 12  | "a bound of 4096"
+        ArrayBlockingQueue  | null     | "no bound"
+        LinkedBlockingQueue | 1 << 12  | "a bound of 4096"
+        LinkedBlockingQueue | null     | "no bound"
+    }
+}
@@ -0,0 +1,128 @@
+package structures.unit.vectors
+
+import spock.lang.Specification
+import spock.lang.Unroll
+import structures.vectors.ChunkedList
+
+class ChunkedListSpec extends Specification {
+
+    @Unroll
+    def "Edits across many chunks match java.util.ArrayList"() {
+        given:
+        ChunkedList<Integer>         list      = new ChunkedList<>(chunkLength)
+        java.util.ArrayList<Integer> reference = new java.util.ArrayList<Integer>()
+        Random                       random    = new Random(n)
+
+        when:
+        for (int i = 0; i < n; i++) {
+            int index = random.nextInt(reference.size() + 1)
+
+            if (index == reference.size()) {
+                list.insert(i)
+                reference.add(i)
+            } else {
+                list.insert(i, index)
+                reference.add(index, i)
+            }
+
+            // Remove every third value again
+            if (i % 3 == 0) {
+                index = random.nextInt(reference.size())
+                assert list.remove(index) == reference.remove(index)
+            }
+        }
+
+        then:
+        list.size()     == reference.size()
+        list.toString() == reference.toString()
+        (0..<list.size()).every { list.get(it) == reference.get(it) }
+
+        where:
+        chunkLength | n
+        4           | 100
+        5           | 2500
+        512         | 10000
+    }
+
+    @Unroll
+    def "Removing every value empties the list"() {
+        given:
+        ChunkedList<Integer> list = new ChunkedList<>(4)
+
+        when:
+        (0..<n).each { list.insert(it) }
+        n.times { list.remove(list.size() / 2 as int) }
+
+        then:
+        list.empty()
+        list.toString() == "[]"
+
+        where:
+        n    | _
+        1    | _
+        17   | _
+        1000 | _
+    }
+
+    def "Lists with the same values in different chunks have equal hash codes"() {
+        given:
+        ChunkedList<Integer> appended = new ChunkedList<>(4)
+        ChunkedList<Integer> inserted = new ChunkedList<>(8)
+
+        when:
+        (0..<100).each { appended.insert(it) }
+        (0..<100).reverse().each { inserted.insert(it, 0) }
+
+        then:
+        appended == inserted
+        appended.hashCode() == inserted.hashCode()
+    }
+
+    @Unroll
+    def "Sparse deletes front to back leave every chunk a quarter full, chunk length #chunkLength"() {
+        given:
+        ChunkedList<Integer> list = new ChunkedList<>(chunkLength)
+        int                  n    = 102400
+        int                  i    = 0
+
+        when:
+        n.times { list.insert(it) }
+
+        // Keep one value, delete the 255 after it
+        while (i < list.size()) {
+            i++
+            255.times { list.remove(i) }
+        }
+
+        then:
+        list.size()     == 400
+        list.chunks()   <= 400.intdiv(chunkLength.intdiv(4)) + 1
+        list.toString() == (0..<n).step(256).toList().toString()
+
+        where:
+        chunkLength << [4, 16, 512]
+    }
+
+    def "Sparse deletes from the back merge chunks into their predecessors"() {
+        given:
+        ChunkedList<Integer> list = new ChunkedList<>(16)
+
+        when:
+        1600.times { list.insert(it) }
+        (1599..0).each { if (it % 16 != 0) list.remove(it) }
+
+        then:
+        list.size()     == 100
+        list.chunks()   <= 100.intdiv(4) + 1
+        list.toString() == (0..<1600).step(16).toList().toString()
+    }
+
+    @Unroll
+    def "Chunk length must leave room to split"() {
+        when:
+        new ChunkedList<Integer>(3)
+
+        then:
+        thrown IllegalArgumentException
+    }
+}
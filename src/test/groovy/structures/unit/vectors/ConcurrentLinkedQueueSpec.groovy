@@ -0,0 +1,110 @@
+package structures.unit.vectors
+
+import spock.lang.Specification
+import spock.lang.Timeout
+import structures.vectors.ConcurrentLinkedQueue
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.atomic.AtomicIntegerArray
+
+class ConcurrentLinkedQueueSpec extends Specification {
+
+    @Timeout(60)
+    def "Every value from many producers is dequeued exactly once and in order per producer"() {
+        given:
+        int producers = 4
+        int consumers = 4
+        int n         = 100000
+
+        ConcurrentLinkedQueue<Integer> queue = new ConcurrentLinkedQueue<>()
+        AtomicIntegerArray             seen  = new AtomicIntegerArray(producers * n)
+        CountDownLatch                 done  = new CountDownLatch(producers * n)
+        java.util.List<String>         errors = Collections.synchronizedList([])
+        java.util.List<Thread>         threads = []
+
+        producers.times { int p ->
+            threads << Thread.start {
+                for (int i = 0; i < n; i++) {
+                    queue.enqueue(p * n + i)
+                }
+            }
+        }
+
+        consumers.times {
+            threads << Thread.start {
+                int[] last = new int[producers]
+                Arrays.fill(last, -1)
+
+                while (done.count > 0) {
+                    Integer value = queue.poll()
+
+                    if (value == null) {
+                        continue
+                    }
+
+                    int p = value.intdiv(n)
+                    int i = value % n
+
+                    if (i <= last[p]) {
+                        errors << "out of order: " + value
+                    }
+
+                    if (seen.getAndIncrement(value) != 0) {
+                        errors << "duplicate: " + value
+                    }
+
+                    last[p] = i
+                    done.countDown()
+                }
+            }
+        }
+
+        when:
+        threads*.join()
+
+        then:
+        errors.empty
+        (0..<producers * n).every { seen.get(it) == 1 }
+        queue.empty()
+        queue.poll() == null
+    }
+
+    def "Null values are rejected"() {
+        when:
+        new ConcurrentLinkedQueue<Integer>().enqueue(null)
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "Equal queues have equal hash codes"() {
+        given:
+        ConcurrentLinkedQueue<Integer> a = new ConcurrentLinkedQueue<>()
+        ConcurrentLinkedQueue<Integer> b = new ConcurrentLinkedQueue<>()
+
+        when:
+        (0..<10).each { a.enqueue(it) }
+        (-5..<10).each { b.enqueue(it) }
+        5.times { b.dequeue() }
+
+        then:
+        a == b
+        a.hashCode() == b.hashCode()
+    }
+
+    def "Iterator continues at the front after its node is unlinked"() {
+        given:
+        ConcurrentLinkedQueue<Integer> queue    = new ConcurrentLinkedQueue<>([1, 2, 3, 4] as Integer[])
+        Iterator<Integer>              iterator = queue.iterator()
+
+        when:
+        iterator.next()
+        3.times { queue.dequeue() }
+        queue.enqueue(5)
+
+        then:
+        // The value the iterator had already reached is still returned
+        iterator.collect() == [2, 4, 5]
+        queue.toArray()    == [4, 5] as Object[]
+    }
+}
@@ -0,0 +1,122 @@
+package structures.unit.vectors
+
+import spock.lang.Shared
+import spock.lang.Unroll
+import structures.commons.DataStructure
+import structures.vectors.Deque
+import structures.vectors.ArrayDeque
+import util.Spec
+
+abstract class DequeSpec<T> extends Spec {
+
+    @Shared Deque<Object> deque
+
+    @Unroll
+    def "Test insertFirst() method"() {
+        given:
+        deque = (Deque<Integer>) constructor()
+
+        when:
+        for (Integer i : input) {
+            deque.insertFirst(i)
+        }
+
+        then:
+        deque.size()     == input.size()
+        deque.toString() == string
+
+        where:
+        string            || input
+        "[5, 4, 3, 2, 1]" || [1, 2, 3, 4, 5]
+        "[2, 1]"          || [1, 2]
+        "[]"              || []
+    }
+
+    @Unroll
+    def "Test removeLast() method on non-empty deque"() {
+        given:
+        deque = (Deque<Integer>) constructor(input)
+
+        when:
+        Object last = deque.removeLast()
+
+        then:
+        last             == input.last()
+        deque.size()     == input.size() - 1
+        deque.toString() == input.take(input.size() - 1).toString()
+
+        where:
+        input           | _
+        [1, 2, 3, 4, 5] | _
+        [1, 2]          | _
+        [1]             | _
+    }
+
+    @Unroll
+    def "Test removeFirst() and removeLast() on empty deque"() {
+        given:
+        deque = (Deque<Integer>) constructor()
+
+        when:
+        first ? deque.removeFirst() : deque.removeLast()
+
+        then:
+        thrown DataStructure.EmptyDataStructureException
+
+        where:
+        first | _
+        true  | _
+        false | _
+    }
+
+    @Unroll
+    def "Test peekFirst() and peekLast() methods"() {
+        given:
+        deque = (Deque<Integer>) constructor(input)
+
+        when:
+        deque.insertFirst(0)
+
+        then:
+        deque.peekFirst() == 0
+        deque.peekLast()  == input.last()
+        deque.size()      == input.size() + 1
+
+        where:
+        input           | _
+        [1, 2, 3, 4, 5] | _
+        [1]             | _
+    }
+
+    @Unroll
+    def "Alternate both ends so the deque wraps around"() {
+        given:
+        deque = (Deque<Integer>) constructor()
+
+        when:
+        for (int i = 1; i <= n; i++) {
+            deque.insertFirst(-i)
+            deque.insertLast(i)
+        }
+
+        deque.removeFirst()
+        deque.removeLast()
+
+        then:
+        deque.size()     == 2 * n - 2
+        deque.toString() == ((-(n - 1))..-1).toList().plus((1..<n).toList()).toString()
+
+        where:
+        n  | _
+        2  | _
+        9  | _
+        40 | _
+    }
+}
+
+class DequeSpec_ArrayDeque<T> extends DequeSpec {
+
+    def setup() {
+        myClass = ArrayDeque
+    }
+}
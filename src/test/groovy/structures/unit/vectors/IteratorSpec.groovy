@@ -0,0 +1,74 @@
+package structures.unit.vectors
+
+import spock.lang.Specification
+import spock.lang.Unroll
+import structures.commons.ResettableIterator
+import structures.vectors.*
+
+class IteratorSpec extends Specification {
+
+    @Unroll
+    def "Modifying #type.simpleName while iterating fails fast"() {
+        given:
+        Vector<Integer>             vector   = type.newInstance([[1, 2, 3] as Object[]] as Object[]) as Vector<Integer>
+        ResettableIterator<Integer> iterator = vector.iterator() as ResettableIterator<Integer>
+
+        when:
+        iterator.next()
+        vector.insert(4)
+        iterator.next()
+
+        then:
+        thrown ConcurrentModificationException
+
+        where:
+        type << [ArrayList, ArrayStack, ArrayQueue, ArrayDeque, LinkedList, LinkedQueue, LinkedStack]
+    }
+
+    @Unroll
+    def "Resetting a #type.simpleName iterator makes it reusable"() {
+        given:
+        Vector<Integer>             vector   = type.newInstance([[1, 2, 3] as Object[]] as Object[]) as Vector<Integer>
+        ResettableIterator<Integer> iterator = vector.iterator() as ResettableIterator<Integer>
+        java.util.List<Integer>     first    = []
+        java.util.List<Integer>     second   = []
+
+        when:
+        while (iterator.hasNext()) {
+            first.add(iterator.next())
+        }
+
+        vector.remove()
+        iterator.reset()
+
+        while (iterator.hasNext()) {
+            second.add(iterator.next())
+        }
+
+        then:
+        first.size()  == 3
+        second.size() == 2
+        second.every { first.contains(it) }
+
+        where:
+        type << [ArrayList, ArrayStack, ArrayQueue, ArrayDeque, LinkedList, LinkedQueue, LinkedStack]
+    }
+
+    @Unroll
+    def "Setting a value while iterating is not a structural modification"() {
+        given:
+        List<Integer>               list     = type.newInstance([[1, 2, 3] as Object[]] as Object[]) as List<Integer>
+        ResettableIterator<Integer> iterator = list.iterator() as ResettableIterator<Integer>
+
+        when:
+        iterator.next()
+        list.set(7, 2)
+
+        then:
+        iterator.next() == 2
+        iterator.next() == 7
+
+        where:
+        type << [ArrayList, LinkedList]
+    }
+}
@@ -6,6 +6,9 @@ import structures.commons.DataStructure
 import structures.vectors.List
 import structures.vectors.LinkedList
 import structures.vectors.ArrayList
+import structures.vectors.ChunkedList
+import structures.vectors.GapBufferList
+import structures.vectors.UnrolledLinkedList
 import util.Spec
 
 abstract class MyListSpec extends Spec {
@@ -334,4 +337,39 @@ class ListSpec_LinkedList extends MyListSpec {
     def setup() {
         myClass = LinkedList
     }
-}
\ No newline at end of file
+}
+
+class ListSpec_GapBufferList extends MyListSpec {
+
+    def setup() {
+        myClass = GapBufferList
+    }
+
+    def "Lists with the same values around different gaps have equal hash codes"() {
+        given:
+        GapBufferList<Integer> appended = new GapBufferList<>()
+        GapBufferList<Integer> inserted = new GapBufferList<>()
+
+        when:
+        (0..<100).each { appended.insert(it) }
+        (0..<100).reverse().each { inserted.insert(it, 0) }
+
+        then:
+        appended == inserted
+        appended.hashCode() == inserted.hashCode()
+    }
+}
+
+class ListSpec_ChunkedList extends MyListSpec {
+
+    def setup() {
+        myClass = ChunkedList
+    }
+}
+
+class ListSpec_UnrolledLinkedList extends MyListSpec {
+
+    def setup() {
+        myClass = UnrolledLinkedList
+    }
+}
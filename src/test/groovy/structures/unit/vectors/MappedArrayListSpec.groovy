@@ -0,0 +1,211 @@
+package structures.unit.vectors
+
+import spock.lang.Specification
+import spock.lang.Unroll
+import structures.commons.ElementCodec
+import structures.vectors.ArrayList
+import structures.vectors.MappedArrayList
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class MappedArrayListSpec extends Specification {
+
+    Path path
+
+    def setup() {
+        path = Files.createTempFile("mapped", ".list")
+        Files.delete(path)
+    }
+
+    def cleanup() {
+        Files.deleteIfExists(path)
+    }
+
+    @Unroll
+    def "Insert, get, set and remove"() {
+        given:
+        MappedArrayList<Integer> list = new MappedArrayList<>(path, ElementCodec.INTEGER)
+        list.insert(input as Integer[])
+
+        when:
+        list.insert(-1, index)
+        list.set(-2, 0)
+        Integer removed = list.remove(list.size() - 1)
+
+        then:
+        list.toString() == string
+        removed         == last
+
+        cleanup:
+        list.close()
+
+        where:
+        input           | index || string              | last
+        [1, 2, 3, 4, 5] | 2     || "[-2, 2, -1, 3, 4]" | 5
+        [1, 2]          | 1     || "[-2, -1]"          | 2
+        [1]             | 0     || "[-2]"              | 1
+    }
+
+    @Unroll
+    def "Reopening the file restores the list"() {
+        given:
+        MappedArrayList<Long> list = new MappedArrayList<>(path, ElementCodec.LONG)
+        ArrayList<Long>       copy = new ArrayList<>()
+
+        for (long i = 0; i < n; i++) {
+            list.insert(i, 0)
+            copy.insert(i, 0)
+        }
+
+        list.force()
+        list.close()
+
+        when:
+        list = new MappedArrayList<>(path, ElementCodec.LONG)
+
+        then:
+        list.size()     == n
+        list.toString() == copy.toString()
+
+        cleanup:
+        list.close()
+
+        where:
+        n    | _
+        0    | _
+        1    | _
+        2500 | _
+    }
+
+    def "Growing by appending copies no records, because every mapping views the same file"() {
+        given:
+        MappedArrayList<Long> list = new MappedArrayList<>(path, ElementCodec.LONG)
+
+        when:
+        for (long i = 0; i < 100000; i++) {
+            list.insert(i)
+        }
+
+        then:
+        list.allocations() > 10
+        list.copies()      == 0
+        list.size()        == 100000
+        list.get(0)        == 0L
+        list.get(99999)    == 99999L
+
+        cleanup:
+        list.close()
+    }
+
+    @Unroll
+    def "Analytics match ArrayList for the same operations"() {
+        given:
+        MappedArrayList<Long> mapped = new MappedArrayList<>(path, ElementCodec.LONG)
+        ArrayList<Long>       onHeap = new ArrayList<>()
+
+        when:
+        for (long i = 0; i < n; i++) {
+            mapped.insert(i, 0)
+            onHeap.insert(i, 0)
+        }
+
+        mapped.remove(0)
+        onHeap.remove(0)
+
+        then:
+        mapped.shifts()       == onHeap.shifts()
+        mapped.copies()       == onHeap.copies()
+        mapped.allocations()  == onHeap.allocations()
+        mapped.internalSize() == onHeap.internalSize()
+
+        cleanup:
+        mapped.close()
+
+        where:
+        n    | _
+        2    | _
+        100  | _
+        2500 | _
+    }
+
+    @Unroll
+    def "Opening a file with a different codec"() {
+        given:
+        new MappedArrayList<>(path, ElementCodec.LONG).close()
+
+        when:
+        new MappedArrayList<>(path, ElementCodec.INTEGER)
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    @Unroll
+    def "Opening a file that is not a list leaves it unchanged"() {
+        given:
+        Files.write(path, contents)
+
+        when:
+        new MappedArrayList<>(path, ElementCodec.INTEGER)
+
+        then:
+        IllegalArgumentException exception = thrown()
+        exception.message == "File does not contain a MappedArrayList"
+        Files.readAllBytes(path) == contents
+
+        where:
+        contents                                         | _
+        "id,name\n1,a\n".getBytes("UTF-8")               | _
+        "a header that is long enough".getBytes("UTF-8") | _
+    }
+
+    def "Opening a file of another width leaves it unchanged"() {
+        given:
+        new MappedArrayList<>(path, ElementCodec.LONG).close()
+        byte[] contents = Files.readAllBytes(path)
+
+        when:
+        new MappedArrayList<>(path, ElementCodec.INTEGER, 1000)
+
+        then:
+        thrown IllegalArgumentException
+        Files.readAllBytes(path) == contents
+    }
+
+    def "Equal lists have equal hash codes"() {
+        given:
+        Path                     other = Files.createTempFile("mapped", ".list")
+        MappedArrayList<Integer> a     = new MappedArrayList<>(path, ElementCodec.INTEGER)
+        MappedArrayList<Integer> b
+
+        Files.delete(other)
+        b = new MappedArrayList<>(other, ElementCodec.INTEGER)
+
+        when:
+        a.insert([1, 2, 3] as Integer[])
+        b.insert([1, 2, 3] as Integer[])
+
+        then:
+        a == b
+        a.hashCode() == b.hashCode()
+
+        cleanup:
+        a.close()
+        b.close()
+        Files.deleteIfExists(other)
+    }
+
+    @Unroll
+    def "Using a closed list"() {
+        given:
+        MappedArrayList<Integer> list = new MappedArrayList<>(path, ElementCodec.INTEGER)
+
+        when:
+        list.close()
+        list.insert(1)
+
+        then:
+        thrown IllegalStateException
+    }
+}
@@ -0,0 +1,200 @@
+package structures.unit.vectors
+
+import spock.lang.Specification
+import spock.lang.Unroll
+import structures.commons.ByteBufferArray
+import structures.commons.DataStructure
+import structures.commons.ElementCodec
+import structures.commons.GrowthPolicy
+import structures.vectors.ArrayList
+import structures.vectors.OffHeapArrayList
+
+import java.nio.ByteBuffer
+
+class OffHeapArrayListSpec extends Specification {
+
+    /**
+     * Buffer array that records its state
+     * whenever an old buffer is released.
+     */
+    static final class RecordingArray extends ByteBufferArray<Integer> {
+        java.util.List<java.util.List<Object>> released = []
+
+        RecordingArray() {
+            super(ElementCodec.INTEGER, 0, 4, GrowthPolicy.DOUBLING, 0.85d, 0.25d)
+            buffer = (ByteBuffer) allocate(initialLength())
+        }
+
+        @Override
+        protected Object allocate(int length) {
+            return ByteBuffer.allocateDirect(lengthInBytes(length))
+        }
+
+        @Override
+        protected void array(Object array) {
+            buffer = (ByteBuffer) array
+        }
+
+        @Override
+        protected void discard(Object array) {
+            released << [array.is(buffer), size(), allocations(), internalSize()]
+            super.discard(array)
+        }
+    }
+
+    @Unroll
+    def "Insert, get, set and remove"() {
+        given:
+        OffHeapArrayList<Integer> list = new OffHeapArrayList<>(ElementCodec.INTEGER)
+        list.insert(input as Integer[])
+
+        when:
+        list.insert(-1, index)
+        list.set(-2, 0)
+        Integer removed = list.remove(list.size() - 1)
+
+        then:
+        list.toString() == string
+        removed         == last
+
+        cleanup:
+        list.close()
+
+        where:
+        input           | index || string              | last
+        [1, 2, 3, 4, 5] | 2     || "[-2, 2, -1, 3, 4]" | 5
+        [1, 2]          | 1     || "[-2, -1]"          | 2
+        [1]             | 0     || "[-2]"              | 1
+    }
+
+    @Unroll
+    def "Analytics match ArrayList for the same operations"() {
+        given:
+        OffHeapArrayList<Long> offHeap = new OffHeapArrayList<>(ElementCodec.LONG)
+        ArrayList<Long>        onHeap  = new ArrayList<>()
+
+        when:
+        for (long i = 0; i < n; i++) {
+            offHeap.insert(i, 0)
+            onHeap.insert(i, 0)
+        }
+
+        offHeap.remove(0)
+        onHeap.remove(0)
+
+        then:
+        offHeap.shifts()       == onHeap.shifts()
+        offHeap.copies()       == onHeap.copies()
+        offHeap.allocations()  == onHeap.allocations()
+        offHeap.internalSize() == onHeap.internalSize()
+        offHeap.toString()     == onHeap.toString()
+
+        cleanup:
+        offHeap.close()
+
+        where:
+        n    | _
+        2    | _
+        100  | _
+        2500 | _
+    }
+
+    @Unroll
+    def "Remove from an empty list"() {
+        given:
+        OffHeapArrayList<Double> list = new OffHeapArrayList<>(ElementCodec.DOUBLE)
+
+        when:
+        list.remove()
+
+        then:
+        thrown DataStructure.EmptyDataStructureException
+
+        cleanup:
+        list.close()
+    }
+
+    @Unroll
+    def "Using a closed list"() {
+        given:
+        OffHeapArrayList<Integer> list = new OffHeapArrayList<>(ElementCodec.INTEGER)
+
+        when:
+        list.close()
+        list.insert(1)
+
+        then:
+        thrown IllegalStateException
+    }
+
+    @Unroll
+    def "Storing null"() {
+        given:
+        OffHeapArrayList<Integer> list = new OffHeapArrayList<>(ElementCodec.INTEGER)
+
+        when:
+        list.insert((Integer) null)
+
+        then:
+        thrown IllegalArgumentException
+
+        cleanup:
+        list.close()
+    }
+
+    def "Equal lists have equal hash codes"() {
+        given:
+        OffHeapArrayList<Integer> a = new OffHeapArrayList<>(ElementCodec.INTEGER)
+        OffHeapArrayList<Integer> b = new OffHeapArrayList<>(ElementCodec.INTEGER)
+
+        when:
+        a.insert([1, 2, 3] as Integer[])
+        b.insert([1, 2, 3] as Integer[])
+
+        then:
+        a == b
+        a.hashCode() == b.hashCode()
+
+        cleanup:
+        a.close()
+        b.close()
+    }
+
+    def "Freeing a slice leaves the memory to the buffer it came from"() {
+        given:
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64)
+
+        when:
+        ByteBufferArray.free(buffer.slice())
+        buffer.putInt(0, 42)
+
+        then:
+        buffer.getInt(0) == 42
+
+        when:
+        ByteBufferArray.free(buffer)
+
+        then:
+        notThrown(Exception)
+    }
+
+    def "An old buffer is released only once the list is in order again"() {
+        given:
+        RecordingArray array = new RecordingArray()
+
+        when:
+        (0..<20).each { array.append(it) }
+
+        then:
+        array.released      == [[false, 9, 1, 18], [false, 16, 2, 32]]
+        array.allocations() == 2
+
+        when:
+        (0..<18).each { array.delete(array.size() - 1) }
+
+        then:
+        array.released.drop(2)  == [[false, 7, 3, 16], [false, 3, 4, 10]]
+        array.releaseFailures() == 0
+        (0..<2).every { array.access(it) == it }
+    }
+}
@@ -0,0 +1,127 @@
+package structures.unit.vectors
+
+import spock.lang.Specification
+import spock.lang.Unroll
+import structures.commons.DataStructure
+import structures.vectors.DoubleArrayList
+import structures.vectors.IntArrayList
+import structures.vectors.LongArrayList
+
+class PrimitiveListSpec extends Specification {
+
+    @Unroll
+    def "Construct empty #type.simpleName with default constructor"() {
+        when:
+        def list = type.newInstance()
+
+        then:
+        list.empty()
+        list.size()     == 0
+        list.toString() == "[]"
+
+        where:
+        type << [IntArrayList, LongArrayList, DoubleArrayList]
+    }
+
+    @Unroll
+    def "Insert, get, set and remove on IntArrayList"() {
+        given:
+        IntArrayList list = new IntArrayList(input as int[])
+
+        when:
+        list.insert(-1, index)
+        list.set(-2, 0)
+        int removed = list.remove(list.size() - 1)
+
+        then:
+        list.toString() == string
+        removed         == last
+
+        where:
+        input           | index || string              | last
+        [1, 2, 3, 4, 5] | 2     || "[-2, 2, -1, 3, 4]" | 5
+        [1, 2]          | 1     || "[-2, -1]"          | 2
+        [1]             | 0     || "[-2]"              | 1
+    }
+
+    @Unroll
+    def "Equal #type.simpleName lists have equal hash codes"() {
+        given:
+        def a = type.newInstance()
+        def b = type.newInstance()
+        def c = type.newInstance()
+
+        when:
+        (1..20).each {
+            a.insert(it.asType(primitive))
+            b.insert(it.asType(primitive))
+            c.insertFirst(it.asType(primitive))
+        }
+
+        then:
+        a == b
+        a.hashCode() == b.hashCode()
+        a != c
+        a.hashCode() != c.hashCode()
+
+        where:
+        type            | primitive
+        IntArrayList    | int
+        LongArrayList   | long
+        DoubleArrayList | double
+    }
+
+    @Unroll
+    def "Iterate over #type.simpleName without boxing"() {
+        given:
+        def list = type.newInstance()
+        def sum  = 0
+
+        when:
+        (1..100).each { list.insert(it.asType(primitive)) }
+        list.forEach { sum += it }
+
+        then:
+        list.size()         == 100
+        sum                 == 5050
+        list.toArray().size() == 100
+
+        where:
+        type            | primitive
+        IntArrayList    | int
+        LongArrayList   | long
+        DoubleArrayList | double
+    }
+
+    @Unroll
+    def "Growing past the initial size keeps every value"() {
+        given:
+        IntArrayList list = new IntArrayList()
+
+        when:
+        for (int i = 0; i < n; i++) {
+            list.insertFirst(i)
+        }
+
+        then:
+        list.size()             == n
+        list.get(0)             == n - 1
+        list.get(n - 1)         == 0
+        list.internalSize()     >  n
+        list.allocations()      >  0
+
+        where:
+        n    | _
+        11   | _
+        1000 | _
+    }
+
+    @Unroll
+    def "Remove from an empty IntArrayList"() {
+        when:
+        new IntArrayList().removeLast()
+
+        then:
+        thrown DataStructure.EmptyDataStructureException
+    }
+}
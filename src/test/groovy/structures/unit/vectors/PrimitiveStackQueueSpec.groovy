@@ -0,0 +1,93 @@
+package structures.unit.vectors
+
+import spock.lang.Specification
+import spock.lang.Unroll
+import structures.commons.DataStructure
+import structures.vectors.IntArrayQueue
+import structures.vectors.IntArrayStack
+import structures.vectors.LongArrayQueue
+import structures.vectors.LongArrayStack
+
+class PrimitiveStackQueueSpec extends Specification {
+
+    @Unroll
+    def "Push and pop on #type.simpleName"() {
+        given:
+        def stack = type.newInstance()
+
+        when:
+        input.each { stack.push(it) }
+
+        then:
+        stack.toString() == input.reverse().toString()
+        stack.top()      == input.last()
+        stack.pop()      == input.last()
+        stack.size()     == input.size() - 1
+
+        where:
+        type           | input
+        IntArrayStack  | [1, 2, 3, 4, 5]
+        IntArrayStack  | (1..50).toList()
+        LongArrayStack | [1, 2]
+    }
+
+    @Unroll
+    def "Enqueue and dequeue on #type.simpleName so the queue wraps around"() {
+        given:
+        def queue = type.newInstance()
+
+        when:
+        for (int i = 0; i < rounds; i++) {
+            queue.enqueue(2 * i)
+            queue.enqueue(2 * i + 1)
+            queue.dequeue()
+        }
+
+        then:
+        queue.size()     == rounds
+        queue.peek()     == rounds
+        queue.toString() == (rounds..<(2 * rounds)).toList().toString()
+        queue.shifts()   == 0
+
+        where:
+        type           | rounds
+        IntArrayQueue  | 1
+        IntArrayQueue  | 25
+        LongArrayQueue | 7
+    }
+
+    @Unroll
+    def "Steady state enqueue and dequeue does not re-allocate"() {
+        given:
+        IntArrayQueue queue = new IntArrayQueue()
+        int allocations
+
+        when:
+        (1..8).each { queue.enqueue(it) }
+        allocations = queue.allocations()
+
+        (1..10000).each {
+            queue.enqueue(it)
+            queue.dequeue()
+        }
+
+        then:
+        queue.allocations() == allocations
+        queue.size()        == 8
+    }
+
+    @Unroll
+    def "Remove from empty #type.simpleName"() {
+        when:
+        def structure = type.newInstance()
+        structure."$method"()
+
+        then:
+        thrown DataStructure.EmptyDataStructureException
+
+        where:
+        type          | method
+        IntArrayStack | "pop"
+        IntArrayQueue | "dequeue"
+    }
+}
@@ -4,8 +4,15 @@ import spock.lang.Shared
 import spock.lang.Unroll
 import structures.commons.DataStructure
 import structures.vectors.Queue
+import structures.vectors.ArrayBlockingQueue
 import structures.vectors.ArrayQueue
+import structures.vectors.ArrayDeque
+import structures.vectors.ConcurrentLinkedQueue
+import structures.vectors.LinkedBlockingQueue
 import structures.vectors.LinkedQueue
+import structures.vectors.MpscArrayQueue
+import structures.vectors.SpscArrayQueue
+import structures.vectors.UnrolledLinkedQueue
 import util.Spec
 
 abstract class QueueSpec<T> extends Spec {
@@ -185,6 +192,30 @@ abstract class QueueSpec<T> extends Spec {
         []           | _
     }
 
+    @Unroll
+    def "Interleave enqueue() and dequeue() so the queue wraps around"() {
+        given:
+        queue = (Queue<Integer>) constructor()
+
+        when:
+        for (int i = 0; i < rounds; i++) {
+            queue.enqueue(2 * i)
+            queue.enqueue(2 * i + 1)
+            queue.dequeue()
+        }
+
+        then:
+        queue.size()     == rounds
+        queue.peek()     == rounds
+        queue.toString() == (rounds..<(2 * rounds)).toList().toString()
+
+        where:
+        rounds | _
+        1      | _
+        7      | _
+        25     | _
+    }
+
     @Unroll
     def "Convert queue to string via toString() method"() {
         given:
@@ -219,3 +250,51 @@ class QueueSpec_LinkedQueue<T> extends QueueSpec {
     }
 }
 
+class QueueSpec_ArrayDeque<T> extends QueueSpec {
+
+    def setup() {
+        myClass = ArrayDeque
+    }
+}
+
+class QueueSpec_UnrolledLinkedQueue<T> extends QueueSpec {
+
+    def setup() {
+        myClass = UnrolledLinkedQueue
+    }
+}
+
+class QueueSpec_ConcurrentLinkedQueue<T> extends QueueSpec {
+
+    def setup() {
+        myClass = ConcurrentLinkedQueue
+    }
+}
+
+class QueueSpec_SpscArrayQueue<T> extends QueueSpec {
+
+    def setup() {
+        myClass = SpscArrayQueue
+    }
+}
+
+class QueueSpec_MpscArrayQueue<T> extends QueueSpec {
+
+    def setup() {
+        myClass = MpscArrayQueue
+    }
+}
+
+class QueueSpec_ArrayBlockingQueue<T> extends QueueSpec {
+
+    def setup() {
+        myClass = ArrayBlockingQueue
+    }
+}
+
+class QueueSpec_LinkedBlockingQueue<T> extends QueueSpec {
+
+    def setup() {
+        myClass = LinkedBlockingQueue
+    }
+}
@@ -0,0 +1,227 @@
+package structures.unit.vectors
+
+import spock.lang.Specification
+import spock.lang.Timeout
+import spock.lang.Unroll
+import structures.commons.RingBuffer
+import structures.vectors.MpscArrayQueue
+import structures.vectors.SpscArrayQueue
+
+import java.util.function.Consumer
+import java.util.function.Supplier
+
+class RingBufferQueueSpec extends Specification {
+
+    @Unroll
+    def "Capacity is rounded up to a power of two and bounds the queue"() {
+        given:
+        RingBuffer<Integer> queue = type.newInstance(5)
+
+        expect:
+        queue.capacity() == 8
+        (0..<8).every { queue.offer(it) }
+        !queue.offer(8)
+        queue.size()     == 8
+        queue.poll()     == 0
+        queue.offer(8)
+        queue.toString() == "[1, 2, 3, 4, 5, 6, 7, 8]"
+
+        where:
+        type << [SpscArrayQueue, MpscArrayQueue]
+    }
+
+    @Unroll
+    def "fill() and drainTo() move batches across the wrap of the ring"() {
+        given:
+        RingBuffer<Integer>     queue   = type.newInstance(8)
+        java.util.List<Integer> drained = []
+        int                     next    = 0
+
+        when:
+        queue.fill({ next++ } as Supplier<Integer>, 6)
+        queue.drainTo({ drained << it } as Consumer<Integer>, 4)
+        int filled = queue.fill({ next++ } as Supplier<Integer>, 100)
+
+        then:
+        filled           == 6
+        drained          == [0, 1, 2, 3]
+        queue.size()     == 8
+        queue.drainTo({ drained << it } as Consumer<Integer>, 100) == 8
+        drained          == (0..<12).toList()
+        queue.poll()     == null
+
+        where:
+        type << [SpscArrayQueue, MpscArrayQueue]
+    }
+
+    @Timeout(10)
+    @Unroll
+    def "A supplier that fails in fill() leaves the values taken so far on #type.simpleName"() {
+        given:
+        RingBuffer<Integer> queue = type.newInstance(8)
+        int                 calls = 0
+
+        when:
+        queue.fill({ calls++ == 0 ? 7 : failure() } as Supplier<Integer>, 4)
+
+        then:
+        thrown(exception)
+        queue.toString() == "[7]"
+        queue.peek()     == 7
+        queue.poll()     == 7
+        queue.poll()     == null
+        queue.size()     == 0
+        queue.offer(8)
+        queue.toString() == "[8]"
+
+        where:
+        type           | failure                                   | exception
+        SpscArrayQueue | { null }                                  | IllegalArgumentException
+        SpscArrayQueue | { throw new IllegalStateException("no") }  | IllegalStateException
+        MpscArrayQueue | { null }                                  | IllegalArgumentException
+        MpscArrayQueue | { throw new IllegalStateException("no") }  | IllegalStateException
+    }
+
+    def "drainTo() steps over the slots a failed fill() left without a value"() {
+        given:
+        MpscArrayQueue<Integer> queue   = new MpscArrayQueue<>(8)
+        java.util.List<Integer> drained = []
+        int                     next    = 0
+
+        when:
+        queue.fill({ next < 2 ? next++ : null } as Supplier<Integer>, 5)
+
+        then:
+        thrown IllegalArgumentException
+
+        when:
+        queue.offer(next++)
+        int filled = queue.fill({ next++ } as Supplier<Integer>, 100)
+
+        then:
+        filled       == 2
+        queue.drainTo({ drained << it } as Consumer<Integer>, 3)   == 3
+        drained      == [0, 1, 2]
+        queue.drainTo({ drained << it } as Consumer<Integer>, 100) == 2
+        drained      == [0, 1, 2, 3, 4]
+        queue.poll() == null
+    }
+
+    @Timeout(10)
+    def "fill() on an MpscArrayQueue does not wait when another producer takes room while it runs"() {
+        given:
+        MpscArrayQueue<Integer> queue   = new MpscArrayQueue<>(8)
+        boolean                 offered = true
+        int                     next    = 0
+
+        when:
+        int filled = queue.fill({
+            if (next == 0) {
+                Thread.start { offered = queue.offer(-1) }.join()
+            }
+
+            next++
+        } as Supplier<Integer>, 8)
+
+        then:
+        filled           == 8
+        !offered
+        queue.size()     == 8
+        queue.toString() == (0..<8).toList().toString()
+    }
+
+    @Unroll
+    def "Null values are rejected"() {
+        when:
+        RingBuffer<Integer> queue = type.newInstance()
+        queue.offer(null)
+
+        then:
+        thrown IllegalArgumentException
+
+        where:
+        type << [SpscArrayQueue, MpscArrayQueue]
+    }
+
+    @Timeout(60)
+    def "Single producer hands every value over in order"() {
+        given:
+        SpscArrayQueue<Integer> queue    = new SpscArrayQueue<>(64)
+        int                     n        = 200000
+        java.util.List<Integer> received = []
+
+        Thread producer = Thread.start {
+            int next = 0
+
+            while (next < n) {
+                int batch = Math.min(16, n - next)
+
+                if (queue.fill({ next++ } as Supplier<Integer>, batch) == 0) {
+                    Thread.yield()
+                }
+            }
+        }
+
+        when:
+        while (received.size() < n) {
+            if (queue.drainTo({ received << it } as Consumer<Integer>, 32) == 0) {
+                Thread.yield()
+            }
+        }
+
+        producer.join()
+
+        then:
+        received == (0..<n).toList()
+        queue.empty()
+    }
+
+    @Timeout(60)
+    def "Many producers hand every value over once and in order per producer"() {
+        given:
+        MpscArrayQueue<Integer> queue     = new MpscArrayQueue<>(64)
+        int                     producers = 4
+        int                     n         = 50000
+        int[]                   last      = new int[producers]
+        int                     received  = 0
+        boolean                 ordered   = true
+
+        Arrays.fill(last, -1)
+
+        java.util.List<Thread> threads = (0..<producers).collect { int p ->
+            Thread.start {
+                int i = 0
+
+                while (i < n) {
+                    if (queue.offer(p * n + i)) {
+                        i++
+                    } else {
+                        Thread.yield()
+                    }
+                }
+            }
+        }
+
+        when:
+        while (received < producers * n) {
+            int drained = queue.drainTo({ Integer value ->
+                int p = value.intdiv(n)
+                ordered = ordered && value % n == last[p] + 1
+                last[p] = value % n
+            } as Consumer<Integer>, 100)
+
+            received += drained
+
+            if (drained == 0) {
+                Thread.yield()
+            }
+        }
+
+        threads*.join()
+
+        then:
+        ordered
+        last.every { it == n - 1 }
+        queue.empty()
+    }
+}
@@ -6,6 +6,8 @@ import structures.commons.DataStructure
 import structures.vectors.Stack
 import structures.vectors.ArrayStack
 import structures.vectors.LinkedStack
+import structures.vectors.UnrolledLinkedStack
+import structures.vectors.WorkStealingDeque
 import util.Spec
 
 abstract class StackSpec<T> extends Spec {
@@ -196,3 +198,19 @@ class StackSpec_LinkedStack<T> extends StackSpec {
     }
 }
 
+
+class StackSpec_UnrolledLinkedStack<T> extends StackSpec {
+
+    def setup() {
+        myClass = UnrolledLinkedStack
+        stack = new UnrolledLinkedStack<>()
+    }
+}
+
+class StackSpec_WorkStealingDeque<T> extends StackSpec {
+
+    def setup() {
+        myClass = WorkStealingDeque
+        stack = new WorkStealingDeque<>()
+    }
+}
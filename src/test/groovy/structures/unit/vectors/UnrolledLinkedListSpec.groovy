@@ -0,0 +1,72 @@
+package structures.unit.vectors
+
+import spock.lang.Specification
+import spock.lang.Unroll
+import structures.vectors.UnrolledLinkedList
+import structures.vectors.UnrolledLinkedQueue
+
+class UnrolledLinkedListSpec extends Specification {
+
+    @Unroll
+    def "Edits across many blocks match java.util.ArrayList"() {
+        given:
+        UnrolledLinkedList<Integer>  list      = new UnrolledLinkedList<>(blockLength)
+        java.util.ArrayList<Integer> reference = new java.util.ArrayList<Integer>()
+        Random                       random    = new Random(n)
+
+        when:
+        for (int i = 0; i < n; i++) {
+            int index = random.nextInt(reference.size() + 1)
+
+            if (index == reference.size()) {
+                list.insert(i)
+                reference.add(i)
+            } else {
+                list.insert(i, index)
+                reference.add(index, i)
+            }
+
+            // Remove every third value again
+            if (i % 3 == 0) {
+                index = random.nextInt(reference.size())
+                assert list.remove(index) == reference.remove(index)
+            }
+        }
+
+        then:
+        list.size()     == reference.size()
+        list.toString() == reference.toString()
+        (0..<list.size()).every { list.get(it) == reference.get(it) }
+
+        where:
+        blockLength | n
+        4           | 2000
+        7           | 2000
+        64          | 5000
+    }
+
+    def "Queue blocks are released as they are drained"() {
+        given:
+        UnrolledLinkedQueue<Integer> queue = new UnrolledLinkedQueue<>(8)
+
+        when:
+        (0..<100).each { queue.enqueue(it) }
+
+        then:
+        queue.blocks() == 13
+
+        when:
+        (0..<96).each { assert queue.dequeue() == it }
+
+        then:
+        queue.blocks()   == 1
+        queue.peek()     == 96
+        queue.toString() == "[96, 97, 98, 99]"
+    }
+
+    def "Block length is at least 4"() {
+        expect:
+        new UnrolledLinkedList<Integer>(1).blockLength() == 4
+        new UnrolledLinkedList<Integer>().blockLength()  == 64
+    }
+}
@@ -33,6 +33,29 @@ abstract class VectorSpec extends Spec {
         []              | _
     }
 
+    @Unroll
+    def "stream() and parallelStream() visit values in iteration order"() {
+        given:
+        java.util.List<Integer> iterated = []
+
+        when:
+        vector = (Vector<Integer>) constructor(input)
+        vector.each { iterated.add(it) }
+
+        then:
+        vector.stream().collect(java.util.stream.Collectors.toList())         == iterated
+        vector.parallelStream().collect(java.util.stream.Collectors.toList()) == iterated
+        vector.spliterator().estimateSize()                                  == input.size()
+        vector.spliterator().hasCharacteristics(java.util.Spliterator.SIZED)
+
+        where:
+        input                      | _
+        (1..5000).toList()         | _
+        [1, 2, 3, 4, 5]            | _
+        [1]                        | _
+        []                         | _
+    }
+
     @Unroll
     def "contains()"() {
         when:
@@ -179,6 +202,27 @@ final class VectorSpec_ArrayQueue extends VectorSpec {
     }
 }
 
+final class VectorSpec_ArrayDeque extends VectorSpec {
+
+    def setup() {
+        myClass = ArrayDeque
+    }
+}
+
+final class VectorSpec_ChunkedList extends VectorSpec {
+
+    def setup() {
+        myClass = ChunkedList
+    }
+}
+
+final class VectorSpec_GapBufferList extends VectorSpec {
+
+    def setup() {
+        myClass = GapBufferList
+    }
+}
+
 final class VectorSpec_LinkedList extends VectorSpec {
 
     def setup() {
@@ -198,4 +242,24 @@ final class VectorSpec_LinkedStack extends VectorSpec {
     def setup() {
         myClass = LinkedStack
     }
-}
\ No newline at end of file
+}
+final class VectorSpec_UnrolledLinkedList extends VectorSpec {
+
+    def setup() {
+        myClass = UnrolledLinkedList
+    }
+}
+
+final class VectorSpec_UnrolledLinkedQueue extends VectorSpec {
+
+    def setup() {
+        myClass = UnrolledLinkedQueue
+    }
+}
+
+final class VectorSpec_UnrolledLinkedStack extends VectorSpec {
+
+    def setup() {
+        myClass = UnrolledLinkedStack
+    }
+}
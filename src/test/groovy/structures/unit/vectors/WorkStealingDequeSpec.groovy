@@ -0,0 +1,114 @@
+package structures.unit.vectors
+
+import spock.lang.Specification
+import spock.lang.Timeout
+import structures.vectors.WorkStealingDeque
+
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicIntegerArray
+
+class WorkStealingDequeSpec extends Specification {
+
+    def "The owner pops the newest value and thieves steal the oldest"() {
+        given:
+        WorkStealingDeque<Integer> deque = new WorkStealingDeque<>(2)
+
+        when:
+        (0..<10).each { deque.push(it) }
+
+        then:
+        deque.pop()      == 9
+        deque.steal()    == 0
+        deque.steal()    == 1
+        deque.top()      == 8
+        deque.size()     == 7
+        deque.toString() == "[8, 7, 6, 5, 4, 3, 2]"
+    }
+
+    def "poll() and steal() return null when the deque is empty"() {
+        given:
+        WorkStealingDeque<Integer> deque = new WorkStealingDeque<>()
+
+        expect:
+        deque.poll()  == null
+        deque.steal() == null
+        deque.push(1)
+        deque.steal() == 1
+        deque.poll()  == null
+        deque.empty()
+    }
+
+    def "Null values are rejected"() {
+        when:
+        new WorkStealingDeque<Integer>().push(null)
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "Equal deques have equal hash codes"() {
+        given:
+        WorkStealingDeque<Integer> a = new WorkStealingDeque<>(2)
+        WorkStealingDeque<Integer> b = new WorkStealingDeque<>()
+
+        when:
+        (0..<10).each { a.push(it) }
+        (-5..<10).each { b.push(it) }
+        5.times { b.steal() }
+
+        then:
+        a == b
+        a.hashCode() == b.hashCode()
+    }
+
+    @Timeout(60)
+    def "Every value is taken exactly once by the owner or a thief"() {
+        given:
+        WorkStealingDeque<Integer> deque   = new WorkStealingDeque<>(4)
+        int                        n       = 100000
+        AtomicIntegerArray         taken   = new AtomicIntegerArray(n)
+        AtomicBoolean              done    = new AtomicBoolean()
+        Random                     random  = new Random(1)
+
+        java.util.List<Thread> thieves = (0..<3).collect {
+            Thread.start {
+                while (!done.get() || !deque.empty()) {
+                    Integer value = deque.steal()
+
+                    if (value == null) {
+                        Thread.yield()
+                    } else {
+                        taken.incrementAndGet(value)
+                    }
+                }
+            }
+        }
+
+        when:
+        int pushed = 0
+
+        while (pushed < n) {
+            int burst = Math.min(random.nextInt(50), n - pushed)
+
+            burst.times { deque.push(pushed++) }
+
+            random.nextInt(40).times {
+                Integer value = deque.poll()
+
+                if (value != null) {
+                    taken.incrementAndGet(value)
+                }
+            }
+        }
+
+        for (Integer value = deque.poll(); value != null; value = deque.poll()) {
+            taken.incrementAndGet(value)
+        }
+
+        done.set(true)
+        thieves*.join()
+
+        then:
+        (0..<n).every { taken.get(it) == 1 }
+    }
+}